@@ -0,0 +1,209 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts per second for the two main bulk write paths (GPS points via LocationTrackingService and
+ * patient addresses via PatientServiceImpl) as Hibernate issues them: row by row, JDBC batched, and
+ * batched with the driver's multi-row rewrite. Each invocation writes {@value #ROWS} rows in one transaction.
+ * <p>
+ * Needs PostgreSQL: DATABASE_URL (jdbc:postgresql://...), DATABASE_USERNAME and DATABASE_PASSWORD,
+ * the same variables the application uses. Works on scratch copies of the tables that are dropped afterwards.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    /**
+     * 1 = no batching (previous default), otherwise hibernate.jdbc.batch_size
+     */
+    @Param({"1", "50", "500"})
+    public int batchSize;
+
+    @Param({"false", "true"})
+    public boolean reWriteBatchedInserts;
+
+    @Param({"v4", "v7"})
+    public String ids;
+
+    private Connection connection;
+    private UUID[] serviceDeliveries;
+    private UUID[] patients;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getenv("DATABASE_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("DATABASE_URL is not set");
+        }
+        Properties props = new Properties();
+        props.setProperty("user", System.getenv().getOrDefault("DATABASE_USERNAME", ""));
+        props.setProperty("password", System.getenv().getOrDefault("DATABASE_PASSWORD", ""));
+        props.setProperty("reWriteBatchedInserts", String.valueOf(reWriteBatchedInserts));
+        connection = DriverManager.getConnection(url, props);
+        connection.setAutoCommit(false);
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_location_tracking");
+            st.execute("DROP TABLE IF EXISTS bench_patient_address");
+            st.execute("""
+                CREATE TABLE bench_location_tracking (
+                    id UUID PRIMARY KEY,
+                    service_delivery_id UUID NOT NULL,
+                    latitude NUMERIC(10, 8) NOT NULL,
+                    longitude NUMERIC(11, 8) NOT NULL,
+                    accuracy NUMERIC(10, 2),
+                    altitude NUMERIC(10, 2),
+                    recorded_at TIMESTAMPTZ NOT NULL,
+                    created_at TIMESTAMPTZ NOT NULL
+                )
+                """);
+            st.execute("CREATE INDEX ON bench_location_tracking (service_delivery_id)");
+            st.execute("CREATE INDEX ON bench_location_tracking (recorded_at)");
+            st.execute("CREATE INDEX ON bench_location_tracking (service_delivery_id, recorded_at)");
+            st.execute("""
+                CREATE TABLE bench_patient_address (
+                    id UUID PRIMARY KEY,
+                    patient_id UUID NOT NULL,
+                    address_id UUID,
+                    phone VARCHAR(255),
+                    email VARCHAR(255),
+                    is_main BOOLEAN NOT NULL,
+                    latitude DOUBLE PRECISION,
+                    longitude DOUBLE PRECISION,
+                    location_notes VARCHAR(255),
+                    created_at TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP NOT NULL
+                )
+                """);
+            st.execute("CREATE INDEX ON bench_patient_address (patient_id)");
+        }
+        connection.commit();
+
+        serviceDeliveries = new UUID[200];
+        patients = new UUID[2000];
+        for (int i = 0; i < serviceDeliveries.length; i++) serviceDeliveries[i] = UUID.randomUUID();
+        for (int i = 0; i < patients.length; i++) patients[i] = UUID.randomUUID();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_location_tracking");
+            st.execute("DROP TABLE IF EXISTS bench_patient_address");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void locationTracking() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID serviceDelivery = serviceDeliveries[random.nextInt(serviceDeliveries.length)];
+        OffsetDateTime now = OffsetDateTime.now();
+        try (PreparedStatement ps = connection.prepareStatement("""
+            INSERT INTO bench_location_tracking
+                (id, service_delivery_id, latitude, longitude, accuracy, altitude, recorded_at, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """)) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setObject(1, nextId());
+                ps.setObject(2, serviceDelivery);
+                ps.setBigDecimal(3, BigDecimal.valueOf(40 + random.nextDouble()).setScale(8, RoundingMode.HALF_UP));
+                ps.setBigDecimal(4, BigDecimal.valueOf(-74 - random.nextDouble()).setScale(8, RoundingMode.HALF_UP));
+                ps.setBigDecimal(5, BigDecimal.valueOf(random.nextInt(5000), 2));
+                ps.setBigDecimal(6, null);
+                ps.setObject(7, now.plusSeconds(i));
+                ps.setObject(8, now);
+                add(ps, i);
+            }
+            flush(ps);
+        }
+        connection.commit();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void patientAddress() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement ps = connection.prepareStatement("""
+            INSERT INTO bench_patient_address
+                (id, patient_id, address_id, phone, email, is_main, latitude, longitude, location_notes, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """)) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setObject(1, nextId());
+                ps.setObject(2, patients[random.nextInt(patients.length)]);
+                ps.setObject(3, UUID.randomUUID());
+                ps.setString(4, "555-0100");
+                ps.setString(5, null);
+                ps.setBoolean(6, i % 3 == 0);
+                ps.setDouble(7, 40 + random.nextDouble());
+                ps.setDouble(8, -74 - random.nextDouble());
+                ps.setString(9, null);
+                ps.setTimestamp(10, now);
+                ps.setTimestamp(11, now);
+                add(ps, i);
+            }
+            flush(ps);
+        }
+        connection.commit();
+    }
+
+    private UUID nextId() {
+        return "v7".equals(ids) ? UuidV7.generate() : UUID.randomUUID();
+    }
+
+    private void add(PreparedStatement ps, int i) throws SQLException {
+        if (batchSize <= 1) {
+            ps.executeUpdate();
+            return;
+        }
+        ps.addBatch();
+        if ((i + 1) % batchSize == 0) {
+            ps.executeBatch();
+        }
+    }
+
+    private void flush(PreparedStatement ps) throws SQLException {
+        if (batchSize > 1) {
+            ps.executeBatch();
+        }
+    }
+}
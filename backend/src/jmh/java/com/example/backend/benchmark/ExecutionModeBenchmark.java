@@ -0,0 +1,116 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.config.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second for a mix of DB-bound requests and file uploads, comparing Tomcat's default
+ * 200 platform threads with virtual threads, with and without the ConnectionLimitingDataSource in front of the pool.
+ * <p>
+ * The pool is a real Hikari pool of {@value #POOL_SIZE} over stub connections; a query holds its connection for
+ * {@value #QUERY_MILLIS} ms and an upload blocks {@value #UPLOAD_MILLIS} ms on the (simulated) Cloudinary call before
+ * a short insert. This measures the threading model, not PostgreSQL or Cloudinary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int REQUESTS = 2000;
+    private static final int POOL_SIZE = 20;
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int QUERY_MILLIS = 5;
+    private static final int INSERT_MILLIS = 2;
+    private static final int UPLOAD_MILLIS = 200;
+
+    @Param({"platform", "virtual", "virtual-limited"})
+    public String mode;
+
+    @Param({"10", "50"})
+    public int uploadPercent;
+
+    private HikariDataSource pool;
+    private DataSource dataSource;
+    private ExecutorService executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setDataSource(Stubs.of(DataSource.class, Map.of(
+            "getConnection", args -> Stubs.of(Connection.class, Map.of("isValid", a -> true)))));
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(30_000);
+        pool = new HikariDataSource(config);
+
+        dataSource = "virtual-limited".equals(mode)
+            ? new ConnectionLimitingDataSource(pool, POOL_SIZE, Duration.ofMillis(config.getConnectionTimeout()))
+            : pool;
+        executor = "platform".equals(mode)
+            ? Executors.newFixedThreadPool(TOMCAT_MAX_THREADS)
+            : Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        pool.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public int mixedLoad() throws Exception {
+        Future<?>[] requests = new Future<?>[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            boolean upload = ThreadLocalRandom.current().nextInt(100) < uploadPercent;
+            requests[i] = executor.submit(() -> {
+                if (upload) {
+                    Thread.sleep(UPLOAD_MILLIS);
+                    query(INSERT_MILLIS);
+                } else {
+                    query(QUERY_MILLIS);
+                }
+                return null;
+            });
+        }
+        for (Future<?> request : requests) {
+            request.get();
+        }
+        return requests.length;
+    }
+
+    private void query(int millis) throws SQLException, InterruptedException {
+        try (Connection connection = dataSource.getConnection()) {
+            Thread.sleep(millis);
+        }
+    }
+}
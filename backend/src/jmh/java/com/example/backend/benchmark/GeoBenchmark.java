@@ -0,0 +1,90 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.model.entity.LocationTracking;
+import com.example.backend.service.LocationTrackingService;
+import com.example.backend.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Distance math used by check-in validation (GeoUtils) and journey summaries
+ * (LocationTrackingService.calculateTotalDistance over a visit's GPS trail).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    /**
+     * GPS points in one visit; the mobile app reports about one per minute
+     */
+    @Param({"60", "600"})
+    public int trailPoints;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private int cursor;
+
+    private LocationTrackingService locationTrackingService;
+    private List<LocationTracking> trail;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        latitudes = new double[PAIRS + 1];
+        longitudes = new double[PAIRS + 1];
+        for (int i = 0; i <= PAIRS; i++) {
+            latitudes[i] = 40.0 + random.nextDouble();
+            longitudes[i] = -75.0 + random.nextDouble();
+        }
+
+        locationTrackingService = Stubs.construct(LocationTrackingService.class);
+        trail = new ArrayList<>(trailPoints);
+        double lat = 40.7128;
+        double lng = -74.0060;
+        OffsetDateTime at = OffsetDateTime.now();
+        for (int i = 0; i < trailPoints; i++) {
+            lat += (random.nextDouble() - 0.5) * 0.002;
+            lng += (random.nextDouble() - 0.5) * 0.002;
+            trail.add(LocationTracking.builder()
+                .latitude(BigDecimal.valueOf(lat).setScale(8, RoundingMode.HALF_UP))
+                .longitude(BigDecimal.valueOf(lng).setScale(8, RoundingMode.HALF_UP))
+                .recordedAt(at.plusMinutes(i))
+                .build());
+        }
+    }
+
+    @Benchmark
+    public double calculateDistance() {
+        int i = cursor = (cursor + 1) & (PAIRS - 1);
+        return GeoUtils.calculateDistance(latitudes[i], longitudes[i], latitudes[i + 1], longitudes[i + 1]);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalDistance() {
+        return locationTrackingService.calculateTotalDistance(trail);
+    }
+}
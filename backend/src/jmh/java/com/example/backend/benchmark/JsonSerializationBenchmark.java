@@ -0,0 +1,108 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.model.ApiResponse;
+import com.example.backend.model.dto.schedule.ScheduleEventDTO;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response serialization of the paginated schedule listing: ApiResponse around a page of
+ * ScheduleEventDTOs, written the way the app does (spring.jackson settings from application.yml,
+ * pages as PagedModel per the VIA_DTO page serialization mode).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "1000"})
+    public int events;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PagedModel<ScheduleEventDTO>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        UUID patientId = UUID.randomUUID();
+        UUID staffId = UUID.randomUUID();
+        UUID supervisorId = UUID.randomUUID();
+        LocalDate start = LocalDate.now();
+        List<ScheduleEventDTO> content = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            ScheduleEventDTO dto = new ScheduleEventDTO();
+            dto.setId(UUID.randomUUID());
+            dto.setPatientId(patientId);
+            dto.setPatientName("Jane Doe");
+            dto.setPatientClientId("C-10042");
+            dto.setEventDate(start.plusDays(i / 3));
+            OffsetDateTime startAt = dto.getEventDate().atTime(8 + (i % 3) * 4, 0).atOffset(ZoneOffset.UTC);
+            dto.setStartAt(startAt);
+            dto.setEndAt(startAt.plusHours(3));
+            dto.setStatus("PLANNED");
+            dto.setPlannedUnits(12);
+            dto.setProgramIdentifier("ODP");
+            dto.setEmployeeId(staffId);
+            dto.setEmployeeName("Dana Support");
+            dto.setClientSupervisorId(supervisorId);
+            dto.setClientSupervisorName("Sam Super");
+            dto.setEmployeeSupervisorId(supervisorId);
+            dto.setEmployeeSupervisorName("Sam Super");
+            dto.setSupervisorId(supervisorId);
+            dto.setSupervisorName("Sam Super");
+            dto.setAuthorizationId(UUID.randomUUID());
+            dto.setServiceCode("W1726");
+            dto.setEventCode("REG");
+            if (i % 2 == 0) {
+                dto.setServiceDeliveryId(UUID.randomUUID());
+                dto.setServiceDeliveryStatus("COMPLETED");
+                dto.setCheckInTime(startAt.plusMinutes(2));
+                dto.setCheckOutTime(startAt.plusHours(3));
+                dto.setDailyNoteId(UUID.randomUUID());
+            }
+            content.add(dto);
+        }
+        response = ApiResponse.success(
+            new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, events), events * 4L)),
+            "Schedule events retrieved successfully");
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.config.properties.JwtProperties;
+import com.example.backend.service.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token checks done on every authenticated request. authenticateRequest mirrors what
+ * JwtAuthenticationFilter does per request (extract the email, then validate against the user).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String EMAIL = "dsp.user@example.com";
+
+    private JwtService jwtService;
+    private String token;
+    private UserDetails userDetails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        jwtService = new JwtService(properties);
+
+        // Same claims as AuthServiceImpl issues at login
+        Instant now = Instant.now();
+        token = Jwts.builder()
+            .subject(UUID.randomUUID().toString())
+            .claim("email", EMAIL)
+            .claim("displayName", "Dsp User")
+            .claim("roles", List.of("DSP"))
+            .claim("staffId", UUID.randomUUID().toString())
+            .claim("officeId", UUID.randomUUID().toString())
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plusSeconds(properties.getExpiration())))
+            .signWith(Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8)))
+            .compact();
+        userDetails = User.withUsername(EMAIL).password("x").roles("DSP").build();
+    }
+
+    @Benchmark
+    public Jws<Claims> validateToken() {
+        return jwtService.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean authenticateRequest() {
+        String email = jwtService.extractUserEmail(token);
+        return email != null && jwtService.isTokenValid(token, userDetails);
+    }
+}
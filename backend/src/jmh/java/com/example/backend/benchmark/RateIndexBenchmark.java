@@ -0,0 +1,200 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.model.dto.billing.BillingRateProjection;
+import com.example.backend.model.dto.billing.StaffPayRateProjection;
+import com.example.backend.service.RateIndex;
+import lombok.Value;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate resolution cost per visit: compiled {@link RateIndex} versus scanning the loaded rate rows.
+ * Card sizes follow a mid-sized agency: yearly org-wide cards with a default per service type plus
+ * staff, patient and staff+patient overrides, and two staff pay rate periods per staff member.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateIndexBenchmark {
+
+    private static final LocalDate FIRST_CARD = LocalDate.of(2023, 1, 1);
+    private static final int LOOKUPS = 4096;
+
+    @Param({"3"})
+    public int cards;
+
+    @Param({"40"})
+    public int serviceTypes;
+
+    @Param({"1500"})
+    public int patientOverridesPerCard;
+
+    @Param({"800"})
+    public int staff;
+
+    private List<BillingRow> billingRows;
+    private List<StaffPayRow> staffPayRows;
+    private RateIndex index;
+
+    private UUID[] lookupServiceTypes;
+    private UUID[] lookupStaff;
+    private UUID[] lookupPatients;
+    private LocalDate[] lookupDates;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        UUID[] serviceTypeIds = ids(serviceTypes);
+        UUID[] staffIds = ids(staff);
+        UUID[] patientIds = ids(patientOverridesPerCard * 2);
+
+        billingRows = new ArrayList<>();
+        for (int c = 0; c < cards; c++) {
+            LocalDate effectiveAt = FIRST_CARD.plusYears(c);
+            LocalDate expiresAt = effectiveAt.plusYears(1);
+            for (UUID serviceType : serviceTypeIds) {
+                billingRows.add(new BillingRow(serviceType, null, null, rate(random), "per_unit", effectiveAt, expiresAt));
+            }
+            for (int i = 0; i < staff / 3; i++) {
+                billingRows.add(new BillingRow(pick(serviceTypeIds, random), staffIds[i], null, rate(random), "per_unit", effectiveAt, expiresAt));
+            }
+            for (int i = 0; i < patientOverridesPerCard; i++) {
+                billingRows.add(new BillingRow(pick(serviceTypeIds, random), null, pick(patientIds, random), rate(random), "per_unit", effectiveAt, expiresAt));
+            }
+            for (int i = 0; i < patientOverridesPerCard / 10; i++) {
+                billingRows.add(new BillingRow(pick(serviceTypeIds, random), pick(staffIds, random), pick(patientIds, random), rate(random), "per_hour", effectiveAt, expiresAt));
+            }
+        }
+
+        staffPayRows = new ArrayList<>();
+        for (UUID staffId : staffIds) {
+            staffPayRows.add(new StaffPayRow(staffId, null, rate(random), "per_hour", FIRST_CARD, FIRST_CARD.plusYears(1)));
+            staffPayRows.add(new StaffPayRow(staffId, null, rate(random), "per_hour", FIRST_CARD.plusYears(1), null));
+        }
+
+        index = RateIndex.compile(1L, billingRows, staffPayRows);
+
+        lookupServiceTypes = new UUID[LOOKUPS];
+        lookupStaff = new UUID[LOOKUPS];
+        lookupPatients = new UUID[LOOKUPS];
+        lookupDates = new LocalDate[LOOKUPS];
+        int days = cards * 365;
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookupServiceTypes[i] = pick(serviceTypeIds, random);
+            lookupStaff[i] = pick(staffIds, random);
+            lookupPatients[i] = pick(patientIds, random);
+            lookupDates[i] = FIRST_CARD.plusDays(random.nextInt(days));
+        }
+    }
+
+    @Benchmark
+    public RateIndex.Rate indexBillingRate() {
+        int i = next();
+        return index.billingRate(lookupServiceTypes[i], lookupStaff[i], lookupPatients[i], lookupDates[i]);
+    }
+
+    @Benchmark
+    public RateIndex.Rate indexStaffPayRate() {
+        int i = next();
+        return index.staffPayRate(lookupStaff[i], lookupServiceTypes[i], lookupDates[i]);
+    }
+
+    @Benchmark
+    public BillingRow linearScanBillingRate() {
+        int i = next();
+        return scan(lookupServiceTypes[i], lookupStaff[i], lookupPatients[i], lookupDates[i]);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public RateIndex compileIndex() {
+        return RateIndex.compile(2L, billingRows, staffPayRows);
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (LOOKUPS - 1);
+        return cursor;
+    }
+
+    /**
+     * Same most-specific-first resolution done by filtering every row on each lookup
+     */
+    private BillingRow scan(UUID serviceTypeId, UUID staffId, UUID patientId, LocalDate date) {
+        UUID[][] levels = {{staffId, patientId}, {null, patientId}, {staffId, null}, {null, null}};
+        for (UUID[] level : levels) {
+            BillingRow best = null;
+            for (BillingRow row : billingRows) {
+                if (serviceTypeId.equals(row.getServiceTypeId())
+                    && Objects.equals(level[0], row.getStaffId())
+                    && Objects.equals(level[1], row.getPatientId())
+                    && !row.getEffectiveAt().isAfter(date)
+                    && (row.getExpiresAt() == null || row.getExpiresAt().isAfter(date))
+                    && (best == null || !row.getEffectiveAt().isBefore(best.getEffectiveAt()))) {
+                    best = row;
+                }
+            }
+            if (best != null) return best;
+        }
+        return null;
+    }
+
+    private static UUID[] ids(int count) {
+        UUID[] ids = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+        return ids;
+    }
+
+    private static <T> T pick(T[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static BigDecimal rate(Random random) {
+        return BigDecimal.valueOf(800 + random.nextInt(4000), 2);
+    }
+
+    @Value
+    public static class BillingRow implements BillingRateProjection {
+        UUID serviceTypeId;
+        UUID staffId;
+        UUID patientId;
+        BigDecimal rate;
+        String payBasis;
+        LocalDate effectiveAt;
+        LocalDate expiresAt;
+    }
+
+    @Value
+    public static class StaffPayRow implements StaffPayRateProjection {
+        UUID staffId;
+        UUID serviceTypeId;
+        BigDecimal hourlyRate;
+        String payBasis;
+        LocalDate effectiveAt;
+        LocalDate expiresAt;
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.model.dto.schedule.CreateScheduleEventDTO;
+import com.example.backend.model.dto.schedule.CreateSchedulePreviewRequestDTO;
+import com.example.backend.model.dto.schedule.RepeatConfigDTO;
+import com.example.backend.model.dto.schedule.ScheduleConflictDTO;
+import com.example.backend.model.dto.schedule.ScheduleEventDTO;
+import com.example.backend.model.entity.Authorization;
+import com.example.backend.model.entity.CheckEvent;
+import com.example.backend.model.entity.DailyNote;
+import com.example.backend.model.entity.Patient;
+import com.example.backend.model.entity.PatientProgram;
+import com.example.backend.model.entity.PatientService;
+import com.example.backend.model.entity.Program;
+import com.example.backend.model.entity.ScheduleEvent;
+import com.example.backend.model.entity.ServiceDelivery;
+import com.example.backend.model.entity.ServiceType;
+import com.example.backend.model.entity.Staff;
+import com.example.backend.repository.CheckEventRepository;
+import com.example.backend.repository.DailyNoteRepository;
+import com.example.backend.repository.PatientProgramRepository;
+import com.example.backend.repository.ScheduleEventRepository;
+import com.example.backend.repository.ServiceDeliveryRepository;
+import com.example.backend.service.impl.ScheduleServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.PageImpl;
+
+import java.lang.invoke.MethodHandle;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedule hot paths that do not need a database, with repositories stubbed:
+ * repeat expansion and conflict detection behind the schedule preview, and the per-event
+ * DTO mapping used by every schedule listing. Repository calls cost nothing here, so the
+ * DTO mapping numbers are CPU only; the round trips it makes per event are counted by the
+ * db.request.statements metric in a running instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleServiceBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int EXISTING_EVENTS_PER_LOOKUP = 6;
+
+    private MethodHandle generateEventsFromRequest;
+    private MethodHandle detectConflictsForEvents;
+    private MethodHandle toScheduleEventDTO;
+    private ScheduleServiceImpl scheduleService;
+
+    private CreateSchedulePreviewRequestDTO weeklyForAYear;
+    private CreateSchedulePreviewRequestDTO monthlyForAYear;
+    private List<CreateScheduleEventDTO> generatedWeekly;
+    private List<ScheduleEvent> page;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        Patient patient = new Patient();
+        patient.setId(UUID.randomUUID());
+        patient.setFirstName("Jane");
+        patient.setLastName("Doe");
+        patient.setClientId("C-10042");
+
+        Staff supervisor = staff("Sam", "Super", null);
+        Staff staff = staff("Dana", "Support", supervisor);
+
+        ServiceType serviceType = new ServiceType();
+        serviceType.setId(UUID.randomUUID());
+        serviceType.setCode("W1726");
+        PatientService patientService = new PatientService();
+        patientService.setId(UUID.randomUUID());
+        patientService.setServiceType(serviceType);
+        Authorization authorization = new Authorization();
+        authorization.setId(UUID.randomUUID());
+        authorization.setPatientService(patientService);
+
+        Program program = new Program();
+        program.setId(UUID.randomUUID());
+        program.setProgramIdentifier("ODP");
+        PatientProgram patientProgram = new PatientProgram();
+        patientProgram.setId(UUID.randomUUID());
+        patientProgram.setProgram(program);
+        patientProgram.setSupervisor(supervisor);
+
+        CheckEvent checkIn = new CheckEvent();
+        checkIn.setId(UUID.randomUUID());
+        checkIn.setOccurredAt(LocalDateTime.now().minusHours(2));
+        CheckEvent checkOut = new CheckEvent();
+        checkOut.setId(UUID.randomUUID());
+        checkOut.setOccurredAt(LocalDateTime.now());
+        ServiceDelivery delivery = new ServiceDelivery();
+        delivery.setId(UUID.randomUUID());
+        DailyNote dailyNote = new DailyNote();
+        dailyNote.setId(UUID.randomUUID());
+
+        LocalDate start = LocalDate.now().with(DayOfWeek.MONDAY);
+        page = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            ScheduleEvent event = new ScheduleEvent();
+            event.setId(UUID.randomUUID());
+            event.setPatient(patient);
+            event.setStaff(staff);
+            event.setAuthorization(authorization);
+            event.setEventDate(start.plusDays(i / 3));
+            event.setStartAt(event.getEventDate().atTime(8 + (i % 3) * 4, 0).atOffset(ZoneOffset.UTC));
+            event.setEndAt(event.getStartAt().plusHours(3));
+            event.setPlannedUnits(12);
+            event.setEventCode("REG");
+            page.add(event);
+        }
+        List<ScheduleEvent> existing = page.subList(0, EXISTING_EVENTS_PER_LOOKUP);
+
+        scheduleService = Stubs.construct(ScheduleServiceImpl.class,
+            Stubs.of(PatientProgramRepository.class, Map.of(
+                "findByPatientId", args -> Optional.of(patientProgram))),
+            Stubs.of(CheckEventRepository.class, Map.of(
+                "findFirstByScheduleEvent_IdAndEventTypeOrderByOccurredAtAsc", args -> Optional.of(checkIn),
+                "findFirstByScheduleEvent_IdAndEventTypeOrderByOccurredAtDesc", args -> Optional.of(checkOut))),
+            Stubs.of(ServiceDeliveryRepository.class, Map.of(
+                "findFirstByScheduleEvent_IdOrderByCreatedAtDesc", args -> Optional.of(delivery))),
+            Stubs.of(DailyNoteRepository.class, Map.of(
+                "findFirstByServiceDelivery_IdOrderByCreatedAtDesc", args -> Optional.of(dailyNote))),
+            Stubs.of(ScheduleEventRepository.class, Map.of(
+                "findAllByPatient_IdAndEventDateBetweenOrderByEventDateAscStartAtAsc", args -> existing,
+                "findAllByStaff_IdAndEventDateBetween", args -> new PageImpl<>(existing))));
+
+        generateEventsFromRequest = Stubs.privateMethod(ScheduleServiceImpl.class, "generateEventsFromRequest",
+            List.class, CreateSchedulePreviewRequestDTO.class);
+        detectConflictsForEvents = Stubs.privateMethod(ScheduleServiceImpl.class, "detectConflictsForEvents",
+            List.class, List.class);
+        toScheduleEventDTO = Stubs.privateMethod(ScheduleServiceImpl.class, "toScheduleEventDTO",
+            ScheduleEventDTO.class, ScheduleEvent.class);
+
+        CreateScheduleEventDTO base = new CreateScheduleEventDTO();
+        base.setPatientId(patient.getId());
+        base.setStaffId(staff.getId());
+        base.setAuthorizationId(authorization.getId());
+        base.setEventDate(start);
+        base.setStartTime(LocalTime.of(9, 0));
+        base.setEndTime(LocalTime.of(13, 0));
+        base.setEventCode("REG");
+        base.setStatus("PLANNED");
+        base.setPlannedUnits(16);
+
+        weeklyForAYear = request(base, "WEEK", List.of(1, 3, 5), start.plusYears(1));
+        monthlyForAYear = request(base, "MONTH", null, start.plusYears(1));
+        generatedWeekly = generate(weeklyForAYear);
+    }
+
+    @Benchmark
+    public List<CreateScheduleEventDTO> generateWeeklyRepeat() throws Throwable {
+        return generate(weeklyForAYear);
+    }
+
+    @Benchmark
+    public List<CreateScheduleEventDTO> generateMonthlyRepeat() throws Throwable {
+        return generate(monthlyForAYear);
+    }
+
+    /**
+     * Overlap check of a year of weekly events against the existing events around each date
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<ScheduleConflictDTO> detectConflicts() throws Throwable {
+        return (List<ScheduleConflictDTO>) detectConflictsForEvents.invoke(scheduleService, generatedWeekly);
+    }
+
+    /**
+     * Mapping one page of schedule events to DTOs
+     */
+    @Benchmark
+    public void toScheduleEventDTOPage(Blackhole blackhole) throws Throwable {
+        for (ScheduleEvent event : page) {
+            blackhole.consume((ScheduleEventDTO) toScheduleEventDTO.invoke(scheduleService, event));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CreateScheduleEventDTO> generate(CreateSchedulePreviewRequestDTO request) throws Throwable {
+        return (List<CreateScheduleEventDTO>) generateEventsFromRequest.invoke(scheduleService, request);
+    }
+
+    private static CreateSchedulePreviewRequestDTO request(CreateScheduleEventDTO base, String frequency,
+                                                           List<Integer> daysOfWeek, LocalDate endDate) {
+        RepeatConfigDTO repeat = new RepeatConfigDTO();
+        repeat.setFrequency(frequency);
+        repeat.setInterval(1);
+        repeat.setDaysOfWeek(daysOfWeek);
+        repeat.setEndDate(endDate);
+        CreateSchedulePreviewRequestDTO request = new CreateSchedulePreviewRequestDTO();
+        request.setScheduleEvent(base);
+        request.setRepeatConfig(repeat);
+        return request;
+    }
+
+    private static Staff staff(String firstName, String lastName, Staff supervisor) {
+        Staff staff = new Staff();
+        staff.setId(UUID.randomUUID());
+        staff.setFirstName(firstName);
+        staff.setLastName(lastName);
+        staff.setSupervisor(supervisor);
+        return staff;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.backend.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cheap hand-rolled stand-ins for repositories, so benchmarks measure the service code and not a
+ * mocking framework. Unanswered methods return an empty Optional or List, false, 0 or null.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Stub of an interface; {@code answers} maps method names to results computed from the arguments
+     */
+    static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "toString" -> "Stub(" + type.getSimpleName() + ")";
+                default -> defaultValue(method.getReturnType());
+            };
+        });
+        return type.cast(stub);
+    }
+
+    /**
+     * Instantiate a constructor-injected service, stubbing every dependency not given explicitly
+     */
+    static <T> T construct(Class<T> type, Object... dependencies) {
+        Map<Class<?>, Object> given = new HashMap<>();
+        for (Object dependency : dependencies) {
+            for (Class<?> iface : dependency.getClass().getInterfaces()) {
+                given.put(iface, dependency);
+            }
+        }
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructors()[0];
+            Class<?>[] parameterTypes = constructor.getParameterTypes();
+            Object[] args = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                Class<?> parameterType = parameterTypes[i];
+                args[i] = given.containsKey(parameterType) ? given.get(parameterType)
+                    : parameterType.isInterface() ? of(parameterType, Map.of())
+                    : null;
+            }
+            return type.cast(constructor.newInstance(args));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot construct " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Handle to a private instance method, for benchmarking helpers that are not part of the service interface
+     */
+    static MethodHandle privateMethod(Class<?> type, String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup())
+                .findVirtual(type, name, MethodType.methodType(returnType, parameterTypes));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access " + type.getSimpleName() + "#" + name, e);
+        }
+    }
+
+    private static Object defaultValue(Class<?> returnType) {
+        if (returnType == Optional.class) return Optional.empty();
+        if (returnType == List.class) return List.of();
+        if (returnType == boolean.class) return false;
+        if (returnType == long.class) return 0L;
+        if (returnType == int.class) return 0;
+        return null;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.backend.benchmark;
+
+import com.example.backend.util.UuidV7;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert throughput into a table that already holds {@code existingRows} rows, keyed by random
+ * UUIDv4 versus time-ordered UUIDv7 primary keys. Shaped like schedule_event. The table is
+ * pre-filled server side with ids of the same kind (v7 ids with past timestamps, as if the table
+ * had grown over time), then new rows are inserted in JDBC batches like Hibernate does.
+ * Primary key index size and buffer reads are printed after each trial.
+ * <p>
+ * Needs PostgreSQL via DATABASE_URL, DATABASE_USERNAME and DATABASE_PASSWORD. Filling 10M rows
+ * takes a few minutes per trial; use -p existingRows=1000000 for a quicker run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidPrimaryKeyBenchmark {
+
+    private static final int ROWS = 1000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"v4", "v7"})
+    public String ids;
+
+    @Param({"10000000"})
+    public long existingRows;
+
+    private Connection connection;
+    private UUID[] patients;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getenv("DATABASE_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("DATABASE_URL is not set");
+        }
+        Properties props = new Properties();
+        props.setProperty("user", System.getenv().getOrDefault("DATABASE_USERNAME", ""));
+        props.setProperty("password", System.getenv().getOrDefault("DATABASE_PASSWORD", ""));
+        props.setProperty("reWriteBatchedInserts", "true");
+        connection = DriverManager.getConnection(url, props);
+        connection.setAutoCommit(false);
+
+        // v7 ids for the existing rows are spread one per millisecond up to now
+        String idExpression = "v7".equals(ids)
+            ? """
+              encode(set_bit(set_bit(overlay(uuid_send(gen_random_uuid())
+                  placing substring(int8send(floor(extract(epoch FROM now()) * 1000)::bigint - (%d - g)) FROM 3)
+                  FROM 1 FOR 6), 52, 1), 53, 1), 'hex')::uuid
+              """.formatted(existingRows)
+            : "gen_random_uuid()";
+
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_uuid_pk");
+            st.execute("""
+                CREATE TABLE bench_uuid_pk (
+                    id UUID PRIMARY KEY,
+                    patient_id UUID NOT NULL,
+                    event_date DATE NOT NULL,
+                    status VARCHAR(32) NOT NULL,
+                    created_at TIMESTAMP NOT NULL
+                )
+                """);
+            st.execute("""
+                INSERT INTO bench_uuid_pk (id, patient_id, event_date, status, created_at)
+                SELECT %s, gen_random_uuid(), CURRENT_DATE - (g %% 3650)::int, 'PLANNED', now()
+                FROM generate_series(1, %d) AS g
+                """.formatted(idExpression, existingRows));
+            connection.commit();
+            connection.setAutoCommit(true);
+            st.execute("VACUUM ANALYZE bench_uuid_pk");
+            connection.setAutoCommit(false);
+        }
+
+        patients = new UUID[2000];
+        for (int i = 0; i < patients.length; i++) patients[i] = UUID.randomUUID();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("""
+                 SELECT pg_relation_size('bench_uuid_pk_pkey'), idx_blks_read, idx_blks_hit
+                 FROM pg_statio_user_tables WHERE relname = 'bench_uuid_pk'
+                 """)) {
+            if (rs.next()) {
+                System.out.printf("%n[%s, %d existing rows] pk index %d MB, index blocks read %d, hit %d%n",
+                    ids, existingRows, rs.getLong(1) / (1024 * 1024), rs.getLong(2), rs.getLong(3));
+            }
+        }
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP TABLE IF EXISTS bench_uuid_pk");
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Date today = Date.valueOf(LocalDate.now());
+        try (PreparedStatement ps = connection.prepareStatement(
+            "INSERT INTO bench_uuid_pk (id, patient_id, event_date, status, created_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                ps.setObject(1, "v7".equals(ids) ? UuidV7.generate() : UUID.randomUUID());
+                ps.setObject(2, patients[random.nextInt(patients.length)]);
+                ps.setDate(3, today);
+                ps.setString(4, "PLANNED");
+                ps.setTimestamp(5, now);
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Enables @Async methods. They run on Spring Boot's applicationTaskExecutor, which uses virtual threads
+ * when spring.threads.virtual.enabled is set (see VIRTUAL_THREADS_ENABLED) and a bounded platform pool otherwise.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
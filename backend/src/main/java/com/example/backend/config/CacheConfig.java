@@ -0,0 +1,46 @@
+package com.example.backend.config;
+
+import com.example.backend.config.properties.ReferenceDataCacheProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Caffeine-backed reference data caches.
+ * Cache names are declared up front so each one is registered for cache.* metrics at startup.
+ * The manager is transaction aware: evictions from a write run after its commit, so a concurrent
+ * read cannot re-cache the old row in between.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SERVICE_TYPE_BY_CODE = "serviceTypeByCode";
+    public static final String PROGRAM_BY_IDENTIFIER = "programByIdentifier";
+    public static final String PAYER_BY_IDENTIFIER = "payerByIdentifier";
+    public static final String ROLE_BY_NAME = "roleByName";
+    public static final String ACTIVE_OFFICES = "activeOffices";
+    public static final String ACTIVE_ROLES = "activeRoles";
+    public static final String PATIENT_FILTER_OPTIONS = "patientFilterOptions";
+    public static final String PROGRAM_SELECT = "programSelect";
+    public static final String PAYER_SELECT = "payerSelect";
+    public static final String SERVICE_TYPE_SELECT = "serviceTypeSelect";
+
+    public static final List<String> REFERENCE_DATA_CACHES = List.of(
+        SERVICE_TYPE_BY_CODE, PROGRAM_BY_IDENTIFIER, PAYER_BY_IDENTIFIER, ROLE_BY_NAME,
+        ACTIVE_OFFICES, ACTIVE_ROLES, PATIENT_FILTER_OPTIONS, PROGRAM_SELECT, PAYER_SELECT, SERVICE_TYPE_SELECT
+    );
+
+    @Bean
+    public CacheManager cacheManager(ReferenceDataCacheProperties properties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(properties.getSpec());
+        caffeineCacheManager.setCacheNames(REFERENCE_DATA_CACHES);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -4,6 +4,7 @@ import com.cloudinary.Cloudinary;
 import com.example.backend.config.properties.CloudinaryProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -21,7 +22,9 @@ public class CloudinaryConfig {
         this.cloudinaryProperties = cloudinaryProperties;
     }
 
+    // Created on the first upload rather than at startup
     @Bean
+    @Lazy
     public Cloudinary cloudinary() {
         Map<String, String> config = new HashMap<>();
         config.put("cloud_name", cloudinaryProperties.getCloudName());
@@ -0,0 +1,71 @@
+package com.example.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Puts a {@link ConnectionLimitingDataSource} in front of the Hikari pool when app.datasource.connection-limit.enabled
+ * is set, sized from the pool, and publishes the number of callers waiting on it (db.connection.limit.waiting).
+ */
+@Configuration
+@Slf4j
+public class ConnectionLimitConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitPostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("app.datasource.connection-limit.enabled", Boolean.class, false);
+        int configuredPermits = environment.getProperty("app.datasource.connection-limit.permits", Integer.class, 0);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!enabled || !(bean instanceof DataSource dataSource) || isWrapperFor(dataSource, ConnectionLimitingDataSource.class)
+                        || !isWrapperFor(dataSource, HikariDataSource.class)) {
+                    return bean;
+                }
+                HikariDataSource pool = unwrap(dataSource, HikariDataSource.class);
+                int permits = configuredPermits > 0 ? configuredPermits : pool.getMaximumPoolSize();
+                Duration timeout = Duration.ofMillis(pool.getConnectionTimeout());
+                log.info("Limiting {} to {} concurrent connections, {} ms wait", beanName, permits, timeout.toMillis());
+                return new ConnectionLimitingDataSource(dataSource, permits, timeout);
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            if (isWrapperFor(dataSource, ConnectionLimitingDataSource.class)) {
+                ConnectionLimitingDataSource limiter = unwrap(dataSource, ConnectionLimitingDataSource.class);
+                Gauge.builder("db.connection.limit.waiting", limiter, ConnectionLimitingDataSource::getWaiting)
+                    .description("Callers waiting for a connection permit")
+                    .register(registry);
+            }
+        };
+    }
+
+    private static boolean isWrapperFor(DataSource dataSource, Class<?> type) {
+        try {
+            return dataSource.isWrapperFor(type);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static <T> T unwrap(DataSource dataSource, Class<T> type) {
+        try {
+            return dataSource.unwrap(type);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot unwrap " + type.getSimpleName(), e);
+        }
+    }
+}
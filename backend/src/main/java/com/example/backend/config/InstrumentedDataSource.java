@@ -0,0 +1,99 @@
+package com.example.backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper that reports statement executions, their duration and the rows read to
+ * the current {@link SqlRequestStats}. Connections, statements and result sets are JDK proxies
+ * that pass every call through; outside a request they only add a thread-local lookup.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public InstrumentedDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrapStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement, String preparedSql) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+            : statement instanceof PreparedStatement ? PreparedStatement.class
+            : Statement.class;
+        return proxy(type, (proxy, method, args) -> {
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats == null || !method.getName().startsWith("execute")) {
+                Object result = invoke(statement, method, args);
+                return result instanceof ResultSet rs && stats != null ? wrapResultSet(rs) : result;
+            }
+            long start = System.nanoTime();
+            try {
+                Object result = invoke(statement, method, args);
+                return result instanceof ResultSet rs ? wrapResultSet(rs) : result;
+            } finally {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                stats.recordExecution(sql, System.nanoTime() - start);
+            }
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                SqlRequestStats stats = SqlRequestStats.current();
+                if (stats != null) {
+                    stats.recordRow();
+                }
+            }
+            return result;
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<? extends T> type, InvocationHandler handler) {
+        // Identity equality, Hibernate keys its statement and result set registry by these objects
+        InvocationHandler withIdentity = (proxy, method, args) -> "equals".equals(method.getName()) && args != null && args.length == 1
+            ? proxy == args[0]
+            : handler.invoke(proxy, method, args);
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, withIdentity);
+    }
+}
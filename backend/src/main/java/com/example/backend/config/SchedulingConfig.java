@@ -0,0 +1,12 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (nightly report digests, etc.)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,202 @@
+package com.example.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Schema changes ddl-auto=update cannot make on databases created before them (dropping constraints, moving data).
+ * The schema file holds the end state for new databases; these bring existing ones there.
+ * <p>
+ * Runs once the EntityManagerFactory (and so the ddl-auto update) is ready, before the lifecycle beans start and
+ * before the data loaders. Each migration runs once, in its own transaction, and is recorded in schema_migration;
+ * instances starting together take turns through a transaction advisory lock. Migrations must be idempotent, as
+ * a database built from the schema file has none of them recorded.
+ */
+@Slf4j
+@Component
+public class SchemaMigrations {
+
+    private static final long MIGRATION_LOCK_KEY = 0x53434845_4D494752L; // "SCHEMIGR"
+
+    private static final List<Migration> MIGRATIONS = List.of(
+        // Deduplication is per office now; drop the unique constraint on sha256 alone, whatever it was named
+        new Migration("file-object-office-sha256", """
+            DO $$
+            DECLARE
+                c record;
+            BEGIN
+                FOR c IN
+                    SELECT con.conname
+                    FROM pg_constraint con
+                    JOIN pg_attribute a ON a.attrelid = con.conrelid AND a.attnum = con.conkey[1]
+                    WHERE con.conrelid = 'file_object'::regclass
+                      AND con.contype = 'u'
+                      AND cardinality(con.conkey) = 1
+                      AND a.attname = 'sha256'
+                LOOP
+                    EXECUTE format('ALTER TABLE file_object DROP CONSTRAINT %I', c.conname);
+                END LOOP;
+            END $$
+            """),
+        // Signature drawings moved from daily_note to daily_note_signature; copy them over while the old columns exist
+        new Migration("daily-note-signature", """
+            DO $$
+            BEGIN
+                IF NOT EXISTS (SELECT 1 FROM information_schema.columns
+                               WHERE table_schema = current_schema() AND table_name = 'daily_note'
+                                 AND column_name = 'patient_signature') THEN
+                    RETURN;
+                END IF;
+                INSERT INTO daily_note_signature (daily_note_id, patient_signature, staff_signature, updated_at)
+                SELECT id, NULLIF(patient_signature, ''), NULLIF(staff_signature, ''), now()
+                FROM daily_note
+                WHERE COALESCE(patient_signature, '') <> '' OR COALESCE(staff_signature, '') <> ''
+                ON CONFLICT (daily_note_id) DO NOTHING;
+                UPDATE daily_note
+                SET patient_signed = COALESCE(patient_signature, '') <> '',
+                    patient_signed_at = CASE WHEN COALESCE(patient_signature, '') <> ''
+                                             THEN COALESCE(patient_signed_at, updated_at) END,
+                    staff_signed = COALESCE(staff_signature, '') <> '',
+                    staff_signed_at = CASE WHEN COALESCE(staff_signature, '') <> ''
+                                           THEN COALESCE(staff_signed_at, updated_at) END;
+                ALTER TABLE daily_note DROP COLUMN patient_signature, DROP COLUMN staff_signature;
+            END $$
+            """),
+        // Events leaving a staff also tombstone their patient (as a candidate, see DeltaSyncServiceImpl)
+        new Migration("sync-tombstone-patient", """
+            CREATE OR REPLACE FUNCTION sync_tombstone_schedule_event() RETURNS trigger AS $$
+            BEGIN
+                IF OLD.staff_id IS NOT NULL AND (TG_OP = 'DELETE' OR NEW.staff_id IS DISTINCT FROM OLD.staff_id) THEN
+                    INSERT INTO sync_tombstone (entity_type, entity_id, staff_id)
+                    VALUES ('schedule_event', OLD.id, OLD.staff_id);
+                    INSERT INTO sync_tombstone (entity_type, entity_id, staff_id)
+                    SELECT 'service_delivery', sd.id, OLD.staff_id FROM service_delivery sd
+                    WHERE sd.schedule_event_id = OLD.id;
+                    IF OLD.patient_id IS NOT NULL THEN
+                        INSERT INTO sync_tombstone (entity_type, entity_id, staff_id)
+                        VALUES ('patient', OLD.patient_id, OLD.staff_id);
+                    END IF;
+                END IF;
+                IF TG_OP = 'DELETE' THEN
+                    RETURN OLD;
+                END IF;
+                IF NEW.staff_id IS DISTINCT FROM OLD.staff_id THEN
+                    NEW.updated_at := clock_timestamp();
+                    UPDATE service_delivery SET updated_at = clock_timestamp() WHERE schedule_event_id = OLD.id;
+                END IF;
+                RETURN NEW;
+            END;
+            $$ LANGUAGE plpgsql
+            """),
+        // audit_log became monthly partitions; convert a plain table, copying its rows into a partition per month.
+        // Its indexes are created either way (ddl-auto may have built them on the old table, hence the renames).
+        // No id default: uuid_generate_v7() comes with the schema file, and the audit writer supplies ids.
+        new Migration("audit-log-partitions", """
+            DO $$
+            DECLARE
+                month_start date;
+            BEGIN
+                IF to_regclass('audit_log') IS NULL
+                        OR EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'audit_log'::regclass) THEN
+                    RETURN;
+                END IF;
+                ALTER TABLE audit_log RENAME TO audit_log_old;
+                ALTER INDEX IF EXISTS idx_audit_log_module RENAME TO idx_audit_log_old_module;
+                ALTER INDEX IF EXISTS idx_audit_log_entity RENAME TO idx_audit_log_old_entity;
+                IF EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'audit_log_pkey') THEN
+                    ALTER TABLE audit_log_old RENAME CONSTRAINT audit_log_pkey TO audit_log_old_pkey;
+                END IF;
+
+                CREATE TABLE audit_log (
+                    id uuid NOT NULL,
+                    office_id uuid REFERENCES office(id) ON DELETE SET NULL,
+                    user_id uuid REFERENCES app_user(id) ON DELETE SET NULL,
+                    module_code text NOT NULL,
+                    entity_name text NOT NULL,
+                    entity_id uuid,
+                    action text NOT NULL,
+                    before_state jsonb,
+                    after_state jsonb,
+                    metadata jsonb,
+                    created_at timestamptz NOT NULL DEFAULT now(),
+                    updated_at timestamptz NOT NULL DEFAULT now(),
+                    PRIMARY KEY (id, created_at)
+                ) PARTITION BY RANGE (created_at);
+                CREATE TABLE audit_log_default PARTITION OF audit_log DEFAULT;
+
+                FOR month_start IN
+                    SELECT DISTINCT date_trunc('month', created_at::timestamptz AT TIME ZONE 'UTC')::date
+                    FROM audit_log_old
+                LOOP
+                    EXECUTE format('CREATE TABLE %I PARTITION OF audit_log FOR VALUES FROM (%L) TO (%L)',
+                        'audit_log_y' || to_char(month_start, 'YYYY') || 'm' || to_char(month_start, 'MM'),
+                        month_start || ' 00:00:00+00', (month_start + interval '1 month')::date || ' 00:00:00+00');
+                END LOOP;
+
+                INSERT INTO audit_log (id, office_id, user_id, module_code, entity_name, entity_id, action,
+                                       before_state, after_state, metadata, created_at, updated_at)
+                SELECT id, office_id, user_id, module_code, entity_name, entity_id, action,
+                       before_state::jsonb, after_state::jsonb, metadata::jsonb,
+                       created_at::timestamptz, COALESCE(updated_at::timestamptz, created_at::timestamptz)
+                FROM audit_log_old;
+                DROP TABLE audit_log_old;
+            END $$
+            """,
+            "CREATE INDEX IF NOT EXISTS idx_audit_log_module ON audit_log (module_code, created_at DESC)",
+            "CREATE INDEX IF NOT EXISTS idx_audit_log_entity ON audit_log (entity_name, entity_id, created_at DESC, id DESC)")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Takes the EntityManagerFactory only so the ddl-auto update has created the tables first
+     */
+    public SchemaMigrations(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void migrate() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS schema_migration (
+                id text PRIMARY KEY,
+                applied_at timestamptz NOT NULL DEFAULT now()
+            )
+            """);
+        for (Migration migration : MIGRATIONS) {
+            transactionTemplate.executeWithoutResult(status -> apply(migration));
+        }
+    }
+
+    private void apply(Migration migration) {
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(?)::text", String.class, MIGRATION_LOCK_KEY);
+        Boolean applied = jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM schema_migration WHERE id = ?)", Boolean.class, migration.id());
+        if (Boolean.TRUE.equals(applied)) {
+            return;
+        }
+        long started = System.nanoTime();
+        for (String statement : migration.statements()) {
+            jdbcTemplate.execute(statement);
+        }
+        jdbcTemplate.update("INSERT INTO schema_migration (id) VALUES (?)", migration.id());
+        log.info("Applied schema migration {} in {} ms", migration.id(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private record Migration(String id, List<String> statements) {
+
+        Migration(String id, String... statements) {
+            this(id, List.of(statements));
+        }
+    }
+}
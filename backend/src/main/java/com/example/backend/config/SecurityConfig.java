@@ -60,6 +60,9 @@ public class SecurityConfig {
                 .requestMatchers("/swagger-ui/**").permitAll()
                 .requestMatchers("/swagger-ui.html").permitAll()
                 .requestMatchers("/v3/api-docs/**").permitAll()
+                // Operational endpoints: cache contents and eviction (DELETE), startup steps are for administrators only
+                .requestMatchers("/actuator/caches", "/actuator/caches/**").hasRole("ADMIN")
+                .requestMatchers("/actuator/startup").hasRole("ADMIN")
                 // Authenticated endpoints (role-based security via @PreAuthorize in controllers)
                 .requestMatchers("/api/patients/**").authenticated()
                 .requestMatchers("/api/office/**").authenticated()
@@ -0,0 +1,29 @@
+package com.example.backend.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in an {@link InstrumentedDataSource} for {@link SqlMetricsFilter}
+ */
+@Configuration
+public class SqlInstrumentationConfig {
+
+    @Bean
+    static BeanPostProcessor sqlInstrumentationPostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("app.observability.sql.enabled", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.backend.config;
+
+import com.example.backend.config.properties.SqlMetricsProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes the JDBC work of each HTTP request, tagged by the controller method that handled it:
+ * db.request.statements and db.request.rows (distribution summaries) and db.request.time (timer).
+ * Runs before the security filters so authentication lookups are counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private static final int LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final SqlMetricsProperties properties;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SqlRequestStats stats = SqlRequestStats.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.clear();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        String handler = handlerName(request);
+
+        DistributionSummary.builder("db.request.statements")
+            .description("JDBC statements executed per HTTP request")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(stats.getStatements());
+        DistributionSummary.builder("db.request.rows")
+            .description("Result set rows read per HTTP request")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(stats.getRows());
+        Timer.builder("db.request.time")
+            .description("Time spent executing JDBC statements per HTTP request")
+            .tag("handler", handler)
+            .register(meterRegistry)
+            .record(Duration.ofNanos(stats.getDbTimeNanos()));
+
+        if (stats.getStatements() > properties.getStatementBudget()) {
+            Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+            log.warn("{} {} ({}) ran {} SQL statements, budget {}: {} ms DB time, {} rows. Most repeated ({}x): {}",
+                request.getMethod(), request.getRequestURI(), handler, stats.getStatements(),
+                properties.getStatementBudget(), Duration.ofNanos(stats.getDbTimeNanos()).toMillis(), stats.getRows(),
+                repeated != null ? repeated.getValue() : 0,
+                repeated != null ? abbreviate(repeated.getKey()) : "-");
+        }
+    }
+
+    private static String handlerName(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        }
+        return "unmapped";
+    }
+
+    private static String abbreviate(String sql) {
+        String compact = sql.replaceAll("\\s+", " ").trim();
+        return compact.length() > LOGGED_SQL_LENGTH ? compact.substring(0, LOGGED_SQL_LENGTH) + "..." : compact;
+    }
+}
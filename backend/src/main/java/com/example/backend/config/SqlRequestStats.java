@@ -0,0 +1,72 @@
+package com.example.backend.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JDBC work done on the current request thread, filled in by {@link InstrumentedDataSource}
+ * while {@link SqlMetricsFilter} has a request open. Work done on other threads (async
+ * sections, streaming responses) is not included.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long dbTimeNanos;
+    private long rows;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    private SqlRequestStats() {
+    }
+
+    static SqlRequestStats start() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Stats of the request on this thread, or null outside a request
+     */
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void recordExecution(String sql, long nanos) {
+        statements++;
+        dbTimeNanos += nanos;
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDbTimeNanos() {
+        return dbTimeNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * The statement executed most often in this request, the usual sign of an N+1 pattern
+     */
+    public Map.Entry<String, Integer> getMostRepeated() {
+        return executionsBySql.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .orElse(null);
+    }
+}
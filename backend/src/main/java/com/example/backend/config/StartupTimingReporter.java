@@ -0,0 +1,105 @@
+package com.example.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logs where startup time went once the application is ready: JVM, environment, context refresh
+ * (configuration parsing, JPA, other beans), runners such as DataLoader, plus the slowest beans by their own time.
+ * Step data comes from the BufferingApplicationStartup set in BackendApplication.main; nothing is logged otherwise.
+ */
+@Slf4j
+@Component
+public class StartupTimingReporter {
+
+    private static final int SLOWEST_BEANS = 10;
+
+    private Duration startedTimeTaken;
+
+    @EventListener
+    public void onStarted(ApplicationStartedEvent event) {
+        startedTimeTaken = event.getTimeTaken();
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        StartupTimeline timeline = startup.getBufferedTimeline();
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+
+        Map<Long, Long> childNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent e : events) {
+            Long parentId = e.getStartupStep().getParentId();
+            if (parentId != null) {
+                childNanos.merge(parentId, e.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        long jvm = timeline.getStartTime().toEpochMilli() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        long environment = millis(events, "spring.boot.application.environment-prepared");
+        long refresh = millis(events, "spring.context.refresh");
+        long beforeRefresh = events.stream()
+            .filter(e -> "spring.context.refresh".equals(e.getStartupStep().getName()))
+            .mapToLong(e -> e.getStartTime().toEpochMilli() - timeline.getStartTime().toEpochMilli())
+            .findFirst()
+            .orElse(0);
+        long configuration = millis(events, "spring.context.beans.post-process");
+        long jpa = events.stream()
+            .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName())
+                && "entityManagerFactory".equals(tag(e.getStartupStep(), "beanName")))
+            .mapToLong(e -> e.getDuration().toMillis())
+            .sum();
+        long runners = startedTimeTaken == null ? 0 : event.getTimeTaken().minus(startedTimeTaken).toMillis();
+
+        StringBuilder report = new StringBuilder("Startup timing (ms):")
+            .append(String.format("%n  %-32s %7d", "JVM until main", jvm))
+            .append(String.format("%n  %-32s %7d", "before refresh", beforeRefresh))
+            .append(String.format("%n    %-30s %7d", "environment / config data", environment))
+            .append(String.format("%n  %-32s %7d", "context refresh", refresh))
+            .append(String.format("%n    %-30s %7d", "configuration / post-processors", configuration))
+            .append(String.format("%n    %-30s %7d", "JPA (entityManagerFactory)", jpa))
+            .append(String.format("%n    %-30s %7d", "other beans and web server", Math.max(0, refresh - configuration - jpa)))
+            .append(String.format("%n  %-32s %7d", "runners (DataLoader, ...)", runners))
+            .append(String.format("%n  %-32s %7d", "total until ready", jvm + event.getTimeTaken().toMillis()))
+            .append(String.format("%nSlowest beans (own time, ms):"));
+        events.stream()
+            .filter(e -> "spring.beans.instantiate".equals(e.getStartupStep().getName()))
+            .map(e -> Map.entry(tag(e.getStartupStep(), "beanName"),
+                e.getDuration().toNanos() - childNanos.getOrDefault(e.getStartupStep().getId(), 0L)))
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(SLOWEST_BEANS)
+            .forEach(bean -> report.append(String.format("%n  %-48s %7d", bean.getKey(), bean.getValue() / 1_000_000)));
+        log.info(report.toString());
+    }
+
+    private static long millis(List<StartupTimeline.TimelineEvent> events, String stepName) {
+        return events.stream()
+            .filter(e -> stepName.equals(e.getStartupStep().getName()))
+            .mapToLong(e -> e.getDuration().toMillis())
+            .sum();
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (key.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
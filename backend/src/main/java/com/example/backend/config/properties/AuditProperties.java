@@ -0,0 +1,178 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entity change auditing (audit_log) properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.audit")
+public class AuditProperties {
+
+    /**
+     * Whether committed changes of the audited entities are written to audit_log
+     */
+    private boolean enabled = true;
+
+    /**
+     * Audited entities by simple class name, mapped to their module code (audit_log.module_code)
+     */
+    private Map<String, String> entities = new LinkedHashMap<>(Map.ofEntries(
+        Map.entry("Patient", "PATIENT"),
+        Map.entry("PatientAddress", "PATIENT"),
+        Map.entry("PatientContact", "PATIENT"),
+        Map.entry("PatientAllergy", "PATIENT"),
+        Map.entry("PatientPayer", "PATIENT"),
+        Map.entry("PatientProgram", "PATIENT"),
+        Map.entry("PatientService", "PATIENT"),
+        Map.entry("PatientHouseStay", "PATIENT"),
+        Map.entry("Staff", "STAFF"),
+        Map.entry("StaffAddress", "STAFF"),
+        Map.entry("StaffContact", "STAFF"),
+        Map.entry("StaffCertification", "STAFF"),
+        Map.entry("StaffRate", "STAFF"),
+        Map.entry("StaffDocument", "STAFF"),
+        Map.entry("StaffAvailability", "STAFF"),
+        Map.entry("BackgroundCheck", "STAFF")
+    ));
+
+    /**
+     * Root entity of each module. Changes of an entity referencing its module root are recorded against the root
+     * (entity_name, entity_id), with the changed row in the metadata, so one lookup returns a patient's whole timeline.
+     */
+    private Map<String, String> roots = new LinkedHashMap<>(Map.of(
+        "PATIENT", "Patient",
+        "STAFF", "Staff"
+    ));
+
+    /**
+     * Properties whose values are never copied into audit_log; a change shows as masked before/after values
+     */
+    private List<String> maskedFields = List.of("ssn");
+
+    /**
+     * Properties left out of the diffs
+     */
+    private List<String> ignoredFields = List.of("createdAt", "updatedAt");
+
+    /**
+     * Records waiting for the writer. A full queue applies the overflow policy instead of blocking the request.
+     */
+    @Min(100)
+    private int queueCapacity = 10_000;
+
+    /**
+     * Records per JDBC batch insert
+     */
+    @Min(1)
+    @Max(5000)
+    private int batchSize = 500;
+
+    /**
+     * How long the writer waits for a batch to fill before flushing what it has
+     */
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * What happens to a record when the queue is full: spill (hand it to the writer thread, which appends it to the
+     * spill file to be replayed later; up to queueCapacity records wait for that, the rest are dropped) or drop
+     * (count it in audit.records.dropped). Request threads never write the spill file themselves.
+     */
+    @NotNull
+    private Overflow overflow = Overflow.SPILL;
+
+    /**
+     * Failed batch inserts are retried this often (with the flush interval doubling as backoff) before the batch is
+     * spilled
+     */
+    @Min(0)
+    private int maxRetries = 5;
+
+    /**
+     * Directory of the spill file. Records still queued at shutdown, overflowing records and batches that could not
+     * be inserted are appended there and inserted on the next start. Must be local to the instance.
+     */
+    @NotNull
+    private Path spillDir = Path.of("audit-spill");
+
+    /**
+     * How long shutdown waits for the queue to drain into the database before spilling the rest
+     */
+    @NotNull
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    private Partitions partitions = new Partitions();
+
+    private History history = new History();
+
+    @Getter
+    @Setter
+    public static class Partitions {
+
+        /**
+         * Whether this instance creates upcoming monthly partitions of audit_log and archives and drops expired ones.
+         * Instances take turns through an advisory lock.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Monthly partitions kept ready ahead of the current month
+         */
+        @Min(1)
+        private int premakeMonths = 3;
+
+        /**
+         * Months of audit history kept in the database; older partitions are archived, then dropped.
+         * 0 keeps every partition.
+         */
+        @Min(0)
+        private int retentionMonths = 72;
+
+        /**
+         * Whether an expired partition is written to a gzipped CSV file in archiveDir before it is dropped
+         */
+        private boolean archive = true;
+
+        /**
+         * Local directory of the partition archives (audit_log_yYYYYmMM.csv.gz)
+         */
+        @NotNull
+        private Path archiveDir = Path.of("audit-archive");
+
+        private String maintenanceCron = "0 20 3 * * *";
+    }
+
+    @Getter
+    @Setter
+    public static class History {
+
+        /**
+         * Entries per page of the entity history API
+         */
+        @Min(1)
+        private int defaultPageSize = 50;
+
+        @Min(1)
+        private int maxPageSize = 200;
+    }
+
+    public enum Overflow {
+        SPILL,
+        DROP
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Expiring authorization digest job properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.reports.authorization-digest")
+public class AuthorizationDigestProperties {
+
+    /**
+     * Whether the nightly digest job runs.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cron expression for the nightly digest refresh (server time zone).
+     */
+    @NotBlank
+    private String cron = "0 30 2 * * *";
+
+    /**
+     * Remaining/max units ratio at or below which an authorization counts as running low.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private BigDecimal lowRemainingRatio = new BigDecimal("0.10");
+}
@@ -0,0 +1,32 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Claim batch generation properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.billing.claim-batch")
+public class ClaimBatchProperties {
+
+    /**
+     * Service deliveries read, priced and written per transaction. Each committed chunk is a checkpoint.
+     */
+    @Min(50)
+    @Max(5000)
+    private int chunkSize = 500;
+
+    /**
+     * Prefix of generated claim numbers, e.g. CLM-20250131-{run id, 32 hex digits}-00001
+     */
+    @NotBlank
+    private String claimNumberPrefix = "CLM";
+}
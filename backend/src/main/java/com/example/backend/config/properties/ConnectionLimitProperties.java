@@ -0,0 +1,31 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Connection limiter properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.datasource.connection-limit")
+public class ConnectionLimitProperties {
+
+    /**
+     * Whether connection checkouts go through a fair semaphore in front of the Hikari pool.
+     * Meant for virtual-thread mode, where thousands of request threads can ask for a connection at once.
+     * Read once at startup.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Connections that may be checked out at once; 0 uses the Hikari maximum pool size.
+     * Waiting callers time out after the Hikari connection timeout.
+     */
+    @Min(0)
+    private int permits = 0;
+}
@@ -0,0 +1,62 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Mobile delta sync properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.sync.delta")
+public class DeltaSyncProperties {
+
+    /**
+     * Schedule events older than this many days are outside a DSP's sync scope, and so are patients
+     * with no event for the DSP since then
+     */
+    @Min(1)
+    private int historyDays = 30;
+
+    /**
+     * Changes newer than now minus this are left for the next sync, so rows of transactions still
+     * committing are not skipped by the watermark. Covers the clock difference between the instances and the
+     * database; open write transactions are waited for separately (see maxLag).
+     */
+    @NotNull
+    private Duration lag = Duration.ofSeconds(5);
+
+    /**
+     * Reads also stop at the start of the oldest write transaction still open, as its rows carry an earlier
+     * updated_at than their commit, but never more than this behind now. A row committed later than this after
+     * its updated_at was set is missed until it changes again, so keep it above the longest write transaction.
+     */
+    @NotNull
+    private Duration maxLag = Duration.ofMinutes(2);
+
+    @Min(1)
+    private int defaultPageSize = 500;
+
+    @Min(1)
+    @Max(5000)
+    private int maxPageSize = 2000;
+
+    /**
+     * How long deletes are remembered. A client whose watermark is older gets a full resync (reset=true).
+     */
+    @NotNull
+    private Duration tombstoneRetention = Duration.ofDays(90);
+
+    /**
+     * Schedule of the purge of tombstones older than the retention
+     */
+    private String purgeCron = "0 45 3 * * *";
+}
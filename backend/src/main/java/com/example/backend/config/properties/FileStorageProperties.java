@@ -0,0 +1,86 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * File storage properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.storage")
+public class FileStorageProperties {
+
+    /**
+     * Storage backend by name: cloudinary, or local for development and offline use
+     */
+    @NotBlank
+    private String backend = "cloudinary";
+
+    /**
+     * Where uploads are moved from the multipart temp file while they wait for the background upload
+     */
+    @NotNull
+    private Path stagingDir = Path.of(System.getProperty("java.io.tmpdir"), "backend-uploads");
+
+    private Local local = new Local();
+
+    private Derivatives derivatives = new Derivatives();
+
+    @Getter
+    @Setter
+    public static class Local {
+
+        /**
+         * Root directory of the local backend; objects are stored under it by key
+         */
+        @NotNull
+        private Path root = Path.of("storage");
+    }
+
+    @Getter
+    @Setter
+    public static class Derivatives {
+
+        /**
+         * Whether resized variants of uploaded images are generated after the original is stored
+         */
+        private boolean enabled = true;
+
+        /**
+         * Longest edge of the thumbnail variant, used by list views
+         */
+        @Min(16)
+        private int thumbnailSize = 256;
+
+        /**
+         * Longest edge of the medium variant, used by previews
+         */
+        @Min(16)
+        private int mediumSize = 1024;
+
+        /**
+         * JPEG quality of the variants, 0..1
+         */
+        @DecimalMin("0.1")
+        @DecimalMax("1.0")
+        private float jpegQuality = 0.8f;
+
+        /**
+         * max-age of variant and original responses; their content never changes for a given ETag
+         */
+        @NotNull
+        private Duration cacheMaxAge = Duration.ofDays(365);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Idempotency-Key handling of write endpoints properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Whether POST/PUT/PATCH requests carrying an Idempotency-Key header are deduplicated
+     */
+    private boolean enabled = true;
+
+    /**
+     * Ant patterns of the request paths the header is honoured on. Other paths ignore it.
+     */
+    private List<String> paths = new ArrayList<>(List.of(
+        "/api/service-delivery/check-in-check-out/**",
+        "/api/daily-notes/**",
+        "/api/medications/**",
+        "/api/location-tracking/**",
+        "/api/sync/**"
+    ));
+
+    /**
+     * How long a completed response is kept and replayed for a repeated key
+     */
+    @NotNull
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * How long a key stays claimed by a request still running. A claim left behind by a crashed instance
+     * is taken over by the next request with the same key after this.
+     */
+    @NotNull
+    private Duration claimTimeout = Duration.ofMinutes(1);
+
+    /**
+     * How long a duplicate waits for the original request with the same key on this instance before
+     * it is answered with 409 Conflict
+     */
+    @NotNull
+    private Duration lockTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Memory budget of the recently completed responses kept in memory, so retries are answered without the database
+     */
+    @NotNull
+    private DataSize hotSetMaxSize = DataSize.ofMegabytes(16);
+
+    /**
+     * Schedule of the purge of expired keys
+     */
+    private String purgeCron = "0 15 * * * *";
+}
@@ -0,0 +1,88 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Push notification outbox and dispatcher properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.notifications")
+public class NotificationProperties {
+
+    /**
+     * Whether this instance dispatches queued notifications and runs the notification producers.
+     * Notifications are still queued by changes when disabled.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Push transport by name (see PushTransport implementations): local logs and keeps the messages in memory
+     */
+    private String transport = "local";
+
+    /**
+     * Delay between dispatcher polls when the queue was drained
+     */
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(2);
+
+    /**
+     * Notifications claimed per batch. Several instances claim disjoint batches.
+     */
+    @Min(1)
+    @Max(1000)
+    private int batchSize = 100;
+
+    /**
+     * Batches sent per poll at most, so one instance does not hold the scheduler thread indefinitely
+     */
+    @Min(1)
+    private int maxBatchesPerPoll = 20;
+
+    /**
+     * How long a claimed batch may take to send. Rows of an instance that died mid-send are claimed again after it.
+     */
+    @NotNull
+    private Duration claimTimeout = Duration.ofMinutes(2);
+
+    /**
+     * Attempts before a notification is marked failed
+     */
+    @Min(1)
+    private int maxAttempts = 6;
+
+    /**
+     * Delay before the first retry; doubles with each further attempt up to maxBackoff, with jitter
+     */
+    @NotNull
+    private Duration initialBackoff = Duration.ofSeconds(30);
+
+    @NotNull
+    private Duration maxBackoff = Duration.ofHours(1);
+
+    /**
+     * Authorizations ending within this many days notify the patient's supervisor (once per end date)
+     */
+    @Min(1)
+    private int expiringAuthorizationDays = 14;
+
+    private String expiringAuthorizationCron = "0 0 7 * * *";
+
+    /**
+     * A visit still checked in this long after its scheduled end notifies its staff
+     */
+    @NotNull
+    private Duration missedCheckOutGrace = Duration.ofMinutes(30);
+
+    private String missedCheckOutCron = "0 */5 * * * *";
+}
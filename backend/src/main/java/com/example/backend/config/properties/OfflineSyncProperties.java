@@ -0,0 +1,33 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Mobile offline queue sync properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.sync.offline")
+public class OfflineSyncProperties {
+
+    /**
+     * How far a device clock may run ahead of the server. An operation captured later than now plus this is
+     * rejected.
+     */
+    @NotNull
+    private Duration maxClockSkew = Duration.ofMinutes(5);
+
+    /**
+     * Oldest capture time accepted for a queued operation, relative to the sync. Older check-ins and check-outs
+     * are rejected rather than backdating a visit by weeks.
+     */
+    @NotNull
+    private Duration maxOperationAge = Duration.ofDays(7);
+}
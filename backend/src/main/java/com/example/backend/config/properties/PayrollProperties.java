@@ -0,0 +1,63 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Payroll aggregation properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.payroll")
+public class PayrollProperties {
+
+    /**
+     * First day of any pay period; all other periods are derived from it.
+     */
+    @NotNull
+    private LocalDate periodAnchor = LocalDate.of(2025, 1, 5);
+
+    /**
+     * Pay period length in days (14 = bi-weekly).
+     */
+    @Min(7)
+    private int periodLengthDays = 14;
+
+    /**
+     * Days after a period ends before it is closed and its hours are frozen.
+     * Late check-outs and corrections should be in by then.
+     */
+    @Min(0)
+    private int closeAfterDays = 3;
+
+    /**
+     * First day of the FLSA workweek used by weekly overtime.
+     */
+    @NotNull
+    private DayOfWeek workweekStart = DayOfWeek.SUNDAY;
+
+    /**
+     * Overtime rules applied, by name (weekly, daily). With both, daily overtime hours do not count towards the
+     * weekly threshold, so no hour is overtime twice.
+     */
+    @NotEmpty
+    private List<String> overtimeRules = new ArrayList<>(List.of("weekly"));
+
+    @Positive
+    private double weeklyThresholdHours = 40;
+
+    @Positive
+    private double dailyThresholdHours = 8;
+}
@@ -0,0 +1,29 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reference data cache properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cache.reference-data")
+public class ReferenceDataCacheProperties {
+
+    /**
+     * Caffeine spec applied to every reference data cache. Keep recordStats so hit/miss metrics are published.
+     * The TTL only bounds staleness for rows changed outside the application services (seeders, SQL).
+     */
+    @NotBlank
+    private String spec = "maximumSize=2000,expireAfterWrite=1h,recordStats";
+
+    /**
+     * Whether the caches are loaded once the application is ready.
+     */
+    private boolean warmUp = true;
+}
@@ -0,0 +1,35 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Report dashboard properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.reports.dashboard")
+public class ReportDashboardProperties {
+
+    /**
+     * Total time budget for all dashboard sub-queries. Sections still running after it are reported as incomplete.
+     */
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum sub-queries (and therefore pooled connections) running at once across all dashboard requests.
+     * Must stay well below the Hikari pool size.
+     */
+    @Min(1)
+    @Max(16)
+    private int maxConcurrency = 6;
+}
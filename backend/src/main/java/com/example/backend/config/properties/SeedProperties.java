@@ -0,0 +1,37 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seed data loading properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.seed")
+public class SeedProperties {
+
+    /**
+     * When DataLoader runs: on every startup, as a one-off command that exits when done, or never
+     */
+    private Mode mode = Mode.STARTUP;
+
+    /**
+     * Threads generating patient rows; each one streams its share into PostgreSQL with COPY on its own connection
+     */
+    @Min(1)
+    private int threads = 4;
+
+    @Min(1)
+    private int patients = 1000;
+
+    public enum Mode {
+        STARTUP,
+        COMMAND,
+        OFF
+    }
+}
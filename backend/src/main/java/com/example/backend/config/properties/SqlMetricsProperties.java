@@ -0,0 +1,29 @@
+package com.example.backend.config.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-request SQL instrumentation properties binding
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.observability.sql")
+public class SqlMetricsProperties {
+
+    /**
+     * Whether the DataSource is wrapped to count statements, DB time and rows per HTTP request.
+     * Read once at startup.
+     */
+    private boolean enabled = true;
+
+    /**
+     * A request running more statements than this is logged as a warning together with its most repeated statement.
+     */
+    @Min(1)
+    private int statementBudget = 50;
+}
@@ -0,0 +1,53 @@
+package com.example.backend.controller;
+
+import com.example.backend.model.ApiResponse;
+import com.example.backend.model.dto.audit.AuditHistoryDTO;
+import com.example.backend.service.AuditHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+/**
+ * REST API Controller for the audit timelines of patients and staff members.
+ * Pages are newest first; pass the returned nextCursor as "before" for the next page.
+ */
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+public class AuditController {
+
+    private final AuditHistoryService auditHistoryService;
+
+    /**
+     * GET /api/audit/patients/{id}/history?before={cursor}&limit={n}
+     */
+    @GetMapping("/patients/{id}/history")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<AuditHistoryDTO>> patientHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
+        AuditHistoryDTO history = auditHistoryService.patientHistory(id, before, limit);
+        return ResponseEntity.ok(ApiResponse.success(history, "Patient history retrieved successfully"));
+    }
+
+    /**
+     * GET /api/audit/staff/{id}/history?before={cursor}&limit={n}
+     */
+    @GetMapping("/staff/{id}/history")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<AuditHistoryDTO>> staffHistory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) Integer limit) {
+        AuditHistoryDTO history = auditHistoryService.staffHistory(id, before, limit);
+        return ResponseEntity.ok(ApiResponse.success(history, "Staff history retrieved successfully"));
+    }
+}
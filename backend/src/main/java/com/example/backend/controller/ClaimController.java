@@ -0,0 +1,64 @@
+package com.example.backend.controller;
+
+import com.example.backend.model.ApiResponse;
+import com.example.backend.model.dto.billing.ClaimBatchRunDTO;
+import com.example.backend.model.dto.billing.ClaimBatchRunRequestDTO;
+import com.example.backend.service.ClaimBatchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for claim generation
+ */
+@RestController
+@RequestMapping("/api/claims")
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimController {
+
+    private final ClaimBatchService claimBatchService;
+
+    /**
+     * Generate draft claims from approved, not yet billed service deliveries of a payer
+     * 
+     * Example: POST /api/claims/batch-runs
+     * Body: { "payerId": "uuid", "periodStart": "2025-01-01", "periodEnd": "2025-01-31" }
+     */
+    @PostMapping("/batch-runs")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<ClaimBatchRunDTO>> startBatchRun(
+            @Valid @RequestBody ClaimBatchRunRequestDTO request) {
+        log.info("POST /api/claims/batch-runs - payer: {}, period: {} - {}",
+            request.getPayerId(), request.getPeriodStart(), request.getPeriodEnd());
+        ClaimBatchRunDTO run = claimBatchService.startRun(request);
+        return ResponseEntity.ok(ApiResponse.success(run, "Claim batch run completed successfully"));
+    }
+
+    /**
+     * Resume an interrupted or failed batch run from its last checkpoint
+     */
+    @PostMapping("/batch-runs/{id}/resume")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<ClaimBatchRunDTO>> resumeBatchRun(@PathVariable UUID id) {
+        log.info("POST /api/claims/batch-runs/{}/resume", id);
+        ClaimBatchRunDTO run = claimBatchService.resumeRun(id);
+        return ResponseEntity.ok(ApiResponse.success(run, "Claim batch run completed successfully"));
+    }
+
+    /**
+     * Get batch run progress
+     */
+    @GetMapping("/batch-runs/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<ClaimBatchRunDTO>> getBatchRun(@PathVariable UUID id) {
+        log.info("GET /api/claims/batch-runs/{}", id);
+        ClaimBatchRunDTO run = claimBatchService.getRun(id);
+        return ResponseEntity.ok(ApiResponse.success(run, "Claim batch run retrieved successfully"));
+    }
+}
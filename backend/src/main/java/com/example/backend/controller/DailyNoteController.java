@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.backend.model.ApiResponse;
 import com.example.backend.model.dto.DailyNoteRequestDTO;
 import com.example.backend.model.dto.DailyNoteResponseDTO;
+import com.example.backend.model.dto.DailyNoteSummaryDTO;
 import com.example.backend.service.DailyNoteService;
 
 import jakarta.validation.Valid;
@@ -55,12 +56,29 @@ public class DailyNoteController {
         return ResponseEntity.ok(ApiResponse.success(null, "Daily note deleted"));
     }
 
+    /**
+     * Full notes. Each carries its signature drawings (base64, often tens of KB) unless includeSignatures=false;
+     * list pages should use /summaries or pass includeSignatures=false and load a note's drawings by id.
+     */
     @GetMapping
     public ResponseEntity<ApiResponse<Page<DailyNoteResponseDTO>>> list(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean includeSignatures
+    ) {
+        Page<DailyNoteResponseDTO> p = dailyNoteService.list(page, size, includeSignatures);
+        return ResponseEntity.ok(ApiResponse.success(p, "Daily notes retrieved"));
+    }
+
+    /**
+     * Compact list without signatures, checklist and meal info, for list pages
+     */
+    @GetMapping("/summaries")
+    public ResponseEntity<ApiResponse<Page<DailyNoteSummaryDTO>>> listSummaries(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size
     ) {
-        Page<DailyNoteResponseDTO> p = dailyNoteService.list(page, size);
+        Page<DailyNoteSummaryDTO> p = dailyNoteService.listSummaries(page, size);
         return ResponseEntity.ok(ApiResponse.success(p, "Daily notes retrieved"));
     }
 }
@@ -0,0 +1,70 @@
+package com.example.backend.controller;
+
+import com.example.backend.model.ApiResponse;
+import com.example.backend.model.dto.sync.DeltaSyncDTO;
+import com.example.backend.model.dto.sync.PatientChangeProjection;
+import com.example.backend.model.dto.sync.ScheduleEventChangeProjection;
+import com.example.backend.model.dto.sync.VisitChangeProjection;
+import com.example.backend.service.DeltaSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST API Controller for the mobile app's delta sync of the signed-in DSP's schedule, visits and patients.
+ * Call without "since" for a full sync, then pass back the returned watermark; repeat while hasMore is true.
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class DeltaSyncController {
+
+    private final DeltaSyncService deltaSyncService;
+
+    /**
+     * GET /api/sync/schedule?since={watermark}&limit={n}
+     */
+    @GetMapping("/schedule")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'STAFF', 'DSP')")
+    public ResponseEntity<ApiResponse<DeltaSyncDTO<ScheduleEventChangeProjection>>> scheduleChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        DeltaSyncDTO<ScheduleEventChangeProjection> changes =
+            deltaSyncService.scheduleChanges(authentication.getName(), since, limit);
+        return ResponseEntity.ok(ApiResponse.success(changes, "Schedule changes retrieved successfully"));
+    }
+
+    /**
+     * GET /api/sync/visits?since={watermark}&limit={n}
+     */
+    @GetMapping("/visits")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'STAFF', 'DSP')")
+    public ResponseEntity<ApiResponse<DeltaSyncDTO<VisitChangeProjection>>> visitChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        DeltaSyncDTO<VisitChangeProjection> changes =
+            deltaSyncService.visitChanges(authentication.getName(), since, limit);
+        return ResponseEntity.ok(ApiResponse.success(changes, "Visit changes retrieved successfully"));
+    }
+
+    /**
+     * GET /api/sync/patients?since={watermark}&limit={n}
+     */
+    @GetMapping("/patients")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'STAFF', 'DSP')")
+    public ResponseEntity<ApiResponse<DeltaSyncDTO<PatientChangeProjection>>> patientChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        DeltaSyncDTO<PatientChangeProjection> changes =
+            deltaSyncService.patientChanges(authentication.getName(), since, limit);
+        return ResponseEntity.ok(ApiResponse.success(changes, "Patient changes retrieved successfully"));
+    }
+}
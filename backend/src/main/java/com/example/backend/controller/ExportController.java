@@ -1,12 +1,14 @@
 package com.example.backend.controller;
 
 import com.example.backend.model.dto.*;
+import com.example.backend.model.dto.payroll.PayrollPeriodDTO;
 import com.example.backend.model.dto.report.ReportFilterDTO;
 import com.example.backend.model.dto.schedule.ScheduleEventDTO;
 import com.example.backend.model.enums.VisitStatus;
 import com.example.backend.service.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -16,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -27,6 +30,7 @@ import java.util.UUID;
  * REST controller for export operations
  */
 @RestController
+@Lazy
 @RequestMapping("/api/reports")
 @RequiredArgsConstructor
 @Slf4j
@@ -40,6 +44,7 @@ public class ExportController {
     private final StaffService staffService;
     private final ServiceDeliveryService serviceDeliveryService;
     private final ReportService reportService;
+    private final PayrollService payrollService;
 
     /**
      * Export Patients to Excel
@@ -261,6 +266,25 @@ public class ExportController {
         }
     }
     
+    /**
+     * Export payroll hours of the pay period containing a date to Excel, streamed to the response
+     */
+    @GetMapping("/payroll/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<StreamingResponseBody> exportPayrollHours(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        PayrollPeriodDTO period = payrollService.getPeriodHours(date != null ? date : LocalDate.now());
+        String filename = "PayrollHours_" + period.getPeriodStart().format(DateTimeFormatter.BASIC_ISO_DATE) + ".xlsx";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+        headers.setContentDispositionFormData("attachment", filename);
+
+        StreamingResponseBody body = out -> excelExportService.writePayrollHoursReport(period, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+    
     private String getCurrentTimestamp() {
         return LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
     }
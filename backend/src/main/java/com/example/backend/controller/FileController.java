@@ -1,16 +1,23 @@
 package com.example.backend.controller;
 
+import com.example.backend.config.properties.FileStorageProperties;
+import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.ApiResponse;
 import com.example.backend.model.entity.FileObject;
 import com.example.backend.service.FileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
 import java.util.UUID;
 
 /**
@@ -18,14 +25,16 @@ import java.util.UUID;
  */
 @Slf4j
 @RestController
+@Lazy
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
 public class FileController {
 
     private final FileService fileService;
+    private final FileStorageProperties storageProperties;
 
     /**
-     * Upload a file (image or PDF)
+     * Upload a file (image or PDF), stored in the background
      * POST /api/files/upload
      */
     @PostMapping("/upload")
@@ -37,8 +46,14 @@ public class FileController {
         try {
             log.info("Uploading file: {} (size: {} bytes)", file.getOriginalFilename(), file.getSize());
             FileObject uploadedFile = fileService.uploadFile(file, officeId);
-            return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(ApiResponse.success(uploadedFile, "File uploaded successfully"));
+            if (uploadedFile.isStored()) {
+                // Content was already stored
+                return ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.success(uploadedFile, "File uploaded successfully"));
+            }
+            // Poll GET /api/files/{id} until uploadStatus is stored
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success(uploadedFile, "File accepted, upload in progress"));
         } catch (IllegalArgumentException e) {
             log.warn("File upload validation error: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -85,7 +100,37 @@ public class FileController {
     }
 
     /**
-     * Delete a file
+     * Get file content or an image variant (thumbnail, medium), cacheable by clients for as long as the ETag matches
+     * GET /api/files/{id}/variants/{variant}
+     */
+    @GetMapping("/{id}/variants/{variant}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'STAFF', 'DSP')")
+    public ResponseEntity<Resource> getFileVariant(@PathVariable UUID id, @PathVariable String variant) {
+        FileService.FileContent content = fileService.getFileContent(id, variant);
+        CacheControl cacheControl = CacheControl.maxAge(storageProperties.getDerivatives().getCacheMaxAge())
+                .cachePrivate()
+                .immutable();
+
+        if (content.resource() != null) {
+            // A matching If-None-Match is answered with 304 before the body is read
+            return ResponseEntity.ok()
+                    .eTag(content.etag())
+                    .cacheControl(cacheControl)
+                    .contentType(MediaType.parseMediaType(content.contentType()))
+                    .body(content.resource());
+        }
+        if (content.uri() == null || !content.uri().startsWith("http")) {
+            throw new ResourceNotFoundException("File content not found: " + id + "/" + variant);
+        }
+        return ResponseEntity.status(HttpStatus.FOUND)
+                .location(URI.create(content.uri()))
+                .eTag(content.etag())
+                .cacheControl(cacheControl)
+                .build();
+    }
+
+    /**
+     * Delete a file (one reference to its content)
      * DELETE /api/files/{id}
      */
     @DeleteMapping("/{id}")
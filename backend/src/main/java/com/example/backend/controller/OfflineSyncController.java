@@ -0,0 +1,44 @@
+package com.example.backend.controller;
+
+import com.example.backend.model.ApiResponse;
+import com.example.backend.model.dto.sync.OfflineSyncRequestDTO;
+import com.example.backend.model.dto.sync.OfflineSyncResponseDTO;
+import com.example.backend.service.OfflineSyncService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST API Controller for replaying operations queued by the mobile app while offline
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class OfflineSyncController {
+
+    private final OfflineSyncService offlineSyncService;
+
+    /**
+     * Apply queued check-ins, check-outs, location batches and daily notes in order.
+     * Safe to resend: operations already processed are reported with replayed=true.
+     * POST /api/sync/offline-queue
+     */
+    @PostMapping("/offline-queue")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'STAFF', 'DSP')")
+    public ResponseEntity<ApiResponse<OfflineSyncResponseDTO>> syncOfflineQueue(
+            @Valid @RequestBody OfflineSyncRequestDTO request,
+            Authentication authentication) {
+        log.info("Offline sync of {} operations from device {}", request.getOperations().size(), request.getDeviceId());
+        OfflineSyncResponseDTO response = offlineSyncService.sync(authentication.getName(), request);
+        return ResponseEntity.ok(ApiResponse.success(response,
+            response.getSynced() + " operations synced, " + response.getFailed() + " failed"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.controller;
+
+import com.example.backend.model.ApiResponse;
+import com.example.backend.model.dto.payroll.PayrollPeriodDTO;
+import com.example.backend.service.PayrollService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for payroll hours
+ */
+@RestController
+@RequestMapping("/api/payroll")
+@RequiredArgsConstructor
+@Slf4j
+public class PayrollController {
+
+    private final PayrollService payrollService;
+
+    /**
+     * Regular and overtime hours per staff member and service type for the pay period containing a date
+     * 
+     * Example: GET /api/payroll/hours?date=2025-01-15
+     */
+    @GetMapping("/hours")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ApiResponse<PayrollPeriodDTO>> getPeriodHours(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate target = date != null ? date : LocalDate.now();
+        log.info("GET /api/payroll/hours - date: {}", target);
+        PayrollPeriodDTO period = payrollService.getPeriodHours(target);
+        return ResponseEntity.ok(ApiResponse.success(period, "Payroll hours retrieved successfully"));
+    }
+}
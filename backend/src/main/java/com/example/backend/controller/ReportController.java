@@ -3,10 +3,13 @@ package com.example.backend.controller;
 import com.example.backend.model.ApiResponse;
 import com.example.backend.model.dto.AuthorizationSearchDTO;
 import com.example.backend.model.dto.report.*;
+import com.example.backend.service.AuthorizationDigestService;
 import com.example.backend.service.ExcelExportService;
+import com.example.backend.service.ReportDashboardService;
 import com.example.backend.service.ReportService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -29,6 +32,7 @@ import java.util.UUID;
  * REST controller for report operations
  */
 @RestController
+@Lazy
 @RequestMapping("/api/reports/authorization")
 @RequiredArgsConstructor
 @Slf4j
@@ -37,6 +41,8 @@ public class ReportController {
 
     private final ReportService reportService;
     private final ExcelExportService excelExportService;
+    private final AuthorizationDigestService authorizationDigestService;
+    private final ReportDashboardService reportDashboardService;
 
     /**
      * Get Authorization vs Actual Used by Client report
@@ -146,6 +152,7 @@ public class ReportController {
         @RequestParam(required = false) String clientMedicaidId,
         @RequestParam(required = false) String clientSearch,
         @RequestParam(required = true) Integer expiresAfterDays,
+        @RequestParam(required = false) UUID officeId,
         @PageableDefault(size = 25) Pageable pageable
     ) {
         
@@ -160,11 +167,78 @@ public class ReportController {
         filters.setClientMedicaidId(clientMedicaidId);
         filters.setClientSearch(clientSearch);
         filters.setExpiresAfterDays(expiresAfterDays);
+        filters.setOfficeId(officeId);
         
         Page<ExpiringAuthReportDTO> result = reportService.getExpiringAuthReport(filters, pageable);
         return ResponseEntity.ok(ApiResponse.success(result, "Report generated successfully"));
     }
 
+    /**
+     * Get headline numbers for all authorization reports in one call (sub-queries run concurrently)
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<ApiResponse<AuthReportDashboardDTO>> getDashboard(
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+        @RequestParam(required = false) List<UUID> payerIds,
+        @RequestParam(required = false) List<UUID> programIds,
+        @RequestParam(required = false) List<UUID> serviceTypeIds,
+        @RequestParam(required = false) String clientMedicaidId,
+        @RequestParam(required = false) String clientSearch,
+        @RequestParam(required = false) Integer expiresAfterDays,
+        @RequestParam(required = false) UUID officeId
+    ) {
+        log.info("GET /api/reports/authorization/dashboard - fromDate: {}, toDate: {}", fromDate, toDate);
+        
+        ReportFilterDTO filters = new ReportFilterDTO();
+        filters.setFromDate(fromDate);
+        filters.setToDate(toDate);
+        filters.setPayerIds(payerIds);
+        filters.setProgramIds(programIds);
+        filters.setServiceTypeIds(serviceTypeIds);
+        filters.setClientMedicaidId(clientMedicaidId);
+        filters.setClientSearch(clientSearch);
+        filters.setExpiresAfterDays(expiresAfterDays);
+        filters.setOfficeId(officeId);
+        
+        AuthReportDashboardDTO result = reportDashboardService.getAuthorizationDashboard(filters);
+        String message = result.isComplete()
+            ? "Dashboard generated successfully"
+            : "Dashboard generated with partial results";
+        return ResponseEntity.ok(ApiResponse.success(result, message));
+    }
+
+    /**
+     * Get per-office expiring / low-remaining authorization counts from the nightly digest
+     */
+    @GetMapping("/expiring-auth/digest")
+    public ResponseEntity<ApiResponse<List<ExpiringAuthDigestSummaryDTO>>> getExpiringAuthDigest(
+        @RequestParam(required = false) UUID officeId,
+        @RequestParam(defaultValue = "30") Integer expiresAfterDays
+    ) {
+        if (expiresAfterDays <= 0) {
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.error("expiresAfterDays must be greater than 0"));
+        }
+        
+        List<ExpiringAuthDigestSummaryDTO> result = authorizationDigestService.getOfficeSummaries(officeId, expiresAfterDays);
+        return ResponseEntity.ok(ApiResponse.success(result, "Digest retrieved successfully"));
+    }
+
+    /**
+     * Force an incremental (or full) refresh of the expiring authorization digest
+     */
+    @PostMapping("/expiring-auth/digest/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> refreshExpiringAuthDigest(
+        @RequestParam(defaultValue = "false") boolean full
+    ) {
+        log.info("POST /api/reports/authorization/expiring-auth/digest/refresh - full: {}", full);
+        
+        int changed = authorizationDigestService.refreshDigest(full);
+        return ResponseEntity.ok(ApiResponse.success(changed, "Digest refreshed successfully"));
+    }
+
     /**
      * Export report to Excel
      */
@@ -180,7 +254,8 @@ public class ReportController {
         @RequestParam(required = false) List<UUID> serviceTypeIds,
         @RequestParam(required = false) String clientMedicaidId,
         @RequestParam(required = false) String clientSearch,
-        @RequestParam(required = false) Integer expiresAfterDays
+        @RequestParam(required = false) Integer expiresAfterDays,
+        @RequestParam(required = false) UUID officeId
     ) {
         log.info("GET /api/reports/authorization/{}/export - fromDate: {}, toDate: {}, expiresAfterDays: {}", reportType, fromDate, toDate, expiresAfterDays);
         
@@ -198,6 +273,7 @@ public class ReportController {
             if (expiresAfterDays != null) {
                 filters.setExpiresAfterDays(expiresAfterDays);
             }
+            filters.setOfficeId(officeId);
             
             // Fetch all data without pagination for export
             Pageable unpaged = Pageable.unpaged();
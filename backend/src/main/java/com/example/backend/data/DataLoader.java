@@ -1,14 +1,21 @@
 package com.example.backend.data;
 
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import com.example.backend.config.properties.SeedProperties;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Main DataLoader that orchestrates all data loading operations
+ * Main DataLoader that orchestrates all data loading operations.
+ * Loaders run concurrently where they do not depend on each other (see SeedPipeline).
+ * With app.seed.mode=command (the seed profile) it runs without a web server and exits when done:
+ * java -jar backend.jar --spring.profiles.active=seed
  */
 @Component
 @Order(1)
@@ -23,38 +30,45 @@ public class DataLoader implements CommandLineRunner {
     private final PatientDataLoader patientDataLoader;
     private final MedicationDataLoader medicationDataLoader;
     private final HouseDataLoader houseDataLoader;
+    private final SeedProperties seedProperties;
+    private final ConfigurableApplicationContext applicationContext;
 
     @Override
     public void run(String... args) throws Exception {
+        if (seedProperties.getMode() == SeedProperties.Mode.OFF) {
+            log.info("Data initialization skipped (app.seed.mode=off)");
+            return;
+        }
         log.info("Starting data initialization...");
 
+        boolean failed = false;
         try {
-            // Load core data first (Permissions, Roles)
-            coreDataLoader.loadData();
-            
-            // Load offices
-            officeDataLoader.loadData();
-            
-            // Load role-permission mappings
-            rolePermissionDataLoader.loadData();
-            
-            // Load users and assign them to roles and offices
-            userDataLoader.loadData();
-
-            // Load patient data
-            patientDataLoader.loadData();
-
-            // Load medication data
-            medicationDataLoader.loadData();
-
-            // Load house data and assign patients
-            houseDataLoader.loadData();
-            
+            new SeedPipeline()
+                // Core data (Permissions, Roles, Service types) and offices are independent
+                .step("core", coreDataLoader::loadData)
+                .step("offices", officeDataLoader::loadData)
+                // Role-permission mappings need roles and permissions
+                .step("role-permissions", rolePermissionDataLoader::loadData, "core")
+                // Users are assigned to roles and offices
+                .step("users", userDataLoader::loadData, "role-permissions", "offices")
+                // Patients need offices and service types
+                .step("patients", patientDataLoader::loadData, "core", "offices")
+                .step("medications", medicationDataLoader::loadData, "patients")
+                // Houses take patients with residential authorization
+                .step("houses", houseDataLoader::loadData, "patients")
+                .run();
         } catch (Exception e) {
+            failed = true;
             log.info("Error during data initialization: {}", e.getMessage());
             log.debug("Full stack trace:", e);
             // Don't throw exception to prevent application startup failure
             // throw e;
         }
+
+        if (seedProperties.getMode() == SeedProperties.Mode.COMMAND) {
+            int exitCode = failed ? 1 : 0;
+            log.info("Seeding finished, exiting with code {}", exitCode);
+            System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+        }
     }
 }
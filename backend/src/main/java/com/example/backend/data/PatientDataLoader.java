@@ -3,13 +3,15 @@ package com.example.backend.data;
 import java.math.BigDecimal;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.springframework.stereotype.Component;
 
+import com.example.backend.config.properties.SeedProperties;
 import com.example.backend.model.entity.Address;
 import com.example.backend.model.entity.Authorization;
 import com.example.backend.model.entity.ISP;
@@ -38,6 +40,11 @@ import com.github.javafaker.Faker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Loads demo patients with their addresses, contacts, payers, programs, services, authorizations and ISPs.
+ * Patients are split into app.seed.threads slices; each slice is generated on its own thread and its tables
+ * are streamed with COPY as soon as their parent tables are in, so slices and sibling tables load concurrently.
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -49,14 +56,16 @@ public class PatientDataLoader {
     private final ServiceTypeRepository serviceTypeRepository;
     private final OfficeRepository officeRepository;
     private final BulkInsertService bulkInsertService;
+    private final SeedProperties seedProperties;
 
 
     public void loadData() {    
         long patientCount = patientRepository.count();
         long officeCount = officeRepository.count();
         if (patientCount == 0 && officeCount > 0) {
-            log.info("Loading patient data...");
-            Faker faker = new Faker();
+            int total = seedProperties.getPatients();
+            int sliceCount = Math.min(seedProperties.getThreads(), total);
+            log.info("Loading {} patients in {} slices...", total, sliceCount);
             Office office = officeRepository.findAll().get(0);
             
             // Load programs first
@@ -64,27 +73,30 @@ public class PatientDataLoader {
             
             // Load payers matching programs (ODP -> PAODP, etc.)
             List<Payer> payers = loadPayerData(programs);
-            
-            // Load patient data
-            List<Patient> patients = loadPatientData(faker, office);
-            List<Address> addresses = loadAddressData(faker);
-            loadPatientAddressData(faker, patients, addresses);
-            loadPatientContactData(faker, patients, addresses);
-            
-            // Link patients to programs and payers
-            List<PatientPayer> patientPayers = loadPatientPayerData(faker, patients, payers);
-            loadPatientProgramData(faker, patients, programs, payers);
-            
-            // Load services and authorizations
             List<ServiceType> serviceTypes = serviceTypeRepository.findAll();
-            List<PatientService> patientServices = loadPatientServiceData(faker, patients, serviceTypes);
-            java.util.Map<java.util.UUID, java.util.List<PatientService>> patientIdToServices =
-                patientServices.stream().collect(java.util.stream.Collectors.groupingBy(ps -> ps.getPatient().getId()));
-            loadAuthorizationData(faker, patientPayers, patientIdToServices);
-            
-            // Load ISP data
-            List<ISP> isps = loadIspData(faker, patients);
-            loadIspGoalData(faker, isps);
+
+            UniqueKeys keys = new UniqueKeys();
+            PatientSlice[] slices = new PatientSlice[sliceCount];
+            SeedPipeline pipeline = new SeedPipeline();
+            for (int k = 0; k < sliceCount; k++) {
+                int slice = k;
+                int size = total / sliceCount + (k < total % sliceCount ? 1 : 0);
+                pipeline
+                    .step("generate-" + k, () -> slices[slice] = generateSlice(size, office, programs, payers, serviceTypes, keys))
+                    .step("patient-" + k, () -> bulkInsertService.bulkInsertPatients(slices[slice].patients()), "generate-" + k)
+                    .step("address-" + k, () -> bulkInsertService.bulkInsertAddresses(slices[slice].addresses()), "generate-" + k)
+                    .step("patient_address-" + k, () -> bulkInsertService.bulkInsertPatientAddresses(slices[slice].patientAddresses()),
+                        "patient-" + k, "address-" + k)
+                    .step("patient_contact-" + k, () -> bulkInsertService.bulkInsertPatientContacts(slices[slice].contacts()), "patient-" + k)
+                    .step("patient_payer-" + k, () -> bulkInsertService.bulkInsertPatientPayers(slices[slice].patientPayers()), "patient-" + k)
+                    .step("patient_program-" + k, () -> bulkInsertService.bulkInsertPatientPrograms(slices[slice].patientPrograms()), "patient-" + k)
+                    .step("patient_service-" + k, () -> bulkInsertService.bulkInsertPatientServices(slices[slice].patientServices()), "patient-" + k)
+                    .step("isp-" + k, () -> bulkInsertService.bulkInsertISPs(slices[slice].isps()), "patient-" + k)
+                    .step("authorizations-" + k, () -> bulkInsertService.bulkInsertAuthorizations(slices[slice].authorizations()),
+                        "patient_payer-" + k, "patient_service-" + k)
+                    .step("isp_goal-" + k, () -> bulkInsertService.bulkInsertISPGoals(slices[slice].ispGoals()), "isp-" + k);
+            }
+            pipeline.run();
             
             log.info("Patient data loaded successfully.");
         } else {
@@ -94,14 +106,40 @@ public class PatientDataLoader {
         }
     }
 
-    private List<Patient> loadPatientData(Faker faker, Office office) {
-        List<Patient> patients = new ArrayList<>();
-        Set<String> usedClientIds = new HashSet<>();
-        Set<String> usedMedicaidIds = new HashSet<>();
-        Set<String> usedSsns = new HashSet<>();
+    /**
+     * Generate one slice of patients and all their dependent rows; runs on its own thread with its own Faker
+     */
+    private PatientSlice generateSlice(int size, Office office, List<Program> programs, List<Payer> payers,
+                                       List<ServiceType> serviceTypes, UniqueKeys keys) {
+        Faker faker = new Faker();
+        List<Patient> patients = loadPatientData(faker, office, size, keys);
+        List<Address> addresses = loadAddressData(faker, size);
+        List<PatientAddress> patientAddresses = loadPatientAddressData(faker, patients, addresses);
+        List<PatientContact> contacts = loadPatientContactData(faker, patients);
+
+        // Link patients to programs and payers
+        List<PatientPayer> patientPayers = loadPatientPayerData(faker, patients, payers);
+        List<PatientProgram> patientPrograms = loadPatientProgramData(faker, patients, programs, payers);
+
+        // Services and authorizations
+        List<PatientService> patientServices = loadPatientServiceData(faker, patients, serviceTypes);
+        java.util.Map<java.util.UUID, java.util.List<PatientService>> patientIdToServices =
+            patientServices.stream().collect(java.util.stream.Collectors.groupingBy(ps -> ps.getPatient().getId()));
+        List<Authorization> authorizations = loadAuthorizationData(faker, patientPayers, patientIdToServices, keys);
+
+        // ISP data
+        List<ISP> isps = loadIspData(faker, patients);
+        List<ISPGoal> ispGoals = loadIspGoalData(faker, isps);
+
+        return new PatientSlice(patients, addresses, patientAddresses, contacts, patientPayers, patientPrograms,
+            patientServices, authorizations, isps, ispGoals);
+    }
+
+    private List<Patient> loadPatientData(Faker faker, Office office, int count, UniqueKeys keys) {
+        List<Patient> patients = new ArrayList<>(count);
         
-        log.info("Generating 1000 patients...");
-        for (int i = 0; i < 1000; i++) {
+        log.info("Generating {} patients...", count);
+        for (int i = 0; i < count; i++) {
             Patient patient = new Patient();
             // Set UUID manually for bulk insert
             patient.setId(java.util.UUID.randomUUID());
@@ -116,16 +154,14 @@ public class PatientDataLoader {
             String ssn;
             do {
                 ssn = faker.idNumber().ssnValid();
-            } while (usedSsns.contains(ssn));
-            usedSsns.add(ssn);
+            } while (!keys.ssns().add(ssn));
             patient.setSsn(ssn);
             
             // Generate unique client_id
             String clientId;
             do {
                 clientId = faker.numerify("######");
-            } while (usedClientIds.contains(clientId));
-            usedClientIds.add(clientId);
+            } while (!keys.clientIds().add(clientId));
             patient.setClientId(clientId);
             
             // Generate unique agency_id
@@ -135,8 +171,7 @@ public class PatientDataLoader {
             String medicaidId;
             do {
                 medicaidId = faker.numerify("#########");
-            } while (usedMedicaidIds.contains(medicaidId));
-            usedMedicaidIds.add(medicaidId);
+            } while (!keys.medicaidIds().add(medicaidId));
             patient.setMedicaidId(medicaidId);
             
             patient.setPrimaryLanguage("English");
@@ -151,23 +186,14 @@ public class PatientDataLoader {
             }
             patient.setOffice(office);
             patients.add(patient);
-            
-            // Log progress every 20 patients
-            if ((i + 1) % 20 == 0) {
-                log.info("Generated {} patients...", i + 1);
-            }
         }
         
-        // Bulk insert patients using JDBC batch processing for maximum performance
-        log.info("Bulk inserting 100 patients to database using JDBC batch processing...");
-        bulkInsertService.bulkInsertPatients(patients);
-        
         return patients;
     }
 
-    private List<Address> loadAddressData(Faker faker) {
-        List<Address> addresses = new ArrayList<>();
-        log.info("Generating 100 addresses with GPS coordinates...");
+    private List<Address> loadAddressData(Faker faker, int count) {
+        List<Address> addresses = new ArrayList<>(count);
+        log.info("Generating {} addresses with GPS coordinates...", count);
         
         // Define GPS coordinates for different districts in Ho Chi Minh City
         double[][] districtCenters = {
@@ -183,8 +209,8 @@ public class PatientDataLoader {
             {10.741139, 106.632631}   // District 6
         };
 
-        for (int i = 0; i < 100; i++) {
-            int districtIdx = i / 10; // 10 addresses per district
+        for (int i = 0; i < count; i++) {
+            int districtIdx = i % districtCenters.length; // spread evenly across districts
             double baseLat = districtCenters[districtIdx][0];
             double baseLng = districtCenters[districtIdx][1];
             
@@ -207,13 +233,10 @@ public class PatientDataLoader {
             addresses.add(address);
         }
         
-        log.info("Bulk inserting 100 addresses to database...");
-        bulkInsertService.bulkInsertAddresses(addresses);
-        
         return addresses;
     }
 
-    private void loadPatientAddressData(Faker faker, List<Patient> patients, List<Address> addresses) {
+    private List<PatientAddress> loadPatientAddressData(Faker faker, List<Patient> patients, List<Address> addresses) {
         List<PatientAddress> patientAddresses = new ArrayList<>();
         log.info("Linking {} patients to addresses with GPS coordinates...", patients.size());
         for (int i = 0; i < patients.size(); i++) {
@@ -249,13 +272,11 @@ public class PatientDataLoader {
             patientAddress.setIsMain(true);
             patientAddresses.add(patientAddress);
         }
-        
-        // Bulk insert patient addresses using JDBC batch processing for maximum performance
-        log.info("Bulk inserting {} patient-address links with GPS coordinates to database using JDBC batch processing...", patientAddresses.size());
-        bulkInsertService.bulkInsertPatientAddresses(patientAddresses);
+
+        return patientAddresses;
     }
 
-    private void loadPatientContactData(Faker faker, List<Patient> patients, List<Address> addresses) {
+    private List<PatientContact> loadPatientContactData(Faker faker, List<Patient> patients) {
         List<PatientContact> patientContacts = new ArrayList<>();
         log.info("Generating {} patient contacts...", patients.size());
         for (int i = 0; i < patients.size(); i++) {
@@ -271,15 +292,9 @@ public class PatientDataLoader {
             contact.setLine2(faker.random().nextBoolean() ? faker.address().secondaryAddress() : null);
             contact.setIsPrimary(true);
             patientContacts.add(contact);
-            
-            if ((i + 1) % 100 == 0) {
-                log.info("Generated {} contacts...", i + 1);
-            }
         }
-        
-        // Bulk insert patient contacts using JDBC batch processing for maximum performance
-        log.info("Bulk inserting {} patient contacts to database using JDBC batch processing...", patientContacts.size());
-        bulkInsertService.bulkInsertPatientContacts(patientContacts);
+
+        return patientContacts;
     }
 
     private List<Payer> loadPayerData(List<Program> programs) {
@@ -346,15 +361,11 @@ public class PatientDataLoader {
             patientPayer.setClientPayerId(patient.getMedicaidId());
             patientPayers.add(patientPayer);
         }
-        
-        // Bulk insert patient payers using JDBC batch processing for maximum performance
-        log.info("Bulk inserting {} patient payers using JDBC batch processing...", patientPayers.size());
-        bulkInsertService.bulkInsertPatientPayers(patientPayers);
-        
+
         return patientPayers;
     }
 
-    private void loadPatientProgramData(Faker faker, List<Patient> patients, List<Program> programs, List<Payer> payers) {
+    private List<PatientProgram> loadPatientProgramData(Faker faker, List<Patient> patients, List<Program> programs, List<Payer> payers) {
         List<PatientProgram> patientPrograms = new ArrayList<>();
         
         // Create a map to easily find payer by program identifier
@@ -381,10 +392,8 @@ public class PatientDataLoader {
                 selectedProgram.getProgramIdentifier(), 
                 programToPayerMap.get(selectedProgram.getProgramIdentifier()).getPayerIdentifier());
         }
-        
-        // Bulk insert patient programs using JDBC batch processing for maximum performance
-        log.info("Bulk inserting {} patient programs using JDBC batch processing...", patientPrograms.size());
-        bulkInsertService.bulkInsertPatientPrograms(patientPrograms);
+
+        return patientPrograms;
     }
 
     private List<PatientService> loadPatientServiceData(Faker faker, List<Patient> patients, List<ServiceType> serviceTypes) {
@@ -403,17 +412,14 @@ public class PatientDataLoader {
             ps.setEndDate(faker.random().nextBoolean() ? null : faker.date().future(240, java.util.concurrent.TimeUnit.DAYS).toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
             mappings.add(ps);
         }
-        
-        // Bulk insert patient services using JDBC batch processing for maximum performance
-        log.info("Bulk inserting {} patient services using JDBC batch processing...", mappings.size());
-        bulkInsertService.bulkInsertPatientServices(mappings);
-        
+
         return mappings;
     }
 
-    private void loadAuthorizationData(Faker faker, List<PatientPayer> patientPayers, java.util.Map<java.util.UUID, java.util.List<PatientService>> patientIdToServices) {
+    private List<Authorization> loadAuthorizationData(Faker faker, List<PatientPayer> patientPayers,
+                                                      java.util.Map<java.util.UUID, java.util.List<PatientService>> patientIdToServices,
+                                                      UniqueKeys keys) {
         List<Authorization> authorizations = new ArrayList<>();
-        int counter = 0;
         for (PatientPayer patientPayer : patientPayers) {
             Authorization auth = new Authorization();
             // Set UUID manually for bulk insert
@@ -427,16 +433,14 @@ public class PatientDataLoader {
                 // Skip creating authorization if no patient_service mapping exists to satisfy NOT NULL constraint
                 continue;
             }
-            auth.setAuthorizationNo(String.format("AUTH-%05d-%d", faker.number().numberBetween(1, 99999), counter++));
+            auth.setAuthorizationNo(String.format("AUTH-%05d-%d", faker.number().numberBetween(1, 99999), keys.authorizationCounter().getAndIncrement()));
             auth.setMaxUnits(BigDecimal.valueOf(faker.number().randomDouble(2, 10, 100)));
             auth.setStartDate(faker.date().past(90, TimeUnit.DAYS).toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
             auth.setEndDate(faker.date().future(90, TimeUnit.DAYS).toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
             authorizations.add(auth);
         }
-        
-        // Bulk insert authorizations using JDBC batch processing for maximum performance
-        log.info("Bulk inserting {} authorizations using JDBC batch processing...", authorizations.size());
-        bulkInsertService.bulkInsertAuthorizations(authorizations);
+
+        return authorizations;
     }
 
     private List<ISP> loadIspData(Faker faker, List<Patient> patients) {
@@ -450,11 +454,7 @@ public class PatientDataLoader {
             isp.setEffectiveAt(faker.date().past(30, TimeUnit.DAYS).toInstant().atZone(ZoneId.systemDefault()).toLocalDate());
             isps.add(isp);
         }
-        
-        // Bulk insert ISPs using JDBC batch processing for maximum performance
-        log.info("Bulk inserting {} ISPs using JDBC batch processing...", isps.size());
-        bulkInsertService.bulkInsertISPs(isps);
-        
+
         return isps;
     }
 
@@ -471,12 +471,23 @@ public class PatientDataLoader {
                 ispGoals.add(goal);
             }
         }
-        
-        // Bulk insert ISP goals using JDBC batch processing for maximum performance
-        log.info("Bulk inserting {} ISP goals using JDBC batch processing...", ispGoals.size());
-        bulkInsertService.bulkInsertISPGoals(ispGoals);
-        
+
         return ispGoals;
     }
 
+    /**
+     * Business keys that must stay unique across slices generated concurrently
+     */
+    private record UniqueKeys(Set<String> ssns, Set<String> clientIds, Set<String> medicaidIds, AtomicInteger authorizationCounter) {
+
+        UniqueKeys() {
+            this(ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet(), ConcurrentHashMap.newKeySet(), new AtomicInteger());
+        }
+    }
+
+    private record PatientSlice(List<Patient> patients, List<Address> addresses, List<PatientAddress> patientAddresses,
+                                List<PatientContact> contacts, List<PatientPayer> patientPayers, List<PatientProgram> patientPrograms,
+                                List<PatientService> patientServices, List<Authorization> authorizations, List<ISP> isps,
+                                List<ISPGoal> ispGoals) {
+    }
 }
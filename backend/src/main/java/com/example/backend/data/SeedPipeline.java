@@ -0,0 +1,71 @@
+package com.example.backend.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs seeding steps concurrently, each one as soon as the steps it depends on have finished.
+ * Steps run on virtual threads, so the real concurrency limit is the connection pool.
+ * A failed step fails every step that depends on it; run() waits for all steps and rethrows the first failure.
+ */
+@Slf4j
+public class SeedPipeline {
+
+    private final Map<String, Step> steps = new LinkedHashMap<>();
+
+    public SeedPipeline step(String name, Runnable action, String... dependsOn) {
+        for (String dependency : dependsOn) {
+            if (!steps.containsKey(dependency)) {
+                throw new IllegalArgumentException("Seed step '" + name + "' depends on unknown step '" + dependency + "'");
+            }
+        }
+        if (steps.putIfAbsent(name, new Step(action, dependsOn)) != null) {
+            throw new IllegalArgumentException("Duplicate seed step '" + name + "'");
+        }
+        return this;
+    }
+
+    public void run() {
+        long start = System.currentTimeMillis();
+        Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Steps are added after their dependencies, so every dependency future exists already
+            steps.forEach((name, step) -> {
+                CompletableFuture<?>[] dependencies = new CompletableFuture<?>[step.dependsOn().length];
+                for (int i = 0; i < dependencies.length; i++) {
+                    dependencies[i] = futures.get(step.dependsOn()[i]);
+                }
+                futures.put(name, CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                    long stepStart = System.currentTimeMillis();
+                    step.action().run();
+                    log.debug("Seed step {} finished in {} ms", name, System.currentTimeMillis() - stepStart);
+                }, executor));
+            });
+
+            // Joined in step order; dependents fail with their dependency's exception, so the first one is a root cause
+            RuntimeException failure = null;
+            for (CompletableFuture<Void> future : futures.values()) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        log.info("Seeded {} steps in {} ms", steps.size(), System.currentTimeMillis() - start);
+    }
+
+    private record Step(Runnable action, String[] dependsOn) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Compact daily note for list pages: no signatures, checklist or meal info, and only the start of the content.
+ * The full note is available from GET /api/daily-notes/{id}.
+ */
+@Data
+@NoArgsConstructor
+public class DailyNoteSummaryDTO {
+
+    private UUID id;
+    private UUID serviceDeliveryId;
+    private UUID patientId;
+    private String patientName;
+    private UUID staffId;
+    private String staffName;
+    private String contentPreview; // first 200 characters of content
+    private Boolean patientSigned;
+    private Boolean staffSigned;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * Constructor for JPQL projection queries
+     */
+    public DailyNoteSummaryDTO(UUID id, UUID serviceDeliveryId, UUID patientId, String patientFirstName, String patientLastName,
+                               UUID staffId, String staffFirstName, String staffLastName, String contentPreview,
+                               Boolean patientSigned, Boolean staffSigned, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.serviceDeliveryId = serviceDeliveryId;
+        this.patientId = patientId;
+        this.patientName = patientId != null ? patientFirstName + " " + patientLastName : null;
+        this.staffId = staffId;
+        this.staffName = staffId != null ? staffFirstName + " " + staffLastName : null;
+        this.contentPreview = contentPreview;
+        this.patientSigned = patientSigned;
+        this.staffSigned = staffSigned;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
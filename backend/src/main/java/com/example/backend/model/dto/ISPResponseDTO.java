@@ -37,5 +37,7 @@ public class ISPResponseDTO {
         private String mimeType;
         private Long sizeBytes;
         private String storageUri;
+        private String uploadStatus;
+        private String thumbnailUri; // GET /api/files/{id}/variants/thumbnail, null for PDFs
     }
 }
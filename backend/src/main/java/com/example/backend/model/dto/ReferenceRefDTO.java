@@ -0,0 +1,22 @@
+package com.example.backend.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Cached identity of a reference data row (service type, program, payer, role).
+ * Use the repository's getReferenceById(id) when an entity is needed for an association.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReferenceRefDTO {
+
+    private UUID id;
+    private String code;
+    private String name;
+    private boolean active;
+}
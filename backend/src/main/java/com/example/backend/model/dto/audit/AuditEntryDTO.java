@@ -0,0 +1,34 @@
+package com.example.backend.model.dto.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One change in a patient's or staff member's audit timeline
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEntryDTO {
+
+    private UUID id;
+
+    private OffsetDateTime createdAt;
+
+    private String action; // CREATE, UPDATE, DELETE
+
+    private String record; // changed row when it is not the patient / staff row itself, e.g. PatientAddress
+
+    private UUID recordId;
+
+    private String actor; // email of the user who made the change; null for system changes
+
+    private Map<String, Object> before; // changed properties only
+
+    private Map<String, Object> after;
+}
@@ -0,0 +1,18 @@
+package com.example.backend.model.dto.audit;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * audit_log row of an entity history page; the jsonb columns come back as text
+ */
+public interface AuditEntryProjection {
+    UUID getId();
+    OffsetDateTime getCreatedAt();
+    String getModuleCode();
+    String getAction();
+    String getActor();
+    String getBeforeState();
+    String getAfterState();
+    String getMetadata();
+}
@@ -0,0 +1,20 @@
+package com.example.backend.model.dto.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of an entity's audit timeline, newest first
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditHistoryDTO {
+
+    private List<AuditEntryDTO> items;
+
+    private String nextCursor; // pass as "before" for the next (older) page; null on the last page
+}
@@ -0,0 +1,18 @@
+package com.example.backend.model.dto.billing;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection for an approved, not yet billed service delivery
+ */
+public interface BillableDeliveryProjection {
+    UUID getDeliveryId();
+    UUID getPatientId();
+    UUID getOfficeId();
+    UUID getStaffId();
+    UUID getServiceTypeId();
+    LocalDate getServiceDate();
+    Integer getUnits();
+    Double getTotalHours();
+}
@@ -0,0 +1,18 @@
+package com.example.backend.model.dto.billing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection for a rate entry together with its rate card effective window
+ */
+public interface BillingRateProjection {
+    UUID getServiceTypeId();
+    UUID getStaffId();
+    UUID getPatientId();
+    BigDecimal getRate();
+    String getPayBasis();
+    LocalDate getEffectiveAt();
+    LocalDate getExpiresAt();
+}
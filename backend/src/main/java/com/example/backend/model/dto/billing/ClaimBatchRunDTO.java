@@ -0,0 +1,33 @@
+package com.example.backend.model.dto.billing;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for a claim batch run
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimBatchRunDTO {
+
+    private UUID id;
+    private UUID payerId;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private String status;
+    private Integer chunksCommitted;
+    private Integer deliveriesBilled;
+    private Integer deliveriesSkipped;
+    private Integer claimsCreated;
+    private BigDecimal totalAmount;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
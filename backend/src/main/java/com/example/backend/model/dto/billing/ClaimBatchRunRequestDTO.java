@@ -0,0 +1,27 @@
+package com.example.backend.model.dto.billing;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Request DTO for starting a claim batch run
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimBatchRunRequestDTO {
+
+    @NotNull(message = "Payer ID is required")
+    private UUID payerId;
+
+    @NotNull(message = "Period start is required")
+    private LocalDate periodStart;
+
+    @NotNull(message = "Period end is required")
+    private LocalDate periodEnd;
+}
@@ -0,0 +1,17 @@
+package com.example.backend.model.dto.billing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection for a staff pay rate row
+ */
+public interface StaffPayRateProjection {
+    UUID getStaffId();
+    UUID getServiceTypeId();
+    BigDecimal getHourlyRate();
+    String getPayBasis();
+    LocalDate getEffectiveAt();
+    LocalDate getExpiresAt();
+}
@@ -0,0 +1,14 @@
+package com.example.backend.model.dto.payroll;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection for worked hours of one staff member, service type and day
+ */
+public interface PayrollDailyHoursProjection {
+    UUID getStaffId();
+    UUID getServiceTypeId();
+    LocalDate getWorkDate();
+    Double getHours();
+}
@@ -0,0 +1,29 @@
+package com.example.backend.model.dto.payroll;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Regular and overtime hours of one staff member and service type in a pay period
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollHoursDTO {
+
+    private UUID staffId;
+    private String employeeId;
+    private String staffName;
+    private UUID serviceTypeId;
+    private String serviceTypeName;
+    private BigDecimal regularHours;
+    private BigDecimal overtimeHours;
+
+    public BigDecimal getTotalHours() {
+        return regularHours.add(overtimeHours);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.backend.model.dto.payroll;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projection for stored hours of a closed pay period
+ */
+public interface PayrollHoursRowProjection {
+    UUID getStaffId();
+    UUID getServiceTypeId();
+    BigDecimal getRegularHours();
+    BigDecimal getOvertimeHours();
+}
@@ -0,0 +1,25 @@
+package com.example.backend.model.dto.payroll;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Pay period with its aggregated hours
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PayrollPeriodDTO {
+
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private boolean closed;
+    private List<String> overtimeRules;
+    private LocalDateTime computedAt;
+    private List<PayrollHoursDTO> hours;
+}
@@ -0,0 +1,31 @@
+package com.example.backend.model.dto.report;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for the authorization reports dashboard headline numbers.
+ * A null count means that section did not finish within the dashboard time budget
+ * (it is then listed in incompleteSections).
+ */
+@Data
+@NoArgsConstructor
+public class AuthReportDashboardDTO {
+
+    private Long authVsActualCount;
+    private Long clientsWithoutAuthCount;
+    private Long expiringAuthCount;
+    private Long lowRemainingCount;
+
+    private boolean complete = true;
+    private List<String> incompleteSections = new ArrayList<>();
+    private long elapsedMs;
+
+    public void markIncomplete(String section) {
+        this.complete = false;
+        this.incompleteSections.add(section);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.backend.model.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * DTO for per-office expiring / low-remaining authorization digest
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExpiringAuthDigestSummaryDTO {
+
+    private UUID officeId;
+    private String officeName;
+    private long expiringCount;
+    private long lowRemainingCount;
+    private LocalDate nextExpiration;
+}
@@ -0,0 +1,15 @@
+package com.example.backend.model.dto.report;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projection interface for per-office expiring authorization digest summaries
+ */
+public interface ExpiringAuthDigestSummaryProjection {
+    UUID getOfficeId();
+    String getOfficeName();
+    Long getExpiringCount();
+    Long getLowRemainingCount();
+    LocalDate getNextExpiration();
+}
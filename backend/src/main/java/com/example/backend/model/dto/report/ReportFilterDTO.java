@@ -40,5 +40,8 @@ public class ReportFilterDTO {
     
     // Expires after days (for expiring auth report)
     private Integer expiresAfterDays;
+    
+    // Office filter (for expiring auth report, served from the per-office digest)
+    private UUID officeId;
 }
 
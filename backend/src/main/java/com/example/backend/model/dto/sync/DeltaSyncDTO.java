@@ -0,0 +1,27 @@
+package com.example.backend.model.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of changes since a client watermark
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeltaSyncDTO<T> {
+
+    private List<T> items; // created or changed rows, to upsert by id
+
+    private List<UUID> deletedIds; // rows that left the scope since the watermark
+
+    private String watermark; // opaque, pass as "since" on the next call
+
+    private boolean hasMore; // more changes are waiting, call again right away with the new watermark
+
+    private boolean reset; // full sync: replace the local copy instead of merging into it
+}
@@ -0,0 +1,45 @@
+package com.example.backend.model.dto.sync;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One operation queued on a device while offline
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineOperationDTO {
+
+    /**
+     * Generated by the device when the operation is queued; sending it again is a no-op
+     */
+    @NotNull(message = "Operation ID is required")
+    private UUID operationId;
+
+    /**
+     * check_in, check_out, location_batch or daily_note
+     */
+    @NotBlank(message = "Operation type is required")
+    private String operationType;
+
+    /**
+     * Body of the matching online endpoint (check-in/check-out request, location batch, daily note request)
+     */
+    @NotNull(message = "Payload is required")
+    private Map<String, Object> payload = new HashMap<>();
+
+    /**
+     * When the operation was captured on the device; becomes the check-in/check-out time. Must lie within
+     * app.sync.offline.max-operation-age before the sync and not in the future.
+     */
+    private LocalDateTime queuedAt;
+}
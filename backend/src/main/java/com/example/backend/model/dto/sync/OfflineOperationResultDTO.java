@@ -0,0 +1,29 @@
+package com.example.backend.model.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outcome of one offline operation
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineOperationResultDTO {
+
+    private UUID operationId;
+
+    private String status; // synced, failed
+
+    private String errorMessage;
+
+    private UUID resultId; // id of the check event's service delivery, location batch's service delivery or created daily note
+
+    private LocalDateTime syncedAt;
+
+    private boolean replayed; // already processed by an earlier sync, nothing was applied this time
+}
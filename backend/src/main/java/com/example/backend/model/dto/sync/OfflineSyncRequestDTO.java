@@ -0,0 +1,27 @@
+package com.example.backend.model.dto.sync;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request DTO for syncing a device's offline queue, operations in the order they were queued
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineSyncRequestDTO {
+
+    private String deviceId;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = 500, message = "At most 500 operations per batch")
+    @Valid
+    private List<OfflineOperationDTO> operations = new ArrayList<>();
+}
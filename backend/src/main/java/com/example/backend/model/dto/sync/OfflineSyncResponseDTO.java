@@ -0,0 +1,22 @@
+package com.example.backend.model.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for an offline queue sync, one result per operation in request order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OfflineSyncResponseDTO {
+
+    private int synced;
+
+    private int failed;
+
+    private List<OfflineOperationResultDTO> results;
+}
@@ -0,0 +1,29 @@
+package com.example.backend.model.dto.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Patient as synced to the mobile app of a DSP scheduled with them
+ */
+public interface PatientChangeProjection extends SyncChangeProjection {
+    String getClientId();
+    String getMedicaidId();
+    String getFirstName();
+    String getLastName();
+    LocalDate getDob();
+    String getGender();
+    String getPrimaryLanguage();
+    String getStatus();
+
+    @JsonIgnore
+    OffsetDateTime getDeletedAt();
+
+    @Override
+    default boolean isRemoved() {
+        return getDeletedAt() != null;
+    }
+}
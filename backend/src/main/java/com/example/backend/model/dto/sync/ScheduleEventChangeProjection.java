@@ -0,0 +1,19 @@
+package com.example.backend.model.dto.sync;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Schedule event as synced to the mobile app; patient details come from the patient delta
+ */
+public interface ScheduleEventChangeProjection extends SyncChangeProjection {
+    UUID getPatientId();
+    LocalDate getEventDate();
+    OffsetDateTime getStartAt();
+    OffsetDateTime getEndAt();
+    String getEventCode();
+    String getStatus();
+    Integer getPlannedUnits();
+    String getComment();
+}
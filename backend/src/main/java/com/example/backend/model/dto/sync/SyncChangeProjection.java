@@ -0,0 +1,22 @@
+package com.example.backend.model.dto.sync;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Common part of the delta sync row projections: identity and the keyset position of the change
+ */
+public interface SyncChangeProjection {
+    UUID getId();
+    OffsetDateTime getChangedAt();
+
+    /**
+     * Rows that are still in scope but soft deleted are reported as deleted IDs instead of items
+     */
+    @JsonIgnore
+    default boolean isRemoved() {
+        return false;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.model.dto.sync;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Service delivery (visit) as synced to the mobile app
+ */
+public interface VisitChangeProjection extends SyncChangeProjection {
+    UUID getScheduleEventId();
+    UUID getPatientId();
+    OffsetDateTime getStartAt();
+    OffsetDateTime getEndAt();
+    Integer getUnits();
+    String getStatus();
+    String getApprovalStatus();
+    Double getTotalHours();
+    Boolean getCancelled();
+}
@@ -12,10 +12,14 @@ import java.util.Map;
 import java.util.UUID;
 
 /**
- * Audit log entity for tracking behavior for compliance (HIPAA, audit SRS 3.1)
+ * Audit log entity for tracking behavior for compliance (HIPAA, audit SRS 3.1).
+ * The table is partitioned by month on created_at, so its primary key is (id, created_at); id alone is still unique.
  */
 @Entity
-@Table(name = "audit_log")
+@Table(name = "audit_log", indexes = {
+    @Index(name = "idx_audit_log_module", columnList = "module_code, created_at DESC"),
+    @Index(name = "idx_audit_log_entity", columnList = "entity_name, entity_id, created_at DESC, id DESC")
+})
 @Data
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @NoArgsConstructor
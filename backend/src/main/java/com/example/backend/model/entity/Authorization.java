@@ -18,7 +18,9 @@ import java.util.Map;
  * Service authorization entity for managing unit limits and consumption
  */
 @Entity
-@Table(name = "authorizations")
+@Table(name = "authorizations", indexes = {
+    @Index(name = "idx_auth_updated_at", columnList = "updated_at")
+})
 @Data
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @NoArgsConstructor
@@ -0,0 +1,72 @@
+package com.example.backend.model.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Compact per-office digest of authorization end dates and balances.
+ * Rows are maintained incrementally by the nightly digest job and read by the
+ * expiring authorization report and notifications instead of scanning authorizations.
+ */
+@Entity
+@Table(name = "authorization_digest", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"authorization_id"})
+}, indexes = {
+    @Index(name = "idx_authorization_digest_end_date", columnList = "end_date"),
+    @Index(name = "idx_authorization_digest_office_end_date", columnList = "office_id, end_date"),
+    @Index(name = "idx_authorization_digest_office_low", columnList = "office_id, low_remaining")
+})
+@Data
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+@ToString(exclude = {"authorization", "office", "patient"})
+public class AuthorizationDigest extends BaseEntity {
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "authorization_id", nullable = false)
+    @JsonIgnore
+    private Authorization authorization;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "office_id", nullable = false)
+    @JsonIgnore
+    private Office office;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "patient_id", nullable = false)
+    @JsonIgnore
+    private Patient patient;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "max_units", precision = 10, scale = 2)
+    private BigDecimal maxUnits;
+
+    @Column(name = "total_remaining", precision = 10, scale = 2)
+    private BigDecimal totalRemaining;
+
+    @Column(name = "low_remaining", nullable = false)
+    private Boolean lowRemaining = false;
+
+    @Column(name = "source_updated_at")
+    private LocalDateTime sourceUpdatedAt;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    // Helper methods
+    public boolean isExpiringWithin(int days) {
+        if (endDate == null) return false;
+        LocalDate today = LocalDate.now();
+        return !endDate.isBefore(today) && !endDate.isAfter(today.plusDays(days));
+    }
+}
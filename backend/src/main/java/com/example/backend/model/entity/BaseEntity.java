@@ -18,7 +18,7 @@ import java.util.UUID;
 public abstract class BaseEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7Id
     @Column(name = "id", updatable = false, nullable = false)
     @EqualsAndHashCode.Include
     private UUID id;
@@ -18,7 +18,10 @@ import java.util.Set;
  * Check event entity for EVV check-in/check-out GPS tracking
  */
 @Entity
-@Table(name = "check_event")
+@Table(name = "check_event", indexes = {
+    @Index(name = "idx_check_event_type_time", columnList = "event_type, occurred_at"),
+    @Index(name = "idx_check_event_delivery_type", columnList = "service_delivery_id, event_type")
+})
 @Data
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @NoArgsConstructor
@@ -0,0 +1,93 @@
+package com.example.backend.model.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Claim batch run entity.
+ * Tracks one billing run for a payer and service date range, and stores the keyset
+ * checkpoint of the last committed chunk so an interrupted run can be resumed.
+ */
+@Entity
+@Table(name = "claim_batch_run", indexes = {
+    @Index(name = "idx_claim_batch_run_payer_status", columnList = "payer_id, status")
+})
+@Data
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+@ToString(exclude = {"payer"})
+public class ClaimBatchRun extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payer_id", nullable = false)
+    @JsonIgnore
+    private Payer payer;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "status", nullable = false)
+    private String status = "running"; // running, completed, failed
+
+    // Keyset checkpoint: last (patient_id, service_delivery_id) committed
+    @Column(name = "last_patient_id")
+    private UUID lastPatientId;
+
+    @Column(name = "last_delivery_id")
+    private UUID lastDeliveryId;
+
+    @Column(name = "chunks_committed", nullable = false)
+    private Integer chunksCommitted = 0;
+
+    @Column(name = "deliveries_billed", nullable = false)
+    private Integer deliveriesBilled = 0;
+
+    @Column(name = "deliveries_skipped", nullable = false)
+    private Integer deliveriesSkipped = 0;
+
+    @Column(name = "claims_created", nullable = false)
+    private Integer claimsCreated = 0;
+
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "error_message", columnDefinition = "text")
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public ClaimBatchRun(Payer payer, LocalDate periodStart, LocalDate periodEnd) {
+        this.payer = payer;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+    }
+
+    // Helper methods
+    public boolean isRunning() {
+        return "running".equals(status);
+    }
+
+    public boolean isCompleted() {
+        return "completed".equals(status);
+    }
+
+    public boolean isFailed() {
+        return "failed".equals(status);
+    }
+}
@@ -14,7 +14,9 @@ import java.time.LocalDate;
  * Claim line entity for individual claim line items
  */
 @Entity
-@Table(name = "claim_line")
+@Table(name = "claim_line", indexes = {
+    @Index(name = "idx_claim_line_service_delivery", columnList = "service_delivery_id")
+})
 @Data
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @NoArgsConstructor
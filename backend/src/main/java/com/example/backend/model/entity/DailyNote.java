@@ -83,13 +83,7 @@ public class DailyNote extends BaseEntity {
     @Column(name = "meal_info", columnDefinition = "jsonb")
     private List<Object> mealInfo = new ArrayList<>();
 
-    // Patient signature stored as base64 string (from signature pad drawing)
-    @Column(name = "patient_signature", columnDefinition = "TEXT", length = 100000)
-    private String patientSignature;
-
-    // Staff signature stored as base64 string (from signature pad drawing)
-    @Column(name = "staff_signature", columnDefinition = "TEXT", length = 100000)
-    private String staffSignature;
+    // Signature drawings (base64) live in daily_note_signature, see DailyNoteSignature
 
     public DailyNote(ServiceDelivery serviceDelivery, Staff authorStaff, String content) {
         this.serviceDelivery = serviceDelivery;
@@ -156,17 +150,17 @@ public class DailyNote extends BaseEntity {
     }
 
     /**
-     * Check if patient has provided signature
+     * Check if patient has provided signature (the drawing itself is in DailyNoteSignature)
      */
     public boolean hasPatientSignature() {
-        return patientSignature != null && !patientSignature.trim().isEmpty();
+        return isPatientSigned();
     }
 
     /**
-     * Check if staff has provided signature
+     * Check if staff has provided signature (the drawing itself is in DailyNoteSignature)
      */
     public boolean hasStaffSignature() {
-        return staffSignature != null && !staffSignature.trim().isEmpty();
+        return isStaffSigned();
     }
 
     /**
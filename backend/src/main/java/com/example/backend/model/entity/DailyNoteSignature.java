@@ -0,0 +1,62 @@
+package com.example.backend.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Signature pad drawings of a daily note (base64 images), kept out of the daily_note row
+ * so note queries and lists do not carry them. Loaded only when a single note is read.
+ */
+@Entity
+@Table(name = "daily_note_signature")
+@Data
+@NoArgsConstructor
+@ToString(exclude = {"dailyNote", "patientSignature", "staffSignature"})
+public class DailyNoteSignature {
+
+    @Id
+    @Column(name = "daily_note_id")
+    private UUID dailyNoteId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "daily_note_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private DailyNote dailyNote;
+
+    @Column(name = "patient_signature", columnDefinition = "TEXT")
+    private String patientSignature;
+
+    @Column(name = "staff_signature", columnDefinition = "TEXT")
+    private String staffSignature;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public DailyNoteSignature(DailyNote dailyNote) {
+        this.dailyNote = dailyNote;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
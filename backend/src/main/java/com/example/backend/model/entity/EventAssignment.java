@@ -18,7 +18,7 @@ import java.util.UUID;
 public class EventAssignment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7Id
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,7 +16,7 @@ import java.util.Map;
  */
 @Entity
 @Table(name = "file_object", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"sha256"})
+    @UniqueConstraint(name = "uk_file_object_office_sha256", columnNames = {"office_id", "sha256"})
 })
 @Data
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
@@ -24,6 +24,10 @@ import java.util.Map;
 @ToString(exclude = {"office", "createdByUser"})
 public class FileObject extends BaseEntity {
 
+    public static final String UPLOAD_PENDING = "pending";
+    public static final String UPLOAD_STORED = "stored";
+    public static final String UPLOAD_FAILED = "failed";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "office_id")
     @JsonIgnore
@@ -41,9 +45,18 @@ public class FileObject extends BaseEntity {
     @Column(name = "storage_uri", nullable = false)
     private String storageUri;
 
+    // Hex SHA-256 of the content; uploads of identical content share this row
     @Column(name = "sha256")
     private String sha256;
 
+    // Uploads referencing this row; the stored object is deleted with the last one
+    @Column(name = "ref_count", nullable = false, columnDefinition = "integer default 1")
+    private Integer refCount = 1;
+
+    // Content is uploaded to the storage backend in the background; storage_uri is empty until stored
+    @Column(name = "upload_status", nullable = false, columnDefinition = "text default 'stored'")
+    private String uploadStatus = UPLOAD_STORED; // pending, stored, failed
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "meta", columnDefinition = "jsonb")
     private Map<String, Object> meta = new HashMap<>();
@@ -70,6 +83,10 @@ public class FileObject extends BaseEntity {
         return mimeType != null && mimeType.startsWith("image/");
     }
 
+    public boolean isStored() {
+        return UPLOAD_STORED.equals(uploadStatus);
+    }
+
     public boolean isPdf() {
         return "application/pdf".equals(mimeType);
     }
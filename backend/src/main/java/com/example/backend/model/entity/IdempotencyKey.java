@@ -0,0 +1,64 @@
+package com.example.backend.model.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Outcome of a write request sent with an Idempotency-Key header, replayed when the same key is sent again.
+ * Rows are written with native upserts (see IdempotencyKeyRepository) and purged once expired.
+ */
+@Entity
+@Table(name = "idempotency_key", indexes = {
+    @Index(name = "idx_idempotency_key_expires", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@ToString(exclude = "responseBody")
+public class IdempotencyKey {
+
+    public static final String IN_PROGRESS = "in_progress";
+    public static final String COMPLETED = "completed";
+
+    /**
+     * SHA-256 (hex) of user, method, path and the client key
+     */
+    @Id
+    @Column(name = "key_hash", length = 64)
+    private String keyHash;
+
+    /**
+     * SHA-256 (hex) of the request body, to reject a key reused for a different request
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "status", nullable = false)
+    private String status = IN_PROGRESS;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "response_content_type")
+    private String responseContentType;
+
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isCompleted() {
+        return COMPLETED.equals(status);
+    }
+}
@@ -15,15 +15,30 @@ import java.util.Map;
 
 /**
  * Mobile notification entity for push notifications about schedules, medications, etc.
+ * Rows are the outbox of the push dispatcher: written in the transaction of the change they report,
+ * then claimed and sent by NotificationDispatcher.
  */
 @Entity
-@Table(name = "mobile_notification")
+@Table(name = "mobile_notification", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_mobile_notification_user_dedup", columnNames = {"user_id", "dedup_key"})
+}, indexes = {
+    @Index(name = "idx_mobile_notification_dispatch", columnList = "status, next_attempt_at")
+})
 @Data
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @NoArgsConstructor
 @ToString(exclude = {"user"})
 public class MobileNotification extends BaseEntity {
 
+    public static final String QUEUED = "queued";
+    public static final String SENDING = "sending";
+    public static final String SENT = "sent";
+    public static final String FAILED = "failed";
+
+    public static final String SCHEDULE_UPDATE = "schedule_update";
+    public static final String AUTHORIZATION_EXPIRING = "authorization_expiring";
+    public static final String MISSED_CHECK_OUT = "missed_check_out";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @JsonIgnore
@@ -40,7 +55,25 @@ public class MobileNotification extends BaseEntity {
     private String channel = "push";
 
     @Column(name = "status", nullable = false)
-    private String status = "queued";
+    private String status = QUEUED;
+
+    /**
+     * Producer-chosen key making an enqueue idempotent per user (e.g. one expiring notice per authorization)
+     */
+    @Column(name = "dedup_key")
+    private String dedupKey;
+
+    @Column(name = "attempts", nullable = false, columnDefinition = "integer default 0")
+    private int attempts = 0;
+
+    /**
+     * When a queued row is due, or when the claim of a sending row runs out and it may be claimed again
+     */
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "timestamptz default now()")
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
 
     @Column(name = "sent_at")
     private LocalDateTime sentAt;
@@ -53,13 +86,22 @@ public class MobileNotification extends BaseEntity {
         this.notificationType = notificationType;
     }
 
+    public MobileNotification(AppUser user, String notificationType, Map<String, Object> payload) {
+        this(user, notificationType);
+        this.payload = payload;
+    }
+
     // Helper methods
     public boolean isQueued() {
-        return "queued".equals(status);
+        return QUEUED.equals(status);
+    }
+
+    public boolean isSending() {
+        return SENDING.equals(status);
     }
 
     public boolean isSent() {
-        return "sent".equals(status);
+        return SENT.equals(status);
     }
 
     public boolean isDelivered() {
@@ -67,7 +109,7 @@ public class MobileNotification extends BaseEntity {
     }
 
     public boolean isFailed() {
-        return "failed".equals(status);
+        return FAILED.equals(status);
     }
 
     public boolean isRead() {
@@ -75,8 +117,9 @@ public class MobileNotification extends BaseEntity {
     }
 
     public void markAsSent() {
-        this.status = "sent";
+        this.status = SENT;
         this.sentAt = LocalDateTime.now();
+        this.lastError = null;
     }
 
     public void markAsDelivered() {
@@ -84,7 +127,21 @@ public class MobileNotification extends BaseEntity {
     }
 
     public void markAsFailed() {
-        this.status = "failed";
+        this.status = FAILED;
+    }
+
+    public void markAsFailed(String error) {
+        markAsFailed();
+        this.lastError = error;
+    }
+
+    /**
+     * Put back in the queue after a failed attempt, due again at the given time
+     */
+    public void scheduleRetry(String error, LocalDateTime at) {
+        this.status = QUEUED;
+        this.lastError = error;
+        this.nextAttemptAt = at;
     }
 
     public void markAsRead() {
@@ -100,7 +157,7 @@ public class MobileNotification extends BaseEntity {
     }
 
     public boolean isScheduleUpdate() {
-        return "schedule_update".equals(notificationType);
+        return SCHEDULE_UPDATE.equals(notificationType);
     }
 
     public boolean isEmergencyAlert() {
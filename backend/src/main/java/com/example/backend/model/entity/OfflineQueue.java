@@ -12,12 +12,15 @@ import lombok.ToString;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Offline queue entity for storing data when offline, sync when network available
  */
 @Entity
-@Table(name = "offline_queue")
+@Table(name = "offline_queue", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_offline_queue_user_operation", columnNames = {"user_id", "operation_id"})
+})
 @Data
 @EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
 @NoArgsConstructor
@@ -29,6 +32,13 @@ public class OfflineQueue extends BaseEntity {
     @JsonIgnore
     private AppUser user;
 
+    // Client-generated id; a second sync of the same operation is answered from this row
+    @Column(name = "operation_id")
+    private UUID operationId;
+
+    @Column(name = "device_id")
+    private String deviceId;
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "payload", columnDefinition = "jsonb")
     private Map<String, Object> payload = new HashMap<>();
@@ -45,6 +55,10 @@ public class OfflineQueue extends BaseEntity {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    // Entity the operation created or changed (service delivery, daily note)
+    @Column(name = "result_id")
+    private UUID resultId;
+
     public OfflineQueue(AppUser user, String operationType, Map<String, Object> payload) {
         this.user = user;
         this.operationType = operationType;
@@ -95,4 +109,8 @@ public class OfflineQueue extends BaseEntity {
     public boolean isDailyNoteOperation() {
         return "daily_note".equals(operationType);
     }
+
+    public boolean isLocationBatchOperation() {
+        return "location_batch".equals(operationType);
+    }
 }
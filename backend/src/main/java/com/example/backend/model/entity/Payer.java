@@ -2,6 +2,8 @@ package com.example.backend.model.entity;
 
 import com.example.backend.model.enums.PayerType;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import lombok.Data;
@@ -18,6 +20,7 @@ import java.util.Set;
  * Payer entity for payment sources (Medicaid, private pay)
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Table(name = "payer", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"payer_name"}),
     @UniqueConstraint(columnNames = {"payer_identifier"})
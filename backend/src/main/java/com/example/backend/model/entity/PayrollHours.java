@@ -0,0 +1,48 @@
+package com.example.backend.model.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+/**
+ * Frozen regular/overtime hours of a staff member and service type in a closed pay period
+ */
+@Entity
+@Immutable
+@Table(name = "payroll_hours", indexes = {
+    @Index(name = "idx_payroll_hours_period", columnList = "payroll_period_id"),
+    @Index(name = "idx_payroll_hours_staff", columnList = "staff_id")
+})
+@Data
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+@ToString(exclude = {"payrollPeriod", "staff", "serviceType"})
+public class PayrollHours extends BaseEntity {
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payroll_period_id", nullable = false)
+    @JsonIgnore
+    private PayrollPeriod payrollPeriod;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "staff_id", nullable = false)
+    @JsonIgnore
+    private Staff staff;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "service_type_id")
+    @JsonIgnore
+    private ServiceType serviceType;
+
+    @Column(name = "regular_hours", nullable = false, precision = 8, scale = 2)
+    private BigDecimal regularHours;
+
+    @Column(name = "overtime_hours", nullable = false, precision = 8, scale = 2)
+    private BigDecimal overtimeHours;
+}
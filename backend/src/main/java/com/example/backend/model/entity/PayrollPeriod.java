@@ -0,0 +1,35 @@
+package com.example.backend.model.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Closed pay period.
+ * Written once when the period closes together with its payroll_hours rows and never changed afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "payroll_period", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"period_start"})
+})
+@Data
+@EqualsAndHashCode(callSuper = true, onlyExplicitlyIncluded = true)
+@NoArgsConstructor
+@ToString
+public class PayrollPeriod extends BaseEntity {
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "overtime_rules", nullable = false)
+    private String overtimeRules;
+}
@@ -21,7 +21,7 @@ import java.util.UUID;
 public class ScheduleEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7Id
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -19,7 +19,7 @@ import java.util.UUID;
 public class ScheduleTemplate {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7Id
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
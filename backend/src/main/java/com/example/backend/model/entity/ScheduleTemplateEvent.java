@@ -23,7 +23,7 @@ import java.util.UUID;
 public class ScheduleTemplateEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7Id
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
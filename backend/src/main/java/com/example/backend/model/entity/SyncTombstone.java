@@ -0,0 +1,50 @@
+package com.example.backend.model.entity;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A row that left a DSP's mobile sync scope, because it was deleted or reassigned to another staff.
+ * Written by database triggers (see bac_hms_schema.sql) so cascades and bulk statements are covered too.
+ * Patient tombstones written for a deleted or reassigned event are candidates: the patient may still have
+ * other events with the staff.
+ */
+@Entity
+@Immutable
+@Table(name = "sync_tombstone", indexes = {
+    @Index(name = "idx_sync_tombstone_staff", columnList = "staff_id, entity_type, deleted_at")
+})
+@Data
+@NoArgsConstructor
+public class SyncTombstone {
+
+    public static final String SCHEDULE_EVENT = "schedule_event";
+    public static final String SERVICE_DELIVERY = "service_delivery";
+    public static final String PATIENT = "patient";
+
+    @Id
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "staff_id", nullable = false)
+    private UUID staffId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private OffsetDateTime deletedAt;
+}
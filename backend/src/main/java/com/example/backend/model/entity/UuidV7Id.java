@@ -0,0 +1,19 @@
+package com.example.backend.model.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a UUID {@code @Id} whose value is a monotonic, time-ordered UUIDv7 assigned by the
+ * application at persist time (see {@link com.example.backend.util.UuidV7}).
+ * Only new rows are affected; existing ids are never rewritten.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface UuidV7Id {
+}
@@ -0,0 +1,37 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.dto.audit.AuditEntryProjection;
+import com.example.backend.model.entity.AuditLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AuditLogRepository extends JpaRepository<AuditLog, UUID> {
+
+    /**
+     * Audit entries of one entity older than the keyset position (created_at, id), newest first.
+     * A range scan of idx_audit_log_entity in every partition, stopping after limit rows.
+     */
+    @Query(value = """
+        SELECT a.id AS id, a.created_at AS createdAt, a.module_code AS moduleCode, a.action AS action,
+               u.email AS actor, a.before_state::text AS beforeState, a.after_state::text AS afterState,
+               a.metadata::text AS metadata
+        FROM audit_log a
+        LEFT JOIN app_user u ON u.id = a.user_id
+        WHERE a.entity_name = :entityName AND a.entity_id = :entityId
+          AND (a.created_at, a.id) < (:beforeCreatedAt, :beforeId)
+        ORDER BY a.created_at DESC, a.id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<AuditEntryProjection> findHistory(@Param("entityName") String entityName,
+                                           @Param("entityId") UUID entityId,
+                                           @Param("beforeCreatedAt") OffsetDateTime beforeCreatedAt,
+                                           @Param("beforeId") UUID beforeId,
+                                           @Param("limit") int limit);
+}
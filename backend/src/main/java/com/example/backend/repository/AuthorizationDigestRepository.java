@@ -0,0 +1,124 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.dto.report.ExpiringAuthDigestSummaryProjection;
+import com.example.backend.model.entity.AuthorizationDigest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AuthorizationDigestRepository extends JpaRepository<AuthorizationDigest, UUID> {
+
+    /**
+     * Upsert digest rows for authorizations (or their patients) touched since the given watermark.
+     * Existing rows are only rewritten when the end date, balance or office actually changed.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO authorization_digest (
+            id, authorization_id, office_id, patient_id, end_date, max_units, total_remaining,
+            low_remaining, source_updated_at, computed_at, created_at, updated_at
+        )
+        SELECT
+            gen_random_uuid(), a.id, p.office_id, a.patient_id, a.end_date, a.max_units, a.total_remaining,
+            (a.max_units > 0 AND COALESCE(a.total_remaining, a.max_units) <= a.max_units * :lowRemainingRatio),
+            a.updated_at, NOW(), NOW(), NOW()
+        FROM authorizations a
+        INNER JOIN patient p ON a.patient_id = p.id
+        WHERE a.updated_at > :since OR p.updated_at > :since
+        ON CONFLICT (authorization_id) DO UPDATE SET
+            office_id = EXCLUDED.office_id,
+            patient_id = EXCLUDED.patient_id,
+            end_date = EXCLUDED.end_date,
+            max_units = EXCLUDED.max_units,
+            total_remaining = EXCLUDED.total_remaining,
+            low_remaining = EXCLUDED.low_remaining,
+            source_updated_at = EXCLUDED.source_updated_at,
+            computed_at = NOW(),
+            updated_at = NOW()
+        WHERE authorization_digest.end_date IS DISTINCT FROM EXCLUDED.end_date
+            OR authorization_digest.max_units IS DISTINCT FROM EXCLUDED.max_units
+            OR authorization_digest.total_remaining IS DISTINCT FROM EXCLUDED.total_remaining
+            OR authorization_digest.low_remaining IS DISTINCT FROM EXCLUDED.low_remaining
+            OR authorization_digest.office_id IS DISTINCT FROM EXCLUDED.office_id
+        """, nativeQuery = true)
+    int upsertChangedSince(
+        @Param("since") LocalDateTime since,
+        @Param("lowRemainingRatio") BigDecimal lowRemainingRatio
+    );
+
+    /**
+     * Database clock at the start of the transaction, in the session time zone like the LocalDateTime watermark.
+     * Row updated_at values are compared against it, so the watermark must not come from an application clock.
+     */
+    @Query(value = "SELECT to_char(LOCALTIMESTAMP, 'YYYY-MM-DD\"T\"HH24:MI:SS.US')", nativeQuery = true)
+    String databaseNow();
+
+    /**
+     * Transaction-scoped advisory lock so only one instance refreshes the digest at a time
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryAcquireRefreshLock(@Param("lockKey") long lockKey);
+
+    /**
+     * Remove digest rows whose authorization no longer exists
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM authorization_digest d
+        WHERE NOT EXISTS (SELECT 1 FROM authorizations a WHERE a.id = d.authorization_id)
+        """, nativeQuery = true)
+    int deleteOrphans();
+
+    /**
+     * Per-office headline numbers for expiring and low-remaining authorizations
+     */
+    @Query(value = """
+        SELECT
+            o.id as officeId,
+            o.name as officeName,
+            COUNT(*) FILTER (
+                WHERE d.end_date >= CURRENT_DATE
+                AND d.end_date <= CURRENT_DATE + CAST(:expiresAfterDays AS INTEGER) * INTERVAL '1 day'
+            ) as expiringCount,
+            COUNT(*) FILTER (
+                WHERE d.low_remaining AND (d.end_date IS NULL OR d.end_date >= CURRENT_DATE)
+            ) as lowRemainingCount,
+            MIN(d.end_date) FILTER (WHERE d.end_date >= CURRENT_DATE) as nextExpiration
+        FROM authorization_digest d
+        INNER JOIN office o ON d.office_id = o.id
+        INNER JOIN patient p ON d.patient_id = p.id
+        WHERE o.deleted_at IS NULL
+            AND p.deleted_at IS NULL
+            AND (CAST(:officeId AS uuid) IS NULL OR d.office_id = CAST(:officeId AS uuid))
+        GROUP BY o.id, o.name
+        ORDER BY o.name
+        """, nativeQuery = true)
+    List<ExpiringAuthDigestSummaryProjection> summarizeByOffice(
+        @Param("officeId") UUID officeId,
+        @Param("expiresAfterDays") Integer expiresAfterDays
+    );
+
+    /**
+     * Digest rows of one office that are expiring soon or running low, soonest first
+     */
+    @Query("""
+        SELECT d FROM AuthorizationDigest d
+        WHERE d.office.id = :officeId
+            AND d.patient.deletedAt IS NULL
+            AND ((d.endDate >= CURRENT_DATE AND d.endDate <= :expiresBefore) OR d.lowRemaining = true)
+        ORDER BY d.endDate ASC NULLS LAST
+        """)
+    List<AuthorizationDigest> findAttentionItemsByOffice(
+        @Param("officeId") UUID officeId,
+        @Param("expiresBefore") LocalDate expiresBefore
+    );
+}
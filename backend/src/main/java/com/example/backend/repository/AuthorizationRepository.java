@@ -397,7 +397,9 @@ public interface AuthorizationRepository extends JpaRepository<Authorization, UU
     );
 
     /**
-     * Expiring Authorizations Report (authorizations expiring soon)
+     * Expiring Authorizations Report (authorizations expiring soon).
+     * Candidates come from the nightly authorization_digest plus the authorizations updated since its watermark,
+     * instead of scanning every authorization; the end date and office are then checked on the live rows.
      */
     @Query(
         value = """
@@ -431,10 +433,23 @@ public interface AuthorizationRepository extends JpaRepository<Authorization, UU
                 LIMIT 1
             ) pp_latest ON TRUE
             LEFT JOIN program prog ON pp_latest.program_id = prog.id
-            WHERE p.deleted_at IS NULL
+            WHERE a.id IN (
+                    -- Expiring as of the last digest refresh, plus everything changed since (the digest may be stale)
+                    SELECT d.authorization_id FROM authorization_digest d
+                    WHERE d.end_date >= CURRENT_DATE
+                        AND d.end_date <= CURRENT_DATE + CAST(:expiresAfterDays AS INTEGER) * INTERVAL '1 day'
+                    UNION
+                    SELECT changed.id FROM authorizations changed
+                    WHERE changed.updated_at > COALESCE(
+                        (SELECT CAST(s.value AS timestamp) FROM app_setting s
+                         WHERE s.key = 'report.authorization_digest.watermark'),
+                        '-infinity')
+                )
+                AND p.deleted_at IS NULL
                 AND a.end_date IS NOT NULL
                 AND a.end_date >= CURRENT_DATE
                 AND a.end_date <= CURRENT_DATE + CAST(:expiresAfterDays AS INTEGER) * INTERVAL '1 day'
+                AND (CAST(:officeId AS uuid) IS NULL OR p.office_id = CAST(:officeId AS uuid))
                 AND (CAST(:fromDate AS DATE) IS NULL OR a.start_date >= CAST(:fromDate AS DATE))
                 AND (CAST(:toDate AS DATE) IS NULL OR a.end_date <= CAST(:toDate AS DATE))
                 AND (COALESCE(:payerIds, ARRAY[]::uuid[]) = ARRAY[]::uuid[] OR payer.id = ANY(:payerIds))
@@ -457,6 +472,7 @@ public interface AuthorizationRepository extends JpaRepository<Authorization, UU
         @Param("clientMedicaidId") String clientMedicaidId,
         @Param("clientSearch") String clientSearch,
         @Param("expiresAfterDays") Integer expiresAfterDays,
+        @Param("officeId") UUID officeId,
         @Param("limit") int limit,
         @Param("offset") int offset
     );
@@ -478,10 +494,23 @@ public interface AuthorizationRepository extends JpaRepository<Authorization, UU
                 LIMIT 1
             ) pp_latest ON TRUE
             LEFT JOIN program prog ON pp_latest.program_id = prog.id
-            WHERE p.deleted_at IS NULL
+            WHERE a.id IN (
+                    -- Expiring as of the last digest refresh, plus everything changed since (the digest may be stale)
+                    SELECT d.authorization_id FROM authorization_digest d
+                    WHERE d.end_date >= CURRENT_DATE
+                        AND d.end_date <= CURRENT_DATE + CAST(:expiresAfterDays AS INTEGER) * INTERVAL '1 day'
+                    UNION
+                    SELECT changed.id FROM authorizations changed
+                    WHERE changed.updated_at > COALESCE(
+                        (SELECT CAST(s.value AS timestamp) FROM app_setting s
+                         WHERE s.key = 'report.authorization_digest.watermark'),
+                        '-infinity')
+                )
+                AND p.deleted_at IS NULL
                 AND a.end_date IS NOT NULL
                 AND a.end_date >= CURRENT_DATE
                 AND a.end_date <= CURRENT_DATE + CAST(:expiresAfterDays AS INTEGER) * INTERVAL '1 day'
+                AND (CAST(:officeId AS uuid) IS NULL OR p.office_id = CAST(:officeId AS uuid))
                 AND (CAST(:fromDate AS DATE) IS NULL OR a.start_date >= CAST(:fromDate AS DATE))
                 AND (CAST(:toDate AS DATE) IS NULL OR a.end_date <= CAST(:toDate AS DATE))
                 AND (COALESCE(:payerIds, ARRAY[]::uuid[]) = ARRAY[]::uuid[] OR payer.id = ANY(:payerIds))
@@ -501,6 +530,7 @@ public interface AuthorizationRepository extends JpaRepository<Authorization, UU
         @Param("serviceTypeIds") UUID[] serviceTypeIds,
         @Param("clientMedicaidId") String clientMedicaidId,
         @Param("clientSearch") String clientSearch,
-        @Param("expiresAfterDays") Integer expiresAfterDays
+        @Param("expiresAfterDays") Integer expiresAfterDays,
+        @Param("officeId") UUID officeId
     );
 }
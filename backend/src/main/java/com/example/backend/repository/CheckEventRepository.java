@@ -1,10 +1,15 @@
 package com.example.backend.repository;
 
+import com.example.backend.model.dto.payroll.PayrollDailyHoursProjection;
 import com.example.backend.model.entity.CheckEvent;
 import com.example.backend.model.enums.CheckEventType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +19,33 @@ public interface CheckEventRepository extends JpaRepository<CheckEvent, UUID> {
     Optional<CheckEvent> findFirstByScheduleEvent_IdAndEventTypeOrderByOccurredAtAsc(UUID scheduleEventId, CheckEventType eventType);
 
     Optional<CheckEvent> findFirstByScheduleEvent_IdAndEventTypeOrderByOccurredAtDesc(UUID scheduleEventId, CheckEventType eventType);
-}
-
 
+    /**
+     * Hours worked per staff member, service type and day, from paired check-in/check-out events
+     * of non-cancelled deliveries checked in within [from, to). Ordered by staff, day and first check-in
+     * so overtime can be evaluated chronologically in one pass.
+     */
+    @Query(value = """
+        SELECT
+            ci.staff_id AS staffId,
+            ps.service_type_id AS serviceTypeId,
+            CAST(ci.occurred_at AS date) AS workDate,
+            CAST(SUM(EXTRACT(EPOCH FROM (co.occurred_at - ci.occurred_at))) / 3600.0 AS double precision) AS hours
+        FROM check_event ci
+        INNER JOIN check_event co ON co.service_delivery_id = ci.service_delivery_id AND co.event_type = 'CHECK_OUT'
+        INNER JOIN service_delivery sd ON sd.id = ci.service_delivery_id
+        LEFT JOIN authorizations a ON a.id = sd.authorization_id
+        LEFT JOIN patient_service ps ON ps.id = a.patient_service_id
+        WHERE ci.event_type = 'CHECK_IN'
+          AND ci.occurred_at >= :from
+          AND ci.occurred_at < :to
+          AND co.occurred_at > ci.occurred_at
+          AND sd.cancelled = false
+        GROUP BY ci.staff_id, ps.service_type_id, CAST(ci.occurred_at AS date)
+        ORDER BY ci.staff_id, CAST(ci.occurred_at AS date), MIN(ci.occurred_at)
+        """, nativeQuery = true)
+    List<PayrollDailyHoursProjection> aggregateDailyHours(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+}
@@ -0,0 +1,63 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.dto.billing.BillableDeliveryProjection;
+import com.example.backend.model.entity.ClaimBatchRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ClaimBatchRunRepository extends JpaRepository<ClaimBatchRun, UUID> {
+
+    boolean existsByPayerIdAndStatus(UUID payerId, String status);
+
+    /**
+     * Next chunk of approved, not cancelled and not yet billed deliveries for a payer,
+     * keyset-paged on (patient_id, service_delivery_id) so a patient's visits stay together.
+     * Pass null cursor values for the first chunk.
+     */
+    @Query(value = """
+        SELECT
+            sd.id AS deliveryId,
+            se.patient_id AS patientId,
+            se.office_id AS officeId,
+            COALESCE(sd.actual_staff_id, se.staff_id) AS staffId,
+            ps.service_type_id AS serviceTypeId,
+            se.event_date AS serviceDate,
+            sd.units AS units,
+            sd.total_hours AS totalHours
+        FROM service_delivery sd
+        INNER JOIN schedule_event se ON se.id = sd.schedule_event_id
+        INNER JOIN authorizations a ON a.id = sd.authorization_id
+        INNER JOIN patient_payer pp ON pp.id = a.patient_payer_id
+        INNER JOIN patient_service ps ON ps.id = a.patient_service_id
+        WHERE pp.payer_id = :payerId
+          AND se.event_date BETWEEN :periodStart AND :periodEnd
+          AND sd.approval_status = 'approved'
+          AND sd.cancelled = false
+          AND NOT EXISTS (SELECT 1 FROM claim_line cl WHERE cl.service_delivery_id = sd.id)
+          AND (CAST(:afterPatientId AS uuid) IS NULL
+               OR (se.patient_id, sd.id) > (CAST(:afterPatientId AS uuid), CAST(:afterDeliveryId AS uuid)))
+        ORDER BY se.patient_id, sd.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<BillableDeliveryProjection> findBillableChunk(
+        @Param("payerId") UUID payerId,
+        @Param("periodStart") LocalDate periodStart,
+        @Param("periodEnd") LocalDate periodEnd,
+        @Param("afterPatientId") UUID afterPatientId,
+        @Param("afterDeliveryId") UUID afterDeliveryId,
+        @Param("limit") int limit
+    );
+
+    /**
+     * Serializes chunk writes for the same payer across instances until the transaction ends.
+     */
+    @Query(value = "SELECT pg_advisory_xact_lock(:key)::text", nativeQuery = true)
+    String acquirePayerLock(@Param("key") long key);
+}
@@ -4,11 +4,14 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.backend.model.dto.DailyNoteSummaryDTO;
 import com.example.backend.model.entity.DailyNote;
 import com.example.backend.model.entity.Staff;
 
@@ -37,4 +40,32 @@ public interface DailyNoteRepository extends JpaRepository<DailyNote, UUID> {
     
     // Find first daily note by service delivery ID (to check if daily note exists for a service delivery)
     java.util.Optional<DailyNote> findFirstByServiceDelivery_IdOrderByCreatedAtDesc(UUID serviceDeliveryId);
+
+    /**
+     * Page of compact daily notes, newest first, reading only the light columns
+     */
+    @Query(value = """
+        SELECT new com.example.backend.model.dto.DailyNoteSummaryDTO(
+            dn.id,
+            sd.id,
+            p.id,
+            p.firstName,
+            p.lastName,
+            s.id,
+            s.firstName,
+            s.lastName,
+            SUBSTRING(dn.content, 1, 200),
+            dn.patientSigned,
+            dn.staffSigned,
+            dn.createdAt,
+            dn.updatedAt
+        )
+        FROM DailyNote dn
+        JOIN dn.serviceDelivery sd
+        LEFT JOIN dn.patient p
+        LEFT JOIN dn.staff s
+        ORDER BY dn.createdAt DESC
+        """,
+        countQuery = "SELECT COUNT(dn) FROM DailyNote dn")
+    Page<DailyNoteSummaryDTO> findSummaries(Pageable pageable);
 }
@@ -0,0 +1,12 @@
+package com.example.backend.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.entity.DailyNoteSignature;
+
+@Repository
+public interface DailyNoteSignatureRepository extends JpaRepository<DailyNoteSignature, UUID> {
+}
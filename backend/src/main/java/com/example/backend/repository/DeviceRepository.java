@@ -0,0 +1,29 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.entity.Device;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DeviceRepository extends JpaRepository<Device, UUID> {
+
+    @Query("""
+        SELECT d FROM Device d
+        WHERE d.user.id IN :userIds AND d.status = 'active' AND d.pushToken IS NOT NULL AND d.pushToken <> ''
+        """)
+    List<Device> findPushTargets(@Param("userIds") Collection<UUID> userIds);
+
+    /**
+     * Forget tokens the push service reported as no longer valid; the app registers a new one on next start
+     */
+    @Modifying
+    @Query("UPDATE Device d SET d.pushToken = NULL WHERE d.id IN :ids")
+    int clearPushTokens(@Param("ids") Collection<UUID> ids);
+}
@@ -1,11 +1,28 @@
 package com.example.backend.repository;
 
 import com.example.backend.model.entity.FileObject;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface FileObjectRepository extends JpaRepository<FileObject, UUID> {
+
+    /**
+     * File of this office with this content, locked so its reference count can be changed.
+     * Content is only shared within an office, so a reference never exposes another office's file metadata.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM FileObject f WHERE f.office.id = :officeId AND f.sha256 = :sha256")
+    Optional<FileObject> findByOfficeAndSha256ForUpdate(@Param("officeId") UUID officeId, @Param("sha256") String sha256);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM FileObject f WHERE f.id = :id")
+    Optional<FileObject> findByIdForUpdate(@Param("id") UUID id);
 }
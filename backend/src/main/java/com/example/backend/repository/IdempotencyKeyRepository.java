@@ -0,0 +1,70 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * Claim a key for a running request. An expired row (including a claim abandoned by a crashed instance)
+     * is taken over; a live one is left alone.
+     * @return 1 if the key is now claimed by the caller, 0 if another request holds or completed it
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO idempotency_key (key_hash, request_hash, status, created_at, expires_at)
+        VALUES (:keyHash, :requestHash, 'in_progress', :now, :expiresAt)
+        ON CONFLICT (key_hash) DO UPDATE SET
+            request_hash = EXCLUDED.request_hash,
+            status = EXCLUDED.status,
+            response_status = NULL,
+            response_content_type = NULL,
+            response_body = NULL,
+            created_at = EXCLUDED.created_at,
+            expires_at = EXCLUDED.expires_at
+        WHERE idempotency_key.expires_at <= EXCLUDED.created_at
+        """, nativeQuery = true)
+    int claim(@Param("keyHash") String keyHash,
+              @Param("requestHash") String requestHash,
+              @Param("now") LocalDateTime now,
+              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("SELECT k FROM IdempotencyKey k WHERE k.keyHash = :keyHash AND k.expiresAt > :now")
+    Optional<IdempotencyKey> findActive(@Param("keyHash") String keyHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE IdempotencyKey k SET k.status = 'completed', k.responseStatus = :responseStatus,
+            k.responseContentType = :contentType, k.responseBody = :body, k.expiresAt = :expiresAt
+        WHERE k.keyHash = :keyHash AND k.status = 'in_progress'
+        """)
+    int complete(@Param("keyHash") String keyHash,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("body") byte[] body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Drop a claim whose request failed, so the client can retry with the same key
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKey k WHERE k.keyHash = :keyHash AND k.status = 'in_progress'")
+    int release(@Param("keyHash") String keyHash);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,100 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.entity.MobileNotification;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface MobileNotificationRepository extends JpaRepository<MobileNotification, UUID> {
+
+    /**
+     * Due notifications not locked by another dispatcher, oldest first. Includes sending rows whose claim ran out
+     * (dispatcher crashed mid-send). Call in the transaction that marks them sending.
+     */
+    @Query(value = """
+        SELECT n.id
+        FROM mobile_notification n
+        WHERE n.status IN ('queued', 'sending')
+          AND n.next_attempt_at <= :now
+        ORDER BY n.next_attempt_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<UUID> lockDueIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        UPDATE MobileNotification n SET n.status = 'sending', n.attempts = n.attempts + 1, n.nextAttemptAt = :claimedUntil
+        WHERE n.id IN :ids
+        """)
+    int markSending(@Param("ids") Collection<UUID> ids, @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    /**
+     * The notifications, locked so their outcome can be written without another dispatcher claiming them meanwhile
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM MobileNotification n WHERE n.id IN :ids")
+    List<MobileNotification> findAllByIdForUpdate(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Outbox entries for authorizations ending within the window, one per authorization and end date,
+     * addressed to the patient's supervisor. The payload carries ids only: push services and lock screens
+     * see it, so the app loads the authorization through the API.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO mobile_notification (id, user_id, notification_type, payload, channel, status, dedup_key,
+                                         attempts, next_attempt_at, created_at, updated_at)
+        SELECT gen_random_uuid(), s.user_id, 'authorization_expiring',
+               jsonb_build_object('authorizationId', a.id, 'patientId', p.id, 'endDate', d.end_date),
+               'push', 'queued', 'authorization_expiring:' || a.id || ':' || d.end_date,
+               0, now(), now(), now()
+        FROM authorization_digest d
+        JOIN authorizations a ON a.id = d.authorization_id
+        JOIN patient p ON p.id = d.patient_id
+        JOIN staff s ON s.id = p.supervisor_id
+        WHERE d.end_date BETWEEN :fromDate AND :toDate
+          AND p.deleted_at IS NULL
+          AND s.user_id IS NOT NULL
+        ON CONFLICT (user_id, dedup_key) DO NOTHING
+        """, nativeQuery = true)
+    int enqueueExpiringAuthorizations(@Param("fromDate") LocalDate fromDate, @Param("toDate") LocalDate toDate);
+
+    /**
+     * Outbox entries for visits checked in, not checked out, and scheduled to end between the two times,
+     * addressed to the staff of the visit
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO mobile_notification (id, user_id, notification_type, payload, channel, status, dedup_key,
+                                         attempts, next_attempt_at, created_at, updated_at)
+        SELECT gen_random_uuid(), s.user_id, 'missed_check_out',
+               jsonb_build_object('serviceDeliveryId', sd.id, 'patientId', se.patient_id, 'endAt', sd.end_at),
+               'push', 'queued', 'missed_check_out:' || sd.id,
+               0, now(), now(), now()
+        FROM service_delivery sd
+        JOIN schedule_event se ON se.id = sd.schedule_event_id
+        JOIN staff s ON s.id = COALESCE(sd.actual_staff_id, se.staff_id)
+        WHERE sd.end_at > :endedAfter
+          AND sd.end_at <= :endedBefore
+          AND sd.cancelled = false
+          AND s.user_id IS NOT NULL
+          AND EXISTS (SELECT 1 FROM check_event ci
+                      WHERE ci.service_delivery_id = sd.id AND ci.event_type = 'CHECK_IN')
+          AND NOT EXISTS (SELECT 1 FROM check_event co
+                          WHERE co.service_delivery_id = sd.id AND co.event_type = 'CHECK_OUT')
+        ON CONFLICT (user_id, dedup_key) DO NOTHING
+        """, nativeQuery = true)
+    int enqueueMissedCheckOuts(@Param("endedAfter") LocalDateTime endedAfter, @Param("endedBefore") LocalDateTime endedBefore);
+}
@@ -0,0 +1,27 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.entity.OfflineQueue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface OfflineQueueRepository extends JpaRepository<OfflineQueue, UUID> {
+
+    /**
+     * Operations of the user that were already processed
+     */
+    @Query("SELECT q FROM OfflineQueue q WHERE q.user.id = :userId AND q.operationId IN :operationIds")
+    List<OfflineQueue> findProcessed(@Param("userId") UUID userId, @Param("operationIds") Collection<UUID> operationIds);
+
+    /**
+     * Serializes syncs of the same user across requests and instances until the transaction ends.
+     */
+    @Query(value = "SELECT pg_advisory_xact_lock(:key)::text", nativeQuery = true)
+    String acquireUserLock(@Param("key") long key);
+}
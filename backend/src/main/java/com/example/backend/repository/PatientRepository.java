@@ -1,5 +1,8 @@
 package com.example.backend.repository;
 
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.model.dto.PatientHeaderDTO;
 import com.example.backend.model.dto.PatientSummaryDTO;
+import com.example.backend.model.dto.sync.PatientChangeProjection;
 import com.example.backend.model.entity.Patient;
 
 @Repository
@@ -307,4 +311,83 @@ public interface PatientRepository extends JpaRepository<Patient, UUID> {
      */
     @Query("SELECT COUNT(p) FROM Patient p WHERE p.office.id = :officeId AND p.status = 'ACTIVE' AND p.deletedAt IS NULL")
     long countActiveByOfficeId(@Param("officeId") UUID officeId);
+
+    /**
+     * Delta sync: patients scheduled with a staff since fromDate, changed after the (changedAt, id) keyset position.
+     * A patient also counts as changed when all their events with the staff are newer than the patient row
+     * (newly scheduled or reassigned to the staff), so newly assigned patients reach the app without being edited.
+     */
+    @Query(value = """
+        WITH assigned AS (
+            SELECT se.patient_id, MIN(se.updated_at) AS assigned_at
+            FROM schedule_event se
+            WHERE se.staff_id = :staffId
+              AND se.event_date >= :fromDate
+            GROUP BY se.patient_id
+        ), changes AS (
+            SELECT p.*, GREATEST(p.updated_at, a.assigned_at) AS changed_at
+            FROM patient p
+            JOIN assigned a ON a.patient_id = p.id
+        )
+        SELECT
+            c.id AS id,
+            c.client_id AS clientId,
+            c.medicaid_id AS medicaidId,
+            c.first_name AS firstName,
+            c.last_name AS lastName,
+            c.dob AS dob,
+            c.gender AS gender,
+            c.primary_language AS primaryLanguage,
+            c.status AS status,
+            c.deleted_at AS deletedAt,
+            c.changed_at AS changedAt
+        FROM changes c
+        WHERE (c.changed_at, c.id) > (:afterChangedAt, :afterId)
+          AND c.changed_at <= :until
+        ORDER BY c.changed_at, c.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<PatientChangeProjection> findChangesForStaff(
+            @Param("staffId") UUID staffId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("afterChangedAt") OffsetDateTime afterChangedAt,
+            @Param("afterId") UUID afterId,
+            @Param("until") OffsetDateTime until,
+            @Param("limit") int limit
+    );
+
+    /**
+     * Delta sync: which of the given patients are still in a staff's scope (an event with the staff since fromDate)
+     */
+    @Query(value = """
+        SELECT DISTINCT se.patient_id
+        FROM schedule_event se
+        WHERE se.staff_id = :staffId
+          AND se.event_date >= :fromDate
+          AND se.patient_id IN (:patientIds)
+        """, nativeQuery = true)
+    List<UUID> findInSyncScope(
+            @Param("staffId") UUID staffId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("patientIds") Collection<UUID> patientIds
+    );
+
+    /**
+     * Delta sync: patients whose last event with a staff was in scope on previousFromDate but no longer is on
+     * fromDate, i.e. who aged out of the staff's history window in between
+     */
+    @Query(value = """
+        SELECT se.patient_id
+        FROM schedule_event se
+        WHERE se.staff_id = :staffId
+          AND se.patient_id IS NOT NULL
+        GROUP BY se.patient_id
+        HAVING MAX(se.event_date) >= :previousFromDate
+           AND MAX(se.event_date) < :fromDate
+        """, nativeQuery = true)
+    List<UUID> findAgedOutOfSyncScope(
+            @Param("staffId") UUID staffId,
+            @Param("previousFromDate") LocalDate previousFromDate,
+            @Param("fromDate") LocalDate fromDate
+    );
 }
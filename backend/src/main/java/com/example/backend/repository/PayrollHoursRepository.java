@@ -0,0 +1,26 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.dto.payroll.PayrollHoursRowProjection;
+import com.example.backend.model.entity.PayrollHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PayrollHoursRepository extends JpaRepository<PayrollHours, UUID> {
+
+    @Query(value = """
+        SELECT
+            ph.staff_id AS staffId,
+            ph.service_type_id AS serviceTypeId,
+            ph.regular_hours AS regularHours,
+            ph.overtime_hours AS overtimeHours
+        FROM payroll_hours ph
+        WHERE ph.payroll_period_id = :periodId
+        """, nativeQuery = true)
+    List<PayrollHoursRowProjection> findRowsByPeriodId(@Param("periodId") UUID periodId);
+}
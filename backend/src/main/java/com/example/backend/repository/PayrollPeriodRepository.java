@@ -0,0 +1,15 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.entity.PayrollPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface PayrollPeriodRepository extends JpaRepository<PayrollPeriod, UUID> {
+
+    Optional<PayrollPeriod> findByPeriodStart(LocalDate periodStart);
+}
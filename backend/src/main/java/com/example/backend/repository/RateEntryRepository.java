@@ -0,0 +1,43 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.dto.billing.BillingRateProjection;
+import com.example.backend.model.entity.RateEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RateEntryRepository extends JpaRepository<RateEntry, UUID> {
+
+    /**
+     * All rate entries together with their rate card effective window, oldest card first
+     */
+    @Query(value = """
+        SELECT
+            re.service_type_id AS serviceTypeId,
+            re.staff_id AS staffId,
+            re.patient_id AS patientId,
+            re.rate AS rate,
+            re.pay_basis AS payBasis,
+            rc.effective_at AS effectiveAt,
+            rc.expires_at AS expiresAt
+        FROM rate_entry re
+        INNER JOIN rate_card rc ON rc.id = re.rate_card_id
+        ORDER BY rc.effective_at, rc.id
+        """, nativeQuery = true)
+    List<BillingRateProjection> findAllBillingRates();
+
+    /**
+     * Cheap change marker over rate_card, rate_entry and staff_rate (row counts and last update times)
+     */
+    @Query(value = """
+        SELECT concat_ws('|',
+            (SELECT count(*) || ':' || COALESCE(max(updated_at)::text, '') FROM rate_card),
+            (SELECT count(*) || ':' || COALESCE(max(updated_at)::text, '') FROM rate_entry),
+            (SELECT count(*) || ':' || COALESCE(max(updated_at)::text, '') FROM staff_rate))
+        """, nativeQuery = true)
+    String findRateTablesFingerprint();
+}
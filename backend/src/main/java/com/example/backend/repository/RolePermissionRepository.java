@@ -3,7 +3,10 @@ package com.example.backend.repository;
 import com.example.backend.model.entity.Permission;
 import com.example.backend.model.entity.Role;
 import com.example.backend.model.entity.RolePermission;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,6 +14,7 @@ import java.util.UUID;
 
 @Repository
 public interface RolePermissionRepository extends JpaRepository<RolePermission, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<RolePermission> findByRole(Role role);
     List<RolePermission> findByPermission(Permission permission);
     boolean existsByRoleAndPermission(Role role, Permission permission);
@@ -1,5 +1,6 @@
 package com.example.backend.repository;
 
+import com.example.backend.model.dto.sync.ScheduleEventChangeProjection;
 import com.example.backend.model.entity.ScheduleEvent;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -163,6 +164,36 @@ public interface ScheduleEventRepository extends JpaRepository<ScheduleEvent, UU
             @Param("status") String status,
             Pageable pageable
     );
-}
-
 
+    /**
+     * Delta sync: events of a staff changed after the (changedAt, id) keyset position, oldest first
+     */
+    @Query(value = """
+        SELECT
+            se.id AS id,
+            se.patient_id AS patientId,
+            se.event_date AS eventDate,
+            se.start_at AS startAt,
+            se.end_at AS endAt,
+            se.event_code AS eventCode,
+            se.status AS status,
+            se.planned_units AS plannedUnits,
+            se.comment AS comment,
+            se.updated_at AS changedAt
+        FROM schedule_event se
+        WHERE se.staff_id = :staffId
+          AND se.event_date >= :fromDate
+          AND (se.updated_at, se.id) > (:afterChangedAt, :afterId)
+          AND se.updated_at <= :until
+        ORDER BY se.updated_at, se.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<ScheduleEventChangeProjection> findChangesForStaff(
+            @Param("staffId") UUID staffId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("afterChangedAt") OffsetDateTime afterChangedAt,
+            @Param("afterId") UUID afterId,
+            @Param("until") OffsetDateTime until,
+            @Param("limit") int limit
+    );
+}
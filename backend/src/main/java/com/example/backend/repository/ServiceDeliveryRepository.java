@@ -1,6 +1,8 @@
 package com.example.backend.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -9,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.backend.model.dto.sync.VisitChangeProjection;
 import com.example.backend.model.entity.Office;
 import com.example.backend.model.entity.Patient;
 import com.example.backend.model.entity.ScheduleEvent;
@@ -72,4 +75,38 @@ public interface ServiceDeliveryRepository extends JpaRepository<ServiceDelivery
      */
     @Query("SELECT CASE WHEN COUNT(sd) > 0 THEN true ELSE false END FROM ServiceDelivery sd WHERE sd.scheduleEvent = :scheduleEvent")
     boolean existsByScheduleEvent(@Param("scheduleEvent") ScheduleEvent scheduleEvent);
+
+    /**
+     * Delta sync: visits of a staff's schedule events changed after the (changedAt, id) keyset position, oldest first
+     */
+    @Query(value = """
+        SELECT
+            sd.id AS id,
+            sd.schedule_event_id AS scheduleEventId,
+            se.patient_id AS patientId,
+            sd.start_at AS startAt,
+            sd.end_at AS endAt,
+            sd.units AS units,
+            sd.status AS status,
+            sd.approval_status AS approvalStatus,
+            sd.total_hours AS totalHours,
+            sd.cancelled AS cancelled,
+            sd.updated_at AS changedAt
+        FROM service_delivery sd
+        JOIN schedule_event se ON se.id = sd.schedule_event_id
+        WHERE se.staff_id = :staffId
+          AND se.event_date >= :fromDate
+          AND (sd.updated_at, sd.id) > (:afterChangedAt, :afterId)
+          AND sd.updated_at <= :until
+        ORDER BY sd.updated_at, sd.id
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<VisitChangeProjection> findChangesForStaff(
+            @Param("staffId") UUID staffId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("afterChangedAt") OffsetDateTime afterChangedAt,
+            @Param("afterId") UUID afterId,
+            @Param("until") OffsetDateTime until,
+            @Param("limit") int limit
+    );
 }
@@ -1,7 +1,10 @@
 package com.example.backend.repository;
 
 import com.example.backend.model.entity.ServiceType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,6 +12,7 @@ import java.util.UUID;
 
 @Repository
 public interface ServiceTypeRepository extends JpaRepository<ServiceType, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<ServiceType> findByCode(String code);
     boolean existsByCode(String code);
 }
\ No newline at end of file
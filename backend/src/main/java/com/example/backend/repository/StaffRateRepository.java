@@ -0,0 +1,31 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.dto.billing.StaffPayRateProjection;
+import com.example.backend.model.entity.StaffRate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StaffRateRepository extends JpaRepository<StaffRate, UUID> {
+
+    /**
+     * All staff pay rates with a rate amount, oldest first
+     */
+    @Query(value = """
+        SELECT
+            sr.staff_id AS staffId,
+            sr.service_type_id AS serviceTypeId,
+            sr.hourly_rate AS hourlyRate,
+            sr.pay_basis AS payBasis,
+            sr.effective_at AS effectiveAt,
+            sr.expires_at AS expiresAt
+        FROM staff_rate sr
+        WHERE sr.hourly_rate IS NOT NULL
+        ORDER BY sr.effective_at, sr.id
+        """, nativeQuery = true)
+    List<StaffPayRateProjection> findAllPayRates();
+}
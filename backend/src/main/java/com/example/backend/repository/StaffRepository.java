@@ -195,4 +195,7 @@ public interface StaffRepository extends JpaRepository<Staff, UUID> {
      */
     @Query("SELECT COUNT(s) FROM Staff s WHERE s.office.id = :officeId AND s.isActive = true AND s.deletedAt IS NULL")
     long countActiveByOfficeId(@Param("officeId") UUID officeId);
+
+    @Query("SELECT s.id FROM Staff s WHERE s.user.email = :email AND s.deletedAt IS NULL")
+    Optional<UUID> findIdByUserEmail(@Param("email") String email);
 }
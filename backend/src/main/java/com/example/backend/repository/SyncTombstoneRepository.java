@@ -0,0 +1,44 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.entity.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+
+    @Query("""
+        SELECT DISTINCT t.entityId FROM SyncTombstone t
+        WHERE t.staffId = :staffId AND t.entityType = :entityType
+          AND t.deletedAt > :after AND t.deletedAt <= :until
+        """)
+    List<UUID> findEntityIds(@Param("staffId") UUID staffId,
+                             @Param("entityType") String entityType,
+                             @Param("after") OffsetDateTime after,
+                             @Param("until") OffsetDateTime until);
+
+    /**
+     * Start (UTC) of the oldest other transaction that has written something and is still open, or null.
+     * Rows it wrote carry an updated_at after this and become visible only when it commits.
+     */
+    @Query(value = """
+        SELECT to_char(MIN(xact_start) AT TIME ZONE 'UTC', 'YYYY-MM-DD"T"HH24:MI:SS.US')
+        FROM pg_stat_activity
+        WHERE backend_xid IS NOT NULL
+          AND pid <> pg_backend_pid()
+        """, nativeQuery = true)
+    String oldestOpenWriteStart();
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(@Param("before") OffsetDateTime before);
+}
@@ -0,0 +1,20 @@
+package com.example.backend.service;
+
+import com.example.backend.model.dto.audit.AuditHistoryDTO;
+
+import java.util.UUID;
+
+public interface AuditHistoryService {
+
+    /**
+     * Audit timeline of a patient, including changes of its addresses, contacts, payers, etc., newest first
+     * @param before Cursor from the previous page, null for the newest entries
+     * @param limit Page size, null for the default
+     */
+    AuditHistoryDTO patientHistory(UUID patientId, String before, Integer limit);
+
+    /**
+     * Audit timeline of a staff member, including changes of its addresses, contacts, rates, etc., newest first
+     */
+    AuditHistoryDTO staffHistory(UUID staffId, String before, Integer limit);
+}
@@ -0,0 +1,48 @@
+package com.example.backend.service;
+
+import com.example.backend.config.properties.AuthorizationDigestProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the authorization digest refresh nightly, and once after startup if it was never built
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuthorizationDigestScheduler {
+
+    private final AuthorizationDigestService authorizationDigestService;
+    private final AuthorizationDigestProperties properties;
+
+    @Scheduled(cron = "${app.reports.authorization-digest.cron:0 30 2 * * *}")
+    public void nightlyRefresh() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            authorizationDigestService.refreshDigest(false);
+        } catch (Exception e) {
+            log.error("Nightly authorization digest refresh failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIfMissing() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            if (!authorizationDigestService.isInitialized()) {
+                log.info("Authorization digest not built yet, running initial build");
+                authorizationDigestService.refreshDigest(true);
+            }
+        } catch (Exception e) {
+            log.warn("Initial authorization digest build failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.backend.service;
+
+import com.example.backend.model.dto.report.ExpiringAuthDigestSummaryDTO;
+import com.example.backend.model.entity.AuthorizationDigest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for the incremental expiring / low-remaining authorization digest
+ */
+public interface AuthorizationDigestService {
+
+    /**
+     * Recompute digest rows for authorizations changed since the last run
+     *
+     * @param fullRebuild ignore the stored watermark and recompute every authorization
+     * @return number of digest rows inserted or updated, or -1 if another instance holds the refresh lock
+     */
+    int refreshDigest(boolean fullRebuild);
+
+    /**
+     * Whether the digest has been built at least once
+     */
+    boolean isInitialized();
+
+    /**
+     * Per-office expiring and low-remaining counts
+     *
+     * @param officeId optional office filter
+     * @param expiresAfterDays expiration horizon in days
+     * @return one summary per office
+     */
+    List<ExpiringAuthDigestSummaryDTO> getOfficeSummaries(UUID officeId, int expiresAfterDays);
+
+    /**
+     * Digest rows of an office that are expiring within the horizon or running low
+     *
+     * @param officeId office ID
+     * @param expiresAfterDays expiration horizon in days
+     * @return digest rows, soonest expiration first
+     */
+    List<AuthorizationDigest> getAttentionItems(UUID officeId, int expiresAfterDays);
+}
@@ -1,10 +1,14 @@
 package com.example.backend.service;
 
-import java.sql.PreparedStatement;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
-import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,458 +30,376 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Service for optimized bulk insert operations using JDBC batch processing
+ * Service for optimized bulk insert operations streaming rows through PostgreSQL COPY (CSV).
+ * Each call runs on the current transaction's connection when there is one; callers that load
+ * independent chunks concurrently call it from several threads, one connection each.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BulkInsertService {
 
+    private static final int COPY_BUFFER_CHARS = 64 * 1024;
+
     private final JdbcTemplate jdbcTemplate;
 
     /**
-     * Bulk insert patients using JDBC batch processing for maximum performance
+     * Stream rows into a table with COPY ... FROM STDIN. Rows are encoded as they are iterated, so
+     * the source can be generated lazily. Strings are quoted, null becomes an unquoted empty field and
+     * everything else is written with toString(), which PostgreSQL parses for UUIDs, numbers and ISO dates.
+     *
+     * @return number of rows copied
+     */
+    public <T> long copy(String table, List<String> columns, Iterable<T> rows, Function<T, Object[]> values) {
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+            try {
+                StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 1024);
+                for (T row : rows) {
+                    appendCsvRow(buffer, values.apply(row));
+                    if (buffer.length() >= COPY_BUFFER_CHARS) {
+                        flush(copyIn, buffer);
+                    }
+                }
+                flush(copyIn, buffer);
+                return copyIn.endCopy();
+            } catch (SQLException | RuntimeException e) {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                throw e;
+            }
+        });
+        return copied != null ? copied : 0;
+    }
+
+    private static void appendCsvRow(StringBuilder out, Object[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) out.append(',');
+            Object value = values[i];
+            if (value == null) continue;
+            if (value instanceof String text) {
+                out.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else {
+                out.append(value);
+            }
+        }
+        out.append('\n');
+    }
+
+    private static void flush(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        if (buffer.isEmpty()) return;
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Bulk insert patients using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertPatients(List<Patient> patients) {
         if (patients.isEmpty()) return;
 
-        log.info("Bulk inserting {} patients using JDBC batch processing...", patients.size());
-        
-        String sql = """
-            INSERT INTO patient (
-                id, first_name, last_name, dob, gender, ssn, client_id, agency_id, 
-                medicaid_id, primary_language, status, office_id, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                Patient patient = patients.get(i);
-                ps.setObject(1, patient.getId());
-                ps.setString(2, patient.getFirstName());
-                ps.setString(3, patient.getLastName());
-                ps.setObject(4, patient.getDob());
-                ps.setString(5, patient.getGender());
-                ps.setString(6, patient.getSsn());
-                ps.setString(7, patient.getClientId());
-                ps.setString(8, patient.getAgencyId());
-                ps.setString(9, patient.getMedicaidId());
-                ps.setString(10, patient.getPrimaryLanguage());
-                ps.setString(11, patient.getStatus().toString());
-                ps.setObject(12, patient.getOffice().getId());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return patients.size();
-            }
+        log.info("Bulk inserting {} patients using COPY...", patients.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("patient", List.of(
+            "id", "first_name", "last_name", "dob", "gender", "ssn", "client_id", "agency_id", "medicaid_id",
+            "primary_language", "status", "office_id", "created_at", "updated_at"
+        ), patients, patient -> new Object[]{
+            patient.getId(),
+            patient.getFirstName(),
+            patient.getLastName(),
+            patient.getDob(),
+            patient.getGender(),
+            patient.getSsn(),
+            patient.getClientId(),
+            patient.getAgencyId(),
+            patient.getMedicaidId(),
+            patient.getPrimaryLanguage(),
+            patient.getStatus().toString(),
+            patient.getOffice().getId(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} patients", patients.size());
     }
 
     /**
-     * Bulk insert addresses using JDBC batch processing for maximum performance
+     * Bulk insert addresses using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertAddresses(List<Address> addresses) {
         if (addresses.isEmpty()) return;
 
-        log.info("Bulk inserting {} addresses using JDBC batch processing...", addresses.size());
-        
-        String sql = """
-            INSERT INTO address (
-                id, line1, city, state, postal_code, county, type, label, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                Address address = addresses.get(i);
-                ps.setObject(1, address.getId());
-                ps.setString(2, address.getLine1());
-                ps.setString(3, address.getCity());
-                ps.setString(4, address.getState());
-                ps.setString(5, address.getPostalCode());
-                ps.setString(6, address.getCounty());
-                ps.setString(7, address.getType().name());
-                ps.setString(8, address.getLabel());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return addresses.size();
-            }
+        log.info("Bulk inserting {} addresses using COPY...", addresses.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("address", List.of(
+            "id", "line1", "city", "state", "postal_code", "county", "type", "label", "created_at",
+            "updated_at"
+        ), addresses, address -> new Object[]{
+            address.getId(),
+            address.getLine1(),
+            address.getCity(),
+            address.getState(),
+            address.getPostalCode(),
+            address.getCounty(),
+            address.getType().name(),
+            address.getLabel(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} addresses", addresses.size());
     }
 
     /**
-     * Bulk insert patient addresses using JDBC batch processing for maximum performance
+     * Bulk insert patient addresses using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertPatientAddresses(List<PatientAddress> patientAddresses) {
         if (patientAddresses.isEmpty()) return;
 
-        log.info("Bulk inserting {} patient addresses using JDBC batch processing...", patientAddresses.size());
-        
-        String sql = """
-            INSERT INTO patient_address (
-                id, patient_id, address_id, phone, is_main, latitude, longitude, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                PatientAddress patientAddress = patientAddresses.get(i);
-                ps.setObject(1, patientAddress.getId());
-                ps.setObject(2, patientAddress.getPatient().getId());
-                ps.setObject(3, patientAddress.getAddress().getId());
-                ps.setString(4, patientAddress.getPhone());
-                ps.setBoolean(5, patientAddress.getIsMain());
-                // Set GPS coordinates (can be null)
-                if (patientAddress.getLatitude() != null) {
-                    ps.setDouble(6, patientAddress.getLatitude());
-                } else {
-                    ps.setNull(6, java.sql.Types.DOUBLE);
-                }
-                if (patientAddress.getLongitude() != null) {
-                    ps.setDouble(7, patientAddress.getLongitude());
-                } else {
-                    ps.setNull(7, java.sql.Types.DOUBLE);
-                }
-            }
-
-            @Override
-            public int getBatchSize() {
-                return patientAddresses.size();
-            }
+        log.info("Bulk inserting {} patient addresses using COPY...", patientAddresses.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("patient_address", List.of(
+            "id", "patient_id", "address_id", "phone", "is_main", "latitude", "longitude", "created_at",
+            "updated_at"
+        ), patientAddresses, patientAddress -> new Object[]{
+            patientAddress.getId(),
+            patientAddress.getPatient().getId(),
+            patientAddress.getAddress().getId(),
+            patientAddress.getPhone(),
+            patientAddress.getIsMain(),
+            patientAddress.getLatitude(),
+            patientAddress.getLongitude(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} patient addresses with GPS coordinates", patientAddresses.size());
     }
 
     /**
-     * Bulk insert patient contacts using JDBC batch processing for maximum performance
+     * Bulk insert patient contacts using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertPatientContacts(List<PatientContact> patientContacts) {
         if (patientContacts.isEmpty()) return;
 
-        log.info("Bulk inserting {} patient contacts using JDBC batch processing...", patientContacts.size());
-        
-        String sql = """
-            INSERT INTO patient_contact (
-                id, patient_id, name, relation, phone, email, line1, line2, is_primary, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                PatientContact patientContact = patientContacts.get(i);
-                ps.setObject(1, patientContact.getId());
-                ps.setObject(2, patientContact.getPatient().getId());
-                ps.setString(3, patientContact.getName());
-                ps.setString(4, patientContact.getRelation());
-                ps.setString(5, patientContact.getPhone());
-                ps.setString(6, patientContact.getEmail());
-                ps.setString(7, patientContact.getLine1());
-                ps.setString(8, patientContact.getLine2());
-                ps.setBoolean(9, patientContact.getIsPrimary());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return patientContacts.size();
-            }
+        log.info("Bulk inserting {} patient contacts using COPY...", patientContacts.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("patient_contact", List.of(
+            "id", "patient_id", "name", "relation", "phone", "email", "line1", "line2", "is_primary",
+            "created_at", "updated_at"
+        ), patientContacts, patientContact -> new Object[]{
+            patientContact.getId(),
+            patientContact.getPatient().getId(),
+            patientContact.getName(),
+            patientContact.getRelation(),
+            patientContact.getPhone(),
+            patientContact.getEmail(),
+            patientContact.getLine1(),
+            patientContact.getLine2(),
+            patientContact.getIsPrimary(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} patient contacts", patientContacts.size());
     }
 
     /**
-     * Bulk insert patient programs using JDBC batch processing for maximum performance
+     * Bulk insert patient programs using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertPatientPrograms(List<PatientProgram> patientPrograms) {
         if (patientPrograms.isEmpty()) return;
 
-        log.info("Bulk inserting {} patient programs using JDBC batch processing...", patientPrograms.size());
-        
-        String sql = """
-            INSERT INTO patient_program (
-                id, patient_id, program_id, enrollment_date, status_effective_date, 
-                soc_date, eoc_date, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                PatientProgram patientProgram = patientPrograms.get(i);
-                ps.setObject(1, patientProgram.getId());
-                ps.setObject(2, patientProgram.getPatient().getId());
-                ps.setObject(3, patientProgram.getProgram().getId());
-                ps.setObject(4, patientProgram.getEnrollmentDate());
-                ps.setObject(5, patientProgram.getStatusEffectiveDate());
-                ps.setObject(6, patientProgram.getSocDate());
-                ps.setObject(7, patientProgram.getEocDate());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return patientPrograms.size();
-            }
+        log.info("Bulk inserting {} patient programs using COPY...", patientPrograms.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("patient_program", List.of(
+            "id", "patient_id", "program_id", "enrollment_date", "status_effective_date", "soc_date",
+            "eoc_date", "created_at", "updated_at"
+        ), patientPrograms, patientProgram -> new Object[]{
+            patientProgram.getId(),
+            patientProgram.getPatient().getId(),
+            patientProgram.getProgram().getId(),
+            patientProgram.getEnrollmentDate(),
+            patientProgram.getStatusEffectiveDate(),
+            patientProgram.getSocDate(),
+            patientProgram.getEocDate(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} patient programs", patientPrograms.size());
     }
 
     /**
-     * Bulk insert patient payers using JDBC batch processing for maximum performance
+     * Bulk insert patient payers using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertPatientPayers(List<PatientPayer> patientPayers) {
         if (patientPayers.isEmpty()) return;
 
-        log.info("Bulk inserting {} patient payers using JDBC batch processing...", patientPayers.size());
-        
-        String sql = """
-            INSERT INTO patient_payer (
-                id, patient_id, payer_id, client_payer_id, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                PatientPayer patientPayer = patientPayers.get(i);
-                ps.setObject(1, patientPayer.getId());
-                ps.setObject(2, patientPayer.getPatient().getId());
-                ps.setObject(3, patientPayer.getPayer().getId());
-                ps.setString(4, patientPayer.getClientPayerId());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return patientPayers.size();
-            }
+        log.info("Bulk inserting {} patient payers using COPY...", patientPayers.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("patient_payer", List.of(
+            "id", "patient_id", "payer_id", "client_payer_id", "created_at", "updated_at"
+        ), patientPayers, patientPayer -> new Object[]{
+            patientPayer.getId(),
+            patientPayer.getPatient().getId(),
+            patientPayer.getPayer().getId(),
+            patientPayer.getClientPayerId(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} patient payers", patientPayers.size());
     }
 
     /**
-     * Bulk insert patient services using JDBC batch processing for maximum performance
+     * Bulk insert patient services using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertPatientServices(List<PatientService> patientServices) {
         if (patientServices.isEmpty()) return;
 
-        log.info("Bulk inserting {} patient services using JDBC batch processing...", patientServices.size());
-        
-        String sql = """
-            INSERT INTO patient_service (
-                id, patient_id, service_type_id, start_date, end_date, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                PatientService patientService = patientServices.get(i);
-                ps.setObject(1, patientService.getId());
-                ps.setObject(2, patientService.getPatient().getId());
-                ps.setObject(3, patientService.getServiceType().getId());
-                ps.setObject(4, patientService.getStartDate());
-                ps.setObject(5, patientService.getEndDate());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return patientServices.size();
-            }
+        log.info("Bulk inserting {} patient services using COPY...", patientServices.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("patient_service", List.of(
+            "id", "patient_id", "service_type_id", "start_date", "end_date", "created_at", "updated_at"
+        ), patientServices, patientService -> new Object[]{
+            patientService.getId(),
+            patientService.getPatient().getId(),
+            patientService.getServiceType().getId(),
+            patientService.getStartDate(),
+            patientService.getEndDate(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} patient services", patientServices.size());
     }
 
     /**
-     * Bulk insert ISPs using JDBC batch processing for maximum performance
+     * Bulk insert ISPs using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertISPs(List<ISP> isps) {
         if (isps.isEmpty()) return;
 
-        log.info("Bulk inserting {} ISPs using JDBC batch processing...", isps.size());
-        
-        String sql = """
-            INSERT INTO isp (
-                id, patient_id, version_no, effective_at, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                ISP isp = isps.get(i);
-                ps.setObject(1, isp.getId());
-                ps.setObject(2, isp.getPatient().getId());
-                ps.setInt(3, isp.getVersionNo());
-                ps.setObject(4, isp.getEffectiveAt());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return isps.size();
-            }
+        log.info("Bulk inserting {} ISPs using COPY...", isps.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("isp", List.of(
+            "id", "patient_id", "version_no", "effective_at", "created_at", "updated_at"
+        ), isps, isp -> new Object[]{
+            isp.getId(),
+            isp.getPatient().getId(),
+            isp.getVersionNo(),
+            isp.getEffectiveAt(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} ISPs", isps.size());
     }
 
     /**
-     * Bulk insert authorizations using JDBC batch processing for maximum performance
+     * Bulk insert authorizations using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertAuthorizations(List<Authorization> authorizations) {
         if (authorizations.isEmpty()) return;
 
-        log.info("Bulk inserting {} authorizations using JDBC batch processing...", authorizations.size());
-        
-        String sql = """
-            INSERT INTO authorizations (
-                id, patient_payer_id, patient_id, patient_service_id, authorization_no, 
-                max_units, start_date, end_date, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                Authorization auth = authorizations.get(i);
-                ps.setObject(1, auth.getId());
-                ps.setObject(2, auth.getPatientPayer().getId());
-                ps.setObject(3, auth.getPatient().getId());
-                ps.setObject(4, auth.getPatientService().getId());
-                ps.setString(5, auth.getAuthorizationNo());
-                ps.setBigDecimal(6, auth.getMaxUnits());
-                ps.setObject(7, auth.getStartDate());
-                ps.setObject(8, auth.getEndDate());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return authorizations.size();
-            }
+        log.info("Bulk inserting {} authorizations using COPY...", authorizations.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("authorizations", List.of(
+            "id", "patient_payer_id", "patient_id", "patient_service_id", "authorization_no", "max_units",
+            "start_date", "end_date", "created_at", "updated_at"
+        ), authorizations, auth -> new Object[]{
+            auth.getId(),
+            auth.getPatientPayer().getId(),
+            auth.getPatient().getId(),
+            auth.getPatientService().getId(),
+            auth.getAuthorizationNo(),
+            auth.getMaxUnits(),
+            auth.getStartDate(),
+            auth.getEndDate(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} authorizations", authorizations.size());
     }
 
     /**
-     * Bulk insert ISP goals using JDBC batch processing for maximum performance
+     * Bulk insert ISP goals using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertISPGoals(List<ISPGoal> ispGoals) {
         if (ispGoals.isEmpty()) return;
 
-        log.info("Bulk inserting {} ISP goals using JDBC batch processing...", ispGoals.size());
-        
-        String sql = """
-            INSERT INTO isp_goal (
-                id, isp_id, title, description, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                ISPGoal goal = ispGoals.get(i);
-                ps.setObject(1, goal.getId());
-                ps.setObject(2, goal.getIsp().getId());
-                ps.setString(3, goal.getTitle());
-                ps.setString(4, goal.getDescription());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return ispGoals.size();
-            }
+        log.info("Bulk inserting {} ISP goals using COPY...", ispGoals.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("isp_goal", List.of(
+            "id", "isp_id", "title", "description", "created_at", "updated_at"
+        ), ispGoals, goal -> new Object[]{
+            goal.getId(),
+            goal.getIsp().getId(),
+            goal.getTitle(),
+            goal.getDescription(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} ISP goals", ispGoals.size());
     }
 
     /**
-     * Bulk insert permissions using JDBC batch processing for maximum performance
+     * Bulk insert permissions using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertPermissions(List<Permission> permissions) {
         if (permissions.isEmpty()) return;
 
-        log.info("Bulk inserting {} permissions using JDBC batch processing...", permissions.size());
-        
-        String sql = """
-            INSERT INTO permission (
-                id, resource, action, scope, description, created_at, updated_at
-            ) VALUES (?, ?, ?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                Permission permission = permissions.get(i);
-                ps.setObject(1, permission.getId());
-                ps.setString(2, permission.getResource());
-                ps.setString(3, permission.getAction());
-                ps.setString(4, permission.getScope().toString());
-                ps.setString(5, permission.getDescription());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return permissions.size();
-            }
+        log.info("Bulk inserting {} permissions using COPY...", permissions.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("permission", List.of(
+            "id", "resource", "action", "scope", "description", "created_at", "updated_at"
+        ), permissions, permission -> new Object[]{
+            permission.getId(),
+            permission.getResource(),
+            permission.getAction(),
+            permission.getScope().toString(),
+            permission.getDescription(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} permissions", permissions.size());
     }
 
     /**
-     * Bulk insert role permissions using JDBC batch processing for maximum performance
+     * Bulk insert role permissions using COPY for maximum performance
      */
     @Transactional
     public void bulkInsertRolePermissions(List<RolePermission> rolePermissions) {
         if (rolePermissions.isEmpty()) return;
 
-        log.info("Bulk inserting {} role permissions using JDBC batch processing...", rolePermissions.size());
-        
-        String sql = """
-            INSERT INTO role_permission (
-                id, role_id, permission_id, created_at, updated_at
-            ) VALUES (?, ?, ?, NOW(), NOW())
-            """;
-
-        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
-            @Override
-            public void setValues(PreparedStatement ps, int i) throws SQLException {
-                RolePermission rolePermission = rolePermissions.get(i);
-                ps.setObject(1, rolePermission.getId());
-                ps.setObject(2, rolePermission.getRole().getId());
-                ps.setObject(3, rolePermission.getPermission().getId());
-            }
-
-            @Override
-            public int getBatchSize() {
-                return rolePermissions.size();
-            }
+        log.info("Bulk inserting {} role permissions using COPY...", rolePermissions.size());
+        LocalDateTime now = LocalDateTime.now();
+        copy("role_permission", List.of(
+            "id", "role_id", "permission_id", "created_at", "updated_at"
+        ), rolePermissions, rolePermission -> new Object[]{
+            rolePermission.getId(),
+            rolePermission.getRole().getId(),
+            rolePermission.getPermission().getId(),
+            now,
+            now
         });
 
         log.info("Successfully bulk inserted {} role permissions", rolePermissions.size());
@@ -0,0 +1,27 @@
+package com.example.backend.service;
+
+import com.example.backend.model.dto.billing.ClaimBatchRunDTO;
+import com.example.backend.model.dto.billing.ClaimBatchRunRequestDTO;
+
+import java.util.UUID;
+
+/**
+ * Service interface for generating claims from approved service deliveries
+ */
+public interface ClaimBatchService {
+
+    /**
+     * Start a new batch run for a payer and service date range and process it to the end
+     */
+    ClaimBatchRunDTO startRun(ClaimBatchRunRequestDTO request);
+
+    /**
+     * Resume an interrupted or failed run from its last committed checkpoint
+     */
+    ClaimBatchRunDTO resumeRun(UUID runId);
+
+    /**
+     * Get the progress of a batch run
+     */
+    ClaimBatchRunDTO getRun(UUID runId);
+}
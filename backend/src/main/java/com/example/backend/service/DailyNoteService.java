@@ -6,11 +6,13 @@ import org.springframework.data.domain.Page;
 
 import com.example.backend.model.dto.DailyNoteRequestDTO;
 import com.example.backend.model.dto.DailyNoteResponseDTO;
+import com.example.backend.model.dto.DailyNoteSummaryDTO;
 
 public interface DailyNoteService {
     DailyNoteResponseDTO create(DailyNoteRequestDTO dto);
     DailyNoteResponseDTO getById(UUID id);
     DailyNoteResponseDTO update(UUID id, DailyNoteRequestDTO dto);
     void delete(UUID id);
-    Page<DailyNoteResponseDTO> list(int page, int size);
+    Page<DailyNoteResponseDTO> list(int page, int size, boolean includeSignatures);
+    Page<DailyNoteSummaryDTO> listSummaries(int page, int size);
 }
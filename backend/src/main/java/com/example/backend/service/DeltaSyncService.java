@@ -0,0 +1,27 @@
+package com.example.backend.service;
+
+import com.example.backend.model.dto.sync.DeltaSyncDTO;
+import com.example.backend.model.dto.sync.PatientChangeProjection;
+import com.example.backend.model.dto.sync.ScheduleEventChangeProjection;
+import com.example.backend.model.dto.sync.VisitChangeProjection;
+
+public interface DeltaSyncService {
+
+    /**
+     * Schedule events of the authenticated DSP changed since the watermark
+     * @param userEmail Email of the authenticated user
+     * @param since Watermark from the previous call, null for a full sync
+     * @param limit Page size, null for the default
+     */
+    DeltaSyncDTO<ScheduleEventChangeProjection> scheduleChanges(String userEmail, String since, Integer limit);
+
+    /**
+     * Visits (service deliveries) of the authenticated DSP changed since the watermark
+     */
+    DeltaSyncDTO<VisitChangeProjection> visitChanges(String userEmail, String since, Integer limit);
+
+    /**
+     * Patients scheduled with the authenticated DSP changed since the watermark
+     */
+    DeltaSyncDTO<PatientChangeProjection> patientChanges(String userEmail, String since, Integer limit);
+}
@@ -1,15 +1,20 @@
 package com.example.backend.service;
 
 import com.example.backend.model.dto.*;
+import com.example.backend.model.dto.payroll.PayrollHoursDTO;
+import com.example.backend.model.dto.payroll.PayrollPeriodDTO;
 import com.example.backend.model.dto.report.*;
 import com.example.backend.model.dto.schedule.ScheduleEventDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
@@ -20,9 +25,11 @@ import java.util.List;
  * Service for exporting reports to Excel format
  */
 @Service
+@Lazy
 @Slf4j
 public class ExcelExportService {
 
+    private static final int STREAMING_ROW_WINDOW = 100;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM/dd/yyyy");
 
     /**
@@ -520,6 +527,57 @@ public class ExcelExportService {
         }
     }
 
+    /**
+     * Stream payroll hours to Excel.
+     * Uses a row-windowed SXSSF workbook so only a few rows are held in memory while writing to the output.
+     */
+    public void writePayrollHoursReport(PayrollPeriodDTO period, OutputStream out) throws IOException {
+        log.info("Streaming payroll hours export for {} - {} with {} rows",
+            period.getPeriodStart(), period.getPeriodEnd(), period.getHours().size());
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_ROW_WINDOW);
+        try {
+            Sheet sheet = workbook.createSheet("Payroll Hours");
+
+            CellStyle headerStyle = createHeaderStyle(workbook);
+            CellStyle dataStyle = createDataStyle(workbook);
+
+            Row headerRow = sheet.createRow(0);
+            String[] headers = {
+                "Period Start", "Period End", "Employee ID", "Employee", "Service",
+                "Regular Hours", "Overtime Hours", "Total Hours"
+            };
+
+            for (int i = 0; i < headers.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(headers[i]);
+                cell.setCellStyle(headerStyle);
+                // autoSizeColumn needs all rows in memory, so widths are fixed instead
+                sheet.setColumnWidth(i, 18 * 256);
+            }
+
+            int rowNum = 1;
+            for (PayrollHoursDTO dto : period.getHours()) {
+                Row row = sheet.createRow(rowNum++);
+                int colNum = 0;
+
+                createCell(row, colNum++, formatDate(period.getPeriodStart()), dataStyle);
+                createCell(row, colNum++, formatDate(period.getPeriodEnd()), dataStyle);
+                createCell(row, colNum++, dto.getEmployeeId(), dataStyle);
+                createCell(row, colNum++, dto.getStaffName(), dataStyle);
+                createCell(row, colNum++, dto.getServiceTypeName(), dataStyle);
+                createCell(row, colNum++, formatDecimal(dto.getRegularHours()), dataStyle);
+                createCell(row, colNum++, formatDecimal(dto.getOvertimeHours()), dataStyle);
+                createCell(row, colNum++, formatDecimal(dto.getTotalHours()), dataStyle);
+            }
+
+            workbook.write(out);
+        } finally {
+            workbook.close();
+            workbook.dispose();
+        }
+    }
+
     // Additional helper methods
     
     private String formatDateTime(OffsetDateTime dateTime) {
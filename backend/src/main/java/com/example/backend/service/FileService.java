@@ -1,17 +1,31 @@
 package com.example.backend.service;
 
 import com.example.backend.model.entity.FileObject;
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.UUID;
 
 public interface FileService {
+
+    /**
+     * Variant name of the uploaded content itself
+     */
+    String ORIGINAL = "original";
+
+    /**
+     * Content of a file or one of its variants. {@code resource} is set when the backend serves it through the API,
+     * otherwise clients are sent to {@code uri}. The ETag never changes for the same content and variant.
+     */
+    record FileContent(String etag, String contentType, String uri, Resource resource) {
+    }
     
     /**
-     * Upload a file to Cloudinary and save metadata to database
+     * Save file metadata to database and upload the file to the storage backend in the background.
+     * Content identical to an existing file (by SHA-256) returns that file with one more reference.
      * @param file The file to upload
      * @param officeId Optional office ID to associate with the file
-     * @return FileObject entity with metadata
+     * @return FileObject entity with metadata, upload status pending until the upload completes
      */
     FileObject uploadFile(MultipartFile file, UUID officeId);
     
@@ -23,15 +37,24 @@ public interface FileService {
     FileObject getFileById(UUID fileId);
     
     /**
-     * Delete file from Cloudinary and database
+     * Remove one reference to the file; the database row and stored object are deleted with the last one
      * @param fileId File ID
      */
     void deleteFile(UUID fileId);
     
     /**
-     * Get file download URL from Cloudinary
+     * Get file download URL from the storage backend
      * @param fileId File ID
      * @return Public URL to download the file
+     * @throws IllegalStateException if the upload has not completed
      */
     String getFileUrl(UUID fileId);
+
+    /**
+     * Get the content of a stored file or of an image variant (thumbnail, medium)
+     * @param fileId File ID
+     * @param variant original, thumbnail or medium
+     * @return Content location and cache validator
+     */
+    FileContent getFileContent(UUID fileId, String variant);
 }
@@ -0,0 +1,209 @@
+package com.example.backend.service;
+
+import com.example.backend.config.properties.IdempotencyProperties;
+import com.example.backend.model.entity.IdempotencyKey;
+import com.example.backend.repository.IdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stores the outcome of write requests sent with an Idempotency-Key header (see IdempotencyFilter).
+ * <p>
+ * Keys live in the idempotency_key table until their TTL runs out; recently completed ones are also kept in an
+ * in-memory hot set so a retry storm does not reach the database. Requests with the same key are serialized by a
+ * per-key lock on this instance, and by the in_progress claim row across instances.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+    public enum State {
+        /** First request with the key: execute it, then call complete or release */
+        PROCEED,
+        /** Completed before: send the stored response */
+        REPLAY,
+        /** Another request with the key is still running on some instance */
+        IN_PROGRESS,
+        /** The key was used for a different request body */
+        MISMATCH
+    }
+
+    public record StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+    }
+
+    public record Claim(State state, StoredResponse response) {
+
+        static Claim of(State state) {
+            return new Claim(state, null);
+        }
+    }
+
+    private final IdempotencyKeyRepository repository;
+    private final IdempotencyProperties properties;
+    private final Cache<String, StoredResponse> hotSet;
+    private final Map<String, KeyLock> locks = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyKeyRepository repository, IdempotencyProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.hotSet = Caffeine.newBuilder()
+            .maximumWeight(properties.getHotSetMaxSize().toBytes())
+            .weigher((String key, StoredResponse response) -> ENTRY_OVERHEAD_BYTES + response.body().length)
+            .expireAfterWrite(properties.getTtl())
+            .build();
+    }
+
+    /**
+     * Key of the request in the store: the client key is only unique per user and endpoint
+     */
+    public static String keyHash(String user, String method, String path, String idempotencyKey) {
+        return sha256((user + "\n" + method + " " + path + "\n" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Lock the key on this instance, waiting up to the timeout; hold it from begin to complete/release, then
+     * {@link #unlock}. Each key in use has its own lock, dropped once no request holds or waits for it, so
+     * requests with different keys never wait on each other.
+     */
+    public boolean tryLock(String keyHash, Duration timeout) throws InterruptedException {
+        KeyLock keyLock = locks.compute(keyHash, (key, existing) -> {
+            KeyLock lock = existing != null ? existing : new KeyLock();
+            lock.users++;
+            return lock;
+        });
+        boolean locked = false;
+        try {
+            locked = keyLock.lock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return locked;
+        } finally {
+            if (!locked) {
+                leave(keyHash);
+            }
+        }
+    }
+
+    public void unlock(String keyHash) {
+        locks.get(keyHash).lock.unlock();
+        leave(keyHash);
+    }
+
+    private void leave(String keyHash) {
+        locks.computeIfPresent(keyHash, (key, lock) -> --lock.users == 0 ? null : lock);
+    }
+
+    /**
+     * Claim the key for this request, or tell how an earlier request with it ended
+     */
+    public Claim begin(String keyHash, String requestHash) {
+        StoredResponse hot = hotSet.getIfPresent(keyHash);
+        if (hot != null) {
+            return replay(hot, requestHash);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (repository.claim(keyHash, requestHash, now, now.plus(properties.getClaimTimeout())) == 1) {
+            return Claim.of(State.PROCEED);
+        }
+        Optional<IdempotencyKey> existing = repository.findActive(keyHash, now);
+        if (existing.isEmpty()) {
+            // Released or expired between the two statements: the claim can be retried once
+            return repository.claim(keyHash, requestHash, now, now.plus(properties.getClaimTimeout())) == 1
+                ? Claim.of(State.PROCEED)
+                : Claim.of(State.IN_PROGRESS);
+        }
+        IdempotencyKey key = existing.get();
+        if (!key.isCompleted()) {
+            return Claim.of(key.getRequestHash().equals(requestHash) ? State.IN_PROGRESS : State.MISMATCH);
+        }
+        StoredResponse stored = new StoredResponse(key.getRequestHash(), key.getResponseStatus(),
+            key.getResponseContentType(), key.getResponseBody() != null ? key.getResponseBody() : new byte[0]);
+        hotSet.put(keyHash, stored);
+        return replay(stored, requestHash);
+    }
+
+    /**
+     * Store the response of a claimed request. Server errors are not stored: the claim is released so a retry
+     * runs the request again.
+     */
+    public void complete(String keyHash, String requestHash, int status, String contentType, byte[] body) {
+        if (status >= 500) {
+            release(keyHash);
+            return;
+        }
+        try {
+            if (repository.complete(keyHash, status, contentType, body, LocalDateTime.now().plus(properties.getTtl())) == 1) {
+                hotSet.put(keyHash, new StoredResponse(requestHash, status, contentType, body));
+            } else {
+                log.warn("Idempotency key {} was taken over before its request completed", keyHash);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not store response for idempotency key {}: {}", keyHash, e.getMessage());
+            release(keyHash);
+        }
+    }
+
+    public void release(String keyHash) {
+        try {
+            repository.release(keyHash);
+        } catch (RuntimeException e) {
+            // The claim then runs out after the claim timeout
+            log.warn("Could not release idempotency key {}: {}", keyHash, e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${app.idempotency.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            int purged = repository.deleteExpired(LocalDateTime.now());
+            if (purged > 0) {
+                log.info("Purged {} expired idempotency keys", purged);
+            }
+        } catch (Exception e) {
+            log.error("Idempotency key purge failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private static Claim replay(StoredResponse stored, String requestHash) {
+        return stored.requestHash().equals(requestHash)
+            ? new Claim(State.REPLAY, stored)
+            : Claim.of(State.MISMATCH);
+    }
+
+    /**
+     * Lock of one key and the number of requests holding or waiting for it; users only changes inside
+     * locks.compute, which serializes it per key
+     */
+    private static final class KeyLock {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.backend.service;
+
+import com.example.backend.model.dto.sync.OfflineSyncRequestDTO;
+import com.example.backend.model.dto.sync.OfflineSyncResponseDTO;
+
+public interface OfflineSyncService {
+
+    /**
+     * Apply a device's queued operations in order for the authenticated user.
+     * Operations already processed (by operation ID) are reported again without being re-applied.
+     * @param userEmail Email of the authenticated user
+     * @param request Operations in queue order
+     * @return One result per operation, in request order
+     */
+    OfflineSyncResponseDTO sync(String userEmail, OfflineSyncRequestDTO request);
+}
@@ -0,0 +1,17 @@
+package com.example.backend.service;
+
+import com.example.backend.model.dto.payroll.PayrollPeriodDTO;
+
+import java.time.LocalDate;
+
+/**
+ * Service interface for payroll hours aggregation
+ */
+public interface PayrollService {
+
+    /**
+     * Regular and overtime hours per staff member and service type for the pay period containing the date.
+     * Open periods are computed live; closed periods are computed once and then served from the frozen copy.
+     */
+    PayrollPeriodDTO getPeriodHours(LocalDate date);
+}
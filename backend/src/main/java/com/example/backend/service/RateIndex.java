@@ -0,0 +1,171 @@
+package com.example.backend.service;
+
+import com.example.backend.model.dto.billing.BillingRateProjection;
+import com.example.backend.model.dto.billing.StaffPayRateProjection;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of all billing rates (rate cards and entries) and staff pay rates.
+ * Lookups are a hash probe per specificity level plus a binary search over the effective dates
+ * of that key, so pricing a visit never touches the database. Instances are compiled by
+ * {@link RateIndexService} and replaced as a whole when rates change.
+ */
+public final class RateIndex {
+
+    public static final RateIndex EMPTY = compile(0L, List.of(), List.of());
+
+    private final long version;
+    private final LocalDateTime compiledAt;
+    private final Map<Key, Timeline> billingRates;
+    private final Map<Key, Timeline> staffPayRates;
+
+    private RateIndex(long version, Map<Key, Timeline> billingRates, Map<Key, Timeline> staffPayRates) {
+        this.version = version;
+        this.compiledAt = LocalDateTime.now();
+        this.billingRates = billingRates;
+        this.staffPayRates = staffPayRates;
+    }
+
+    /**
+     * Compile an index. Rows are expected oldest first; when two rows of the same key start on the
+     * same date the later one wins.
+     */
+    public static RateIndex compile(long version, List<? extends BillingRateProjection> billingRows,
+                                    List<? extends StaffPayRateProjection> staffPayRows) {
+        Map<Key, List<Rate>> billing = new HashMap<>();
+        for (BillingRateProjection row : billingRows) {
+            billing.computeIfAbsent(new Key(row.getServiceTypeId(), row.getStaffId(), row.getPatientId()), k -> new ArrayList<>())
+                .add(new Rate(row.getRate(), row.getPayBasis(), row.getEffectiveAt(), row.getExpiresAt()));
+        }
+        Map<Key, List<Rate>> staffPay = new HashMap<>();
+        for (StaffPayRateProjection row : staffPayRows) {
+            staffPay.computeIfAbsent(new Key(row.getServiceTypeId(), row.getStaffId(), null), k -> new ArrayList<>())
+                .add(new Rate(row.getHourlyRate(), row.getPayBasis(), row.getEffectiveAt(), row.getExpiresAt()));
+        }
+        return new RateIndex(version, toTimelines(billing), toTimelines(staffPay));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getCompiledAt() {
+        return compiledAt;
+    }
+
+    public int size() {
+        return billingRates.size() + staffPayRates.size();
+    }
+
+    /**
+     * Billing rate for a visit. Falls back from (service type, staff, patient) to (service type, patient),
+     * (service type, staff) and finally the service type default.
+     */
+    public Rate billingRate(UUID serviceTypeId, UUID staffId, UUID patientId, LocalDate date) {
+        if (serviceTypeId == null || date == null) return null;
+        Rate rate = find(billingRates, new Key(serviceTypeId, staffId, patientId), date);
+        if (rate == null && staffId != null) rate = find(billingRates, new Key(serviceTypeId, null, patientId), date);
+        if (rate == null && patientId != null) rate = find(billingRates, new Key(serviceTypeId, staffId, null), date);
+        if (rate == null && staffId != null && patientId != null) rate = find(billingRates, new Key(serviceTypeId, null, null), date);
+        return rate;
+    }
+
+    /**
+     * Staff pay rate for a service type, falling back to the staff member's general rate
+     */
+    public Rate staffPayRate(UUID staffId, UUID serviceTypeId, LocalDate date) {
+        if (staffId == null || date == null) return null;
+        Rate rate = find(staffPayRates, new Key(serviceTypeId, staffId, null), date);
+        if (rate == null && serviceTypeId != null) rate = find(staffPayRates, new Key(null, staffId, null), date);
+        return rate;
+    }
+
+    private static Rate find(Map<Key, Timeline> rates, Key key, LocalDate date) {
+        Timeline timeline = rates.get(key);
+        return timeline != null ? timeline.at(date.toEpochDay()) : null;
+    }
+
+    private static Map<Key, Timeline> toTimelines(Map<Key, List<Rate>> rows) {
+        Map<Key, Timeline> timelines = new HashMap<>(rows.size() * 2);
+        rows.forEach((key, rates) -> timelines.put(key, new Timeline(rates)));
+        return Map.copyOf(timelines);
+    }
+
+    /**
+     * A single rate with its effective window. Expiry is exclusive, matching RateCard and StaffRate.
+     */
+    public record Rate(BigDecimal rate, String payBasis, LocalDate effectiveAt, LocalDate expiresAt) {
+
+        public boolean isEffectiveOn(LocalDate date) {
+            return !effectiveAt.isAfter(date) && (expiresAt == null || expiresAt.isAfter(date));
+        }
+
+        /**
+         * Price a visit by pay basis: per_unit (default) by units, per_hour by hours, flat once.
+         * Returns null when the basis needs hours that are not known.
+         */
+        public BigDecimal priceFor(int units, Double hours) {
+            BigDecimal quantity = switch (payBasis) {
+                case "per_hour" -> hours != null ? BigDecimal.valueOf(hours) : null;
+                case "flat" -> BigDecimal.ONE;
+                default -> BigDecimal.valueOf(units);
+            };
+            return quantity != null ? rate.multiply(quantity).setScale(2, RoundingMode.HALF_UP) : null;
+        }
+    }
+
+    private record Key(UUID serviceTypeId, UUID staffId, UUID patientId) {
+    }
+
+    /**
+     * Rates of one key sorted by effective date, searched by epoch day
+     */
+    private static final class Timeline {
+        private final long[] effectiveDays;
+        private final long[] expiresDays;
+        private final Rate[] rates;
+
+        private Timeline(List<Rate> source) {
+            // Stable sort keeps the input order for equal start dates, so the later row ends up last
+            Rate[] sorted = source.toArray(new Rate[0]);
+            Arrays.sort(sorted, (a, b) -> a.effectiveAt().compareTo(b.effectiveAt()));
+            this.rates = sorted;
+            this.effectiveDays = new long[sorted.length];
+            this.expiresDays = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                effectiveDays[i] = sorted[i].effectiveAt().toEpochDay();
+                expiresDays[i] = sorted[i].expiresAt() != null ? sorted[i].expiresAt().toEpochDay() : Long.MAX_VALUE;
+            }
+        }
+
+        private Rate at(long day) {
+            // Last rate starting on or before the day, walking back past any that already expired
+            int lo = 0;
+            int hi = effectiveDays.length - 1;
+            int idx = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (effectiveDays[mid] <= day) {
+                    idx = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            for (int i = idx; i >= 0; i--) {
+                if (expiresDays[i] > day) return rates[i];
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.backend.service;
+
+import com.example.backend.repository.RateEntryRepository;
+import com.example.backend.repository.StaffRateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the current compiled {@link RateIndex}.
+ * The index is built on first use and recompiled when the rate tables' fingerprint changes,
+ * which is checked periodically so edits made by other instances or directly in the database are
+ * picked up too. Readers keep using the snapshot they obtained until they ask again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RateIndexService {
+
+    private final RateEntryRepository rateEntryRepository;
+    private final StaffRateRepository staffRateRepository;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    /**
+     * Current rate index; a billing or payroll run should call this once and reuse the result
+     * so every visit in the run is priced against the same version.
+     */
+    public RateIndex current() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot.index() : rebuild();
+    }
+
+    /**
+     * Recompile now, e.g. right after rates were edited in this instance
+     */
+    public synchronized RateIndex rebuild() {
+        long start = System.currentTimeMillis();
+        // Read the fingerprint first so a change made while loading triggers another rebuild
+        String fingerprint = rateEntryRepository.findRateTablesFingerprint();
+        Snapshot previous = current.get();
+        long version = previous != null ? previous.index().getVersion() + 1 : 1L;
+
+        RateIndex index = RateIndex.compile(version,
+            rateEntryRepository.findAllBillingRates(),
+            staffRateRepository.findAllPayRates());
+        current.set(new Snapshot(index, fingerprint));
+
+        log.info("Rate index v{} compiled with {} keys in {} ms",
+            version, index.size(), System.currentTimeMillis() - start);
+        return index;
+    }
+
+    @Scheduled(fixedDelayString = "${app.billing.rate-index.check-interval:60s}",
+               initialDelayString = "${app.billing.rate-index.check-interval:60s}")
+    public void rebuildIfChanged() {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            return; // Not used yet, first caller builds it
+        }
+        try {
+            if (!Objects.equals(snapshot.fingerprint(), rateEntryRepository.findRateTablesFingerprint())) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.warn("Rate index change check failed, keeping v{}: {}", snapshot.index().getVersion(), e.getMessage());
+        }
+    }
+
+    private record Snapshot(RateIndex index, String fingerprint) {
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.backend.service;
+
+import com.example.backend.config.properties.ReferenceDataCacheProperties;
+import com.example.backend.model.dto.ServiceTypeSelectDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Loads the reference data caches once the application is ready so the first requests
+ * after a deploy do not all miss at the same time
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataCacheWarmer {
+
+    private final ReferenceDataService referenceDataService;
+    private final ServiceTypeService serviceTypeService;
+    private final ProgramService programService;
+    private final PayerService payerService;
+    private final RoleService roleService;
+    private final OfficeService officeService;
+    private final PatientService patientService;
+    private final ReferenceDataCacheProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isWarmUp()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            List<ServiceTypeSelectDTO> serviceTypes = serviceTypeService.getServiceTypesForSelect();
+            serviceTypes.forEach(st -> referenceDataService.findServiceTypeByCode(st.getCode()));
+            programService.getActiveProgramsForSelect();
+            payerService.getPayersForSelect();
+            roleService.getActiveRoles();
+            officeService.getActiveOffices();
+            patientService.getPatientFilterOptions();
+            log.info("Reference data caches warmed up in {} ms", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("Reference data cache warm-up failed, caches will fill on demand: {}", e.getMessage());
+        }
+    }
+}
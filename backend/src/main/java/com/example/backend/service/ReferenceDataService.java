@@ -0,0 +1,59 @@
+package com.example.backend.service;
+
+import com.example.backend.config.CacheConfig;
+import com.example.backend.model.dto.ReferenceRefDTO;
+import com.example.backend.repository.PayerRepository;
+import com.example.backend.repository.ProgramRepository;
+import com.example.backend.repository.RoleRepository;
+import com.example.backend.repository.ServiceTypeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Cached lookups of small reference tables by their natural key.
+ * Only ids, names and active flags are cached, never managed entities, so callers can use them
+ * from any transaction; misses are cached too so unknown codes do not hit the database repeatedly.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataService {
+
+    private final ServiceTypeRepository serviceTypeRepository;
+    private final ProgramRepository programRepository;
+    private final PayerRepository payerRepository;
+    private final RoleRepository roleRepository;
+
+    @Cacheable(cacheNames = CacheConfig.SERVICE_TYPE_BY_CODE)
+    @Transactional(readOnly = true)
+    public Optional<ReferenceRefDTO> findServiceTypeByCode(String code) {
+        return serviceTypeRepository.findByCode(code)
+            .map(st -> new ReferenceRefDTO(st.getId(), st.getCode(), st.getName(), true));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_BY_IDENTIFIER)
+    @Transactional(readOnly = true)
+    public Optional<ReferenceRefDTO> findProgramByIdentifier(String programIdentifier) {
+        return programRepository.findByProgramIdentifier(programIdentifier)
+            .map(p -> new ReferenceRefDTO(p.getId(), p.getProgramIdentifier(), p.getProgramName(), p.isActive()));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.PAYER_BY_IDENTIFIER)
+    @Transactional(readOnly = true)
+    public Optional<ReferenceRefDTO> findPayerByIdentifier(String payerIdentifier) {
+        return payerRepository.findByPayerIdentifier(payerIdentifier)
+            .map(p -> new ReferenceRefDTO(p.getId(), p.getPayerIdentifier(), p.getPayerName(), p.isActivePayer()));
+    }
+
+    @Cacheable(cacheNames = CacheConfig.ROLE_BY_NAME)
+    @Transactional(readOnly = true)
+    public Optional<ReferenceRefDTO> findRoleByName(String name) {
+        return roleRepository.findByName(name)
+            .map(r -> new ReferenceRefDTO(r.getId(), r.getCode(), r.getName(), !r.isDeleted()));
+    }
+}
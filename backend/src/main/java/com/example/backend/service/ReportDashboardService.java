@@ -0,0 +1,156 @@
+package com.example.backend.service;
+
+import com.example.backend.config.properties.ReportDashboardProperties;
+import com.example.backend.model.dto.report.AuthReportDashboardDTO;
+import com.example.backend.model.dto.report.ExpiringAuthDigestSummaryDTO;
+import com.example.backend.model.dto.report.ReportFilterDTO;
+import com.example.backend.repository.AuthorizationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Computes the headline numbers of all authorization reports concurrently.
+ * Each sub-query runs in its own read-only transaction (one pooled connection each) on a bounded
+ * executor, and the whole dashboard is capped by a single time budget; slow sections come back empty.
+ */
+@Service
+@Slf4j
+public class ReportDashboardService {
+
+    static final String AUTH_VS_ACTUAL = "authVsActual";
+    static final String CLIENTS_WITHOUT_AUTH = "clientsWithoutAuth";
+    static final String EXPIRING_AUTH = "expiringAuth";
+    static final String LOW_REMAINING = "lowRemaining";
+
+    private final AuthorizationRepository authorizationRepository;
+    private final AuthorizationDigestService authorizationDigestService;
+    private final ReportDashboardProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolTaskExecutor executor;
+
+    public ReportDashboardService(AuthorizationRepository authorizationRepository,
+                                  AuthorizationDigestService authorizationDigestService,
+                                  ReportDashboardProperties properties,
+                                  PlatformTransactionManager transactionManager) {
+        this.authorizationRepository = authorizationRepository;
+        this.authorizationDigestService = authorizationDigestService;
+        this.properties = properties;
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        // Statement-level timeout so a slow sub-query releases its connection instead of running on after the budget
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, properties.getTimeout().toSeconds()));
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(properties.getMaxConcurrency());
+        this.executor.setMaxPoolSize(properties.getMaxConcurrency());
+        this.executor.setQueueCapacity(properties.getMaxConcurrency() * 10);
+        this.executor.setThreadNamePrefix("report-q-");
+        // Reject when saturated: the section is reported as incomplete rather than run on the request thread,
+        // outside the time budget
+        this.executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        this.executor.initialize();
+    }
+
+    /**
+     * Get headline counts for the auth-vs-actual, clients-without-auth and expiring-auth reports
+     */
+    public AuthReportDashboardDTO getAuthorizationDashboard(ReportFilterDTO filters) {
+        long start = System.currentTimeMillis();
+        int expiresAfterDays = filters.getExpiresAfterDays() != null && filters.getExpiresAfterDays() > 0
+            ? filters.getExpiresAfterDays() : 30;
+
+        UUID[] payerIds = toArray(filters.getPayerIds());
+        UUID[] programIds = toArray(filters.getProgramIds());
+        UUID[] serviceTypeIds = toArray(filters.getServiceTypeIds());
+
+        Map<String, CompletableFuture<Long>> sections = new LinkedHashMap<>();
+        sections.put(AUTH_VS_ACTUAL, submit(() -> authorizationRepository.countAuthVsActualReport(
+            filters.getFromDate(), filters.getToDate(), payerIds, programIds, serviceTypeIds,
+            filters.getClientMedicaidId(), filters.getClientSearch())));
+        sections.put(CLIENTS_WITHOUT_AUTH, submit(() -> authorizationRepository.countClientsWithoutAuthReport(
+            filters.getFromDate(), filters.getToDate(), filters.getClientMedicaidId(), filters.getClientSearch())));
+        sections.put(EXPIRING_AUTH, submit(() -> authorizationRepository.countExpiringAuthReport(
+            filters.getFromDate(), filters.getToDate(), payerIds, programIds, serviceTypeIds,
+            filters.getClientMedicaidId(), filters.getClientSearch(), expiresAfterDays, filters.getOfficeId())));
+        sections.put(LOW_REMAINING, submit(() -> authorizationDigestService
+            .getOfficeSummaries(filters.getOfficeId(), expiresAfterDays).stream()
+            .mapToLong(ExpiringAuthDigestSummaryDTO::getLowRemainingCount)
+            .sum()));
+
+        AuthReportDashboardDTO dashboard = new AuthReportDashboardDTO();
+        long deadline = start + properties.getTimeout().toMillis();
+        for (Map.Entry<String, CompletableFuture<Long>> section : sections.entrySet()) {
+            Long value = await(section.getKey(), section.getValue(), deadline);
+            if (value == null) {
+                dashboard.markIncomplete(section.getKey());
+                continue;
+            }
+            switch (section.getKey()) {
+                case AUTH_VS_ACTUAL -> dashboard.setAuthVsActualCount(value);
+                case CLIENTS_WITHOUT_AUTH -> dashboard.setClientsWithoutAuthCount(value);
+                case EXPIRING_AUTH -> dashboard.setExpiringAuthCount(value);
+                case LOW_REMAINING -> dashboard.setLowRemainingCount(value);
+                default -> { }
+            }
+        }
+        dashboard.setElapsedMs(System.currentTimeMillis() - start);
+
+        log.info("Authorization dashboard computed in {} ms (complete: {}, incomplete: {})",
+            dashboard.getElapsedMs(), dashboard.isComplete(), dashboard.getIncompleteSections());
+        return dashboard;
+    }
+
+    private CompletableFuture<Long> submit(Supplier<Long> query) {
+        try {
+            return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Long await(String section, CompletableFuture<Long> future, long deadline) {
+        long remaining = Math.max(0, deadline - System.currentTimeMillis());
+        try {
+            return future.get(remaining, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // A running JDBC call cannot be interrupted; the transaction timeout ends the statement and frees the
+            // connection, the result is just not waited for
+            log.warn("Dashboard section '{}' exceeded the {} budget", section, properties.getTimeout());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                log.warn("Dashboard section '{}' unavailable: all {} query slots busy", section, properties.getMaxConcurrency());
+            } else {
+                log.warn("Dashboard section '{}' failed: {}", section, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private UUID[] toArray(List<UUID> ids) {
+        return ids != null && !ids.isEmpty() ? ids.toArray(new UUID[0]) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -41,6 +41,15 @@ public class ServiceDeliveryCheckInCheckOutService {
      */
     @Transactional
     public ServiceDeliveryCheckInCheckOutResponse checkIn(ServiceDeliveryCheckInRequest request) {
+        return checkIn(request, LocalDateTime.now());
+    }
+
+    /**
+     * Process a check-in captured on the device at occurredAt. Only the offline sync passes a device time, after
+     * checking it against the sync time; client requests always check in now.
+     */
+    @Transactional
+    public ServiceDeliveryCheckInCheckOutResponse checkIn(ServiceDeliveryCheckInRequest request, LocalDateTime occurredAt) {
         log.info("Processing check-in for service delivery: {}", request.getServiceDeliveryId());
 
         // Validate coordinates
@@ -87,7 +96,7 @@ public class ServiceDeliveryCheckInCheckOutService {
         checkInEvent.setPatient(patient);
         checkInEvent.setScheduleEvent(serviceDelivery.getScheduleEvent());
         checkInEvent.setEventType(CheckEventType.CHECK_IN);
-        checkInEvent.setOccurredAt(LocalDateTime.now());
+        checkInEvent.setOccurredAt(occurredAt);
         checkInEvent.setLatitude(BigDecimal.valueOf(request.getLatitude()));
         checkInEvent.setLongitude(BigDecimal.valueOf(request.getLongitude()));
         // Cap accuracy_m at 9999.99 to fit NUMERIC(6,2) constraint
@@ -111,6 +120,14 @@ public class ServiceDeliveryCheckInCheckOutService {
      */
     @Transactional
     public ServiceDeliveryCheckInCheckOutResponse checkOut(ServiceDeliveryCheckOutRequest request) {
+        return checkOut(request, LocalDateTime.now());
+    }
+
+    /**
+     * Process a check-out captured on the device at occurredAt, see {@link #checkIn(ServiceDeliveryCheckInRequest, LocalDateTime)}
+     */
+    @Transactional
+    public ServiceDeliveryCheckInCheckOutResponse checkOut(ServiceDeliveryCheckOutRequest request, LocalDateTime occurredAt) {
         log.info("Processing check-out for service delivery: {}", request.getServiceDeliveryId());
 
         // Validate coordinates
@@ -132,6 +149,11 @@ public class ServiceDeliveryCheckInCheckOutService {
             throw new ValidationException("Already checked out");
         }
 
+        // Validate check-out comes after check-in
+        if (!occurredAt.isAfter(serviceDelivery.getCheckInEvent().getOccurredAt())) {
+            throw new ValidationException("Check-out time must be after check-in time");
+        }
+
         // Get patient address
         Patient patient = serviceDelivery.getPatient();
         PatientAddress patientAddress = patient.getPatientAddresses().stream()
@@ -157,7 +179,7 @@ public class ServiceDeliveryCheckInCheckOutService {
         checkOutEvent.setPatient(patient);
         checkOutEvent.setScheduleEvent(serviceDelivery.getScheduleEvent());
         checkOutEvent.setEventType(CheckEventType.CHECK_OUT);
-        checkOutEvent.setOccurredAt(LocalDateTime.now());
+        checkOutEvent.setOccurredAt(occurredAt);
         checkOutEvent.setLatitude(BigDecimal.valueOf(request.getLatitude()));
         checkOutEvent.setLongitude(BigDecimal.valueOf(request.getLongitude()));
         // Cap accuracy_m at 9999.99 to fit NUMERIC(6,2) constraint
@@ -0,0 +1,159 @@
+package com.example.backend.service.audit;
+
+import com.example.backend.model.entity.BaseEntity;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Field level snapshots and diffs of Hibernate entity state arrays for audit_log.
+ * Collections are left out, associations are recorded by id and masked properties never leave the entity.
+ */
+final class AuditDiff {
+
+    static final String MASK = "***";
+
+    private AuditDiff() {
+    }
+
+    /**
+     * Audit view of one entity type: which state array slots are recorded and where its module root and office are
+     *
+     * @param rootIndex state slot of the reference to the module root, -1 when the entity is its own root
+     * @param officeIndex state slot of the office reference, -1 if there is none
+     */
+    record AuditedType(String name, String moduleCode, String rootName, String[] propertyNames, boolean[] included,
+                       boolean[] masked, int rootIndex, int officeIndex) {
+
+        static AuditedType of(EntityPersister persister, String moduleCode, String rootName,
+                              List<String> maskedFields, List<String> ignoredFields) {
+            String name = persister.getMappedClass().getSimpleName();
+            String[] names = persister.getPropertyNames();
+            Type[] types = persister.getPropertyTypes();
+            boolean[] included = new boolean[names.length];
+            boolean[] masked = new boolean[names.length];
+            int rootIndex = -1;
+            int officeIndex = -1;
+            for (int i = 0; i < names.length; i++) {
+                included[i] = !types[i].isCollectionType() && !ignoredFields.contains(names[i]);
+                masked[i] = maskedFields.contains(names[i]);
+                if (types[i] instanceof EntityType entityType) {
+                    String target = simpleName(entityType.getAssociatedEntityName());
+                    if (rootIndex < 0 && !name.equals(rootName) && target.equals(rootName)) {
+                        rootIndex = i;
+                    }
+                    if (officeIndex < 0 && target.equals("Office")) {
+                        officeIndex = i;
+                    }
+                }
+            }
+            return new AuditedType(name, moduleCode, rootName, names, included, masked, rootIndex, officeIndex);
+        }
+    }
+
+    /**
+     * Every recorded property with a value, for inserts and deletes
+     */
+    static Map<String, Object> snapshot(AuditedType type, Object[] state) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < state.length; i++) {
+            if (type.included()[i] && state[i] != null) {
+                values.put(type.propertyNames()[i], value(type, i, state[i]));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Put the old and new values of the changed recorded properties into before and after.
+     * Uses Hibernate's dirty properties when known and compares the states otherwise.
+     */
+    static void diff(AuditedType type, Object[] oldState, Object[] state, int[] dirty,
+                     Map<String, Object> before, Map<String, Object> after) {
+        if (dirty != null) {
+            for (int i : dirty) {
+                put(type, i, oldState, state, before, after);
+            }
+            return;
+        }
+        for (int i = 0; i < state.length; i++) {
+            if (oldState == null || !Objects.equals(id(oldState[i]), id(state[i]))) {
+                put(type, i, oldState, state, before, after);
+            }
+        }
+    }
+
+    /**
+     * Id of an entity reference (without initializing a proxy), or null
+     */
+    static UUID entityId(Object entity) {
+        return id(entity) instanceof UUID id ? id : null;
+    }
+
+    private static void put(AuditedType type, int i, Object[] oldState, Object[] state,
+                            Map<String, Object> before, Map<String, Object> after) {
+        if (!type.included()[i]) {
+            return;
+        }
+        String name = type.propertyNames()[i];
+        if (oldState != null) {
+            before.put(name, value(type, i, oldState[i]));
+        }
+        after.put(name, value(type, i, state[i]));
+    }
+
+    private static Object value(AuditedType type, int i, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (type.masked()[i]) {
+            return MASK;
+        }
+        if (value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof HibernateProxy || value instanceof BaseEntity) {
+            return Objects.toString(id(value), null);
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (value instanceof TemporalAccessor || value instanceof UUID) {
+            return value.toString();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return new LinkedHashMap<>(map);
+        }
+        if (value instanceof Collection<?> collection) {
+            return new ArrayList<>(collection);
+        }
+        if (value instanceof byte[] bytes) {
+            return bytes.length + " bytes";
+        }
+        return value.toString();
+    }
+
+    private static Object id(Object value) {
+        if (value instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getInternalIdentifier();
+        }
+        if (value instanceof BaseEntity entity) {
+            return entity.getId();
+        }
+        return value;
+    }
+
+    private static String simpleName(String entityName) {
+        return entityName.substring(entityName.lastIndexOf('.') + 1);
+    }
+}
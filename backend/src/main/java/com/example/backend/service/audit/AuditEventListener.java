@@ -0,0 +1,161 @@
+package com.example.backend.service.audit;
+
+import com.example.backend.config.properties.AuditProperties;
+import com.example.backend.service.audit.AuditDiff.AuditedType;
+import com.example.backend.util.UuidV7;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Captures committed inserts, updates and deletes of the audited entities (app.audit.entities) as field level
+ * diffs and hands them to the {@link AuditWriter}. Runs on the request thread after commit, so it only builds the
+ * record; nothing here touches the database or waits on the writer.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditEventListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditProperties properties;
+    private final AuditWriter writer;
+
+    private final Map<String, Optional<AuditedType>> types = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        if (!properties.isEnabled()) {
+            log.info("Entity auditing is disabled");
+            return;
+        }
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+        log.info("Auditing changes of {}", properties.getEntities().keySet());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return type(persister).isPresent();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        type(event.getPersister()).ifPresent(type -> capture(type, "CREATE", event.getId(), event.getState(),
+            Map.of(), AuditDiff.snapshot(type, event.getState())));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        type(event.getPersister()).ifPresent(type -> {
+            Map<String, Object> before = new LinkedHashMap<>();
+            Map<String, Object> after = new LinkedHashMap<>();
+            AuditDiff.diff(type, event.getOldState(), event.getState(), event.getDirtyProperties(), before, after);
+            // Only ignored properties (e.g. updatedAt) changed
+            if (!after.isEmpty()) {
+                capture(type, "UPDATE", event.getId(), event.getState(), before, after);
+            }
+        });
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        type(event.getPersister()).ifPresent(type -> capture(type, "DELETE", event.getId(), event.getDeletedState(),
+            AuditDiff.snapshot(type, event.getDeletedState()), Map.of()));
+    }
+
+    // A rolled back change was never made, so there is nothing to audit
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void capture(AuditedType type, String action, Object id, Object[] state,
+                         Map<String, Object> before, Map<String, Object> after) {
+        try {
+            UUID recordId = id instanceof UUID uuid ? uuid : null;
+            UUID rootId = type.rootIndex() >= 0 ? AuditDiff.entityId(state[type.rootIndex()]) : null;
+            UUID officeId = type.officeIndex() >= 0 ? AuditDiff.entityId(state[type.officeIndex()]) : null;
+
+            Map<String, Object> metadata = new LinkedHashMap<>();
+            if (rootId != null) {
+                // Recorded against the patient / staff member; the changed row goes into the metadata
+                metadata.put("record", type.name());
+                metadata.put("recordId", Optional.ofNullable(recordId).map(UUID::toString).orElse(null));
+            }
+
+            writer.enqueue(new AuditRecord(
+                UuidV7.generate(),
+                OffsetDateTime.now(),
+                officeId,
+                actor(),
+                type.moduleCode(),
+                rootId != null ? type.rootName() : type.name(),
+                rootId != null ? rootId : recordId,
+                action,
+                before,
+                after,
+                metadata));
+        } catch (RuntimeException e) {
+            // The change is committed already; never fail the request over its audit record
+            log.error("Could not capture audit record for {} {} {}", action, type.name(), id, e);
+        }
+    }
+
+    private Optional<AuditedType> type(EntityPersister persister) {
+        return types.computeIfAbsent(persister.getEntityName(), name -> {
+            String simpleName = persister.getMappedClass().getSimpleName();
+            String moduleCode = properties.getEntities().get(simpleName);
+            if (moduleCode == null) {
+                return Optional.empty();
+            }
+            String rootName = properties.getRoots().getOrDefault(moduleCode, simpleName);
+            return Optional.of(AuditedType.of(persister, moduleCode, rootName,
+                properties.getMaskedFields(), properties.getIgnoredFields()));
+        });
+    }
+
+    private static String actor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
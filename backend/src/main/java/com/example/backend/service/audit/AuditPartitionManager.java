@@ -0,0 +1,282 @@
+package com.example.backend.service.audit;
+
+import com.example.backend.config.properties.AuditProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the monthly partitions of audit_log (audit_log_yYYYYmMM, UTC months): creates the current and upcoming ones
+ * and, past app.audit.partitions.retention-months, archives a partition to a gzipped CSV file with COPY and drops it.
+ * Dropping a whole partition is cheap where deleting old rows would bloat the table.
+ * <p>
+ * Creates partitions at startup, before the {@link AuditWriter} starts and before the data loaders, and maintains
+ * them on app.audit.partitions.maintenance-cron, on one instance at a time (session advisory lock). Rows that
+ * landed in the default partition meanwhile (partitions missing, or maintenance failed) are moved into the month's
+ * partition when it is created. Does nothing while audit_log is not partitioned (SchemaMigrations converts it at
+ * startup).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditPartitionManager implements SmartLifecycle {
+
+    private static final long MAINTENANCE_LOCK_KEY = 0x41554449_54504152L; // "AUDITPAR"
+    private static final Pattern PARTITION_NAME = Pattern.compile("audit_log_y(\\d{4})m(\\d{2})");
+
+    private final AuditProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean running;
+
+    /**
+     * Creates the partitions only; archiving and dropping expired ones is left to the schedule so it never holds
+     * up startup
+     */
+    @Override
+    public void start() {
+        maintain(false);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Before the AuditWriter, so its first inserts find this month's partition
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    @Scheduled(cron = "${app.audit.partitions.maintenance-cron:0 20 3 * * *}")
+    public void maintain() {
+        maintain(true);
+    }
+
+    private void maintain(boolean expire) {
+        if (!properties.getPartitions().isEnabled()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                if (!isPartitioned(connection)) {
+                    log.debug("audit_log is not partitioned, skipping partition maintenance");
+                    return null;
+                }
+                if (!queryBoolean(connection, "SELECT pg_try_advisory_lock(" + MAINTENANCE_LOCK_KEY + ")")) {
+                    log.debug("Audit partition maintenance is running on another instance");
+                    return null;
+                }
+                try {
+                    YearMonth current = YearMonth.now(ZoneOffset.UTC);
+                    createPartitions(connection, current);
+                    if (expire && properties.getPartitions().getRetentionMonths() > 0) {
+                        expirePartitions(connection, current.minusMonths(properties.getPartitions().getRetentionMonths()));
+                    }
+                } finally {
+                    queryBoolean(connection, "SELECT pg_advisory_unlock(" + MAINTENANCE_LOCK_KEY + ")");
+                }
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("Audit partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * Create the partitions of the current and the next premake-months months, each in its own transaction so one
+     * failing month does not keep the others from being created
+     */
+    private void createPartitions(Connection connection, YearMonth current) throws SQLException {
+        String defaultPartition = defaultPartition(connection);
+        for (int i = 0; i <= properties.getPartitions().getPremakeMonths(); i++) {
+            YearMonth month = current.plusMonths(i);
+            if (queryBoolean(connection, "SELECT to_regclass('" + partitionName(month) + "') IS NOT NULL")) {
+                continue;
+            }
+            try {
+                createPartition(connection, month, defaultPartition);
+            } catch (SQLException e) {
+                log.error("Could not create audit partition {}", partitionName(month), e);
+            }
+        }
+    }
+
+    /**
+     * Create the month's partition. Postgres refuses while the default partition holds rows of the month, so those
+     * are moved: detach the default partition, create the month's, move the rows over and attach it again, all in
+     * one transaction (audit inserts wait for it).
+     */
+    private void createPartition(Connection connection, YearMonth month, String defaultPartition) throws SQLException {
+        String partition = partitionName(month);
+        String from = "'" + month.atDay(1) + " 00:00:00+00'";
+        String to = "'" + month.plusMonths(1).atDay(1) + " 00:00:00+00'";
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            boolean misplaced = defaultPartition != null && queryBoolean(connection, "SELECT EXISTS (SELECT 1 FROM "
+                + defaultPartition + " WHERE created_at >= " + from + " AND created_at < " + to + ")");
+            if (misplaced) {
+                statement.execute("ALTER TABLE audit_log DETACH PARTITION " + defaultPartition);
+            }
+            statement.execute("CREATE TABLE " + partition + " PARTITION OF audit_log"
+                + " FOR VALUES FROM (" + from + ") TO (" + to + ")");
+            int moved = 0;
+            if (misplaced) {
+                moved = statement.executeUpdate("WITH moved AS (DELETE FROM " + defaultPartition
+                    + " WHERE created_at >= " + from + " AND created_at < " + to + " RETURNING *)"
+                    + " INSERT INTO " + partition + " SELECT * FROM moved");
+                statement.execute("ALTER TABLE audit_log ATTACH PARTITION " + defaultPartition + " DEFAULT");
+            }
+            connection.commit();
+            if (misplaced) {
+                log.info("Created audit partition {} and moved {} rows into it from {}", partition, moved,
+                    defaultPartition);
+            } else {
+                log.info("Created audit partition {}", partition);
+            }
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Archive and drop the monthly partitions before the given month
+     */
+    private void expirePartitions(Connection connection, YearMonth oldestKept) throws SQLException {
+        for (String partition : partitions(connection)) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            if (properties.getPartitions().isArchive()) {
+                try {
+                    archive(connection, partition);
+                } catch (IOException e) {
+                    // Keep the partition; the next run tries again
+                    log.error("Could not archive {}, keeping it", partition, e);
+                    continue;
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE audit_log DETACH PARTITION " + partition);
+                statement.execute("DROP TABLE " + partition);
+            } catch (SQLException e) {
+                log.error("Could not drop expired audit partition {}", partition, e);
+                continue;
+            }
+            log.info("Dropped expired audit partition {}", partition);
+        }
+    }
+
+    /**
+     * COPY the partition into archiveDir/{partition}.csv.gz. Written to a temporary file, synced and then renamed,
+     * so an archive file that exists is complete.
+     */
+    private void archive(Connection connection, String partition) throws SQLException, IOException {
+        Path dir = properties.getPartitions().getArchiveDir();
+        Files.createDirectories(dir);
+        Path target = dir.resolve(partition + ".csv.gz");
+        Path temp = dir.resolve(partition + ".csv.gz.tmp");
+
+        long rows;
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             GZIPOutputStream out = new GZIPOutputStream(file, 64 * 1024)) {
+            rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(
+                "COPY (SELECT * FROM " + partition + " ORDER BY created_at, id) TO STDOUT WITH (FORMAT csv, HEADER)",
+                out);
+            out.finish();
+            file.getChannel().force(true);
+        } catch (SQLException | IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Archived {} rows of {} to {}", rows, partition, target);
+    }
+
+    private List<String> partitions(Connection connection) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                 SELECT c.relname
+                 FROM pg_inherits i
+                 JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = 'audit_log'::regclass
+                 ORDER BY c.relname
+                 """)) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Name of audit_log's default partition, or null if it has none
+     */
+    private static String defaultPartition(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                 SELECT c.relname
+                 FROM pg_partitioned_table pt
+                 JOIN pg_class c ON c.oid = pt.partdefid
+                 WHERE pt.partrelid = 'audit_log'::regclass
+                 """)) {
+            return rs.next() ? rs.getString(1) : null;
+        }
+    }
+
+    private static boolean isPartitioned(Connection connection) throws SQLException {
+        return queryBoolean(connection,
+            "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('audit_log'))");
+    }
+
+    private static boolean queryBoolean(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("audit_log_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.backend.service.audit;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One audit_log row captured from a committed entity change, waiting for the {@link AuditWriter}.
+ * Also the line format of the spill file.
+ *
+ * @param actor email of the authenticated user, resolved to audit_log.user_id by the writer; null for system changes
+ */
+public record AuditRecord(
+    UUID id,
+    OffsetDateTime createdAt,
+    UUID officeId,
+    String actor,
+    String moduleCode,
+    String entityName,
+    UUID entityId,
+    String action,
+    Map<String, Object> before,
+    Map<String, Object> after,
+    Map<String, Object> metadata
+) {
+}
@@ -0,0 +1,148 @@
+package com.example.backend.service.audit;
+
+import com.example.backend.config.properties.AuditProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Local JSON lines file holding audit records that could not go to the database in time: records still queued at
+ * shutdown, queue overflow and batches whose insert kept failing. The writer inserts them again later.
+ * <p>
+ * Appends go to audit-spill.jsonl. A replay first renames it to a timestamped .replay file, so new appends start
+ * a fresh file, and deletes the .replay file once every record is inserted. A replay file left by a crash is
+ * picked up again; audit_log ids make the repeated inserts no-ops.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditSpillFile {
+
+    private static final String SPILL_FILE = "audit-spill.jsonl";
+    private static final String REPLAY_GLOB = "audit-spill-*.replay";
+
+    private final AuditProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Append the records and force them to disk; false if they could not be written (they are lost then, which is
+     * logged)
+     */
+    public synchronized boolean append(Collection<AuditRecord> records) {
+        if (records.isEmpty()) {
+            return true;
+        }
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (AuditRecord record : records) {
+                lines.append(objectMapper.writeValueAsString(record)).append('\n');
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            Files.createDirectories(properties.getSpillDir());
+            try (FileChannel out = FileChannel.open(spillFile(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                while (bytes.hasRemaining()) {
+                    out.write(bytes);
+                }
+                // The records exist nowhere else; make sure they survive a crash before reporting them spilled
+                out.force(true);
+            }
+            return true;
+        } catch (IOException e) {
+            log.error("Could not spill {} audit records to {}", records.size(), spillFile(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Whether there are spilled records waiting to be inserted
+     */
+    public synchronized boolean hasPending() {
+        try {
+            return (Files.exists(spillFile()) && Files.size(spillFile()) > 0) || !replayFiles().isEmpty();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Hand the spilled records to the sink in batches. A file is deleted only after all its batches went through;
+     * if the sink throws, the rest stays spilled for the next replay.
+     */
+    public void replay(int batchSize, Consumer<List<AuditRecord>> sink) throws IOException {
+        for (Path file : claim()) {
+            long replayed = 0;
+            try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                List<AuditRecord> batch = new ArrayList<>(batchSize);
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        batch.add(objectMapper.readValue(line, AuditRecord.class));
+                    } catch (IOException e) {
+                        // A line cut off by a crash mid-append
+                        log.warn("Skipping unreadable audit spill line in {}", file);
+                        continue;
+                    }
+                    if (batch.size() == batchSize) {
+                        sink.accept(batch);
+                        replayed += batch.size();
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    sink.accept(batch);
+                    replayed += batch.size();
+                }
+            }
+            Files.delete(file);
+            log.info("Replayed {} spilled audit records from {}", replayed, file.getFileName());
+        }
+    }
+
+    /**
+     * Move the current spill file aside and list every file waiting for replay
+     */
+    private synchronized List<Path> claim() throws IOException {
+        Path current = spillFile();
+        if (Files.exists(current)) {
+            Path replay = properties.getSpillDir().resolve("audit-spill-" + System.currentTimeMillis() + ".replay");
+            Files.move(current, replay, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return replayFiles();
+    }
+
+    private List<Path> replayFiles() throws IOException {
+        if (!Files.isDirectory(properties.getSpillDir())) {
+            return List.of();
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(properties.getSpillDir(), REPLAY_GLOB)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        return files;
+    }
+
+    private Path spillFile() {
+        return properties.getSpillDir().resolve(SPILL_FILE);
+    }
+}
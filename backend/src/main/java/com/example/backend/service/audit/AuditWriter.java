@@ -0,0 +1,320 @@
+package com.example.backend.service.audit;
+
+import com.example.backend.config.properties.AuditProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes captured audit records to audit_log on a background thread.
+ * <p>
+ * {@link #enqueue} never blocks nor does file I/O: records go into a bounded queue, and when it is full the overflow
+ * policy hands them to a second bounded buffer that the writer thread appends to the {@link AuditSpillFile}
+ * (records beyond that are dropped), or drops them. The writer thread drains the queue into JDBC batch inserts (one
+ * transaction per batch), retries failed batches with backoff and spills them after app.audit.max-retries, and
+ * spills the overflow buffer between batches and while backing off. When the queue is idle it inserts spilled
+ * records again.
+ * <p>
+ * Stops after the web server during shutdown, flushes the queue for up to app.audit.shutdown-timeout and spills
+ * whatever is left; records captured after that go straight to the spill file from the capturing thread.
+ * <p>
+ * Metrics: audit.queue.size, audit.records.written, audit.records.spilled, audit.records.dropped.
+ */
+@Slf4j
+@Component
+public class AuditWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO audit_log (id, office_id, user_id, module_code, entity_name, entity_id, action,
+                               before_state, after_state, metadata, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?::jsonb, ?::jsonb, ?, ?)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String USER_IDS_SQL = "SELECT email, id FROM app_user WHERE email = ANY (?)";
+
+    private static final Duration REPLAY_RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final AuditProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AuditSpillFile spillFile;
+
+    private final BlockingQueue<AuditRecord> queue;
+    private final BlockingQueue<AuditRecord> overflow;
+    private final Cache<String, UUID> userIds = Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .expireAfterWrite(Duration.ofHours(1))
+        .build();
+
+    private final Counter written;
+    private final Counter spilled;
+    private final Counter dropped;
+    private final AtomicLong droppedTotal = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile boolean closed;
+    private Thread worker;
+    private long replayNotBefore;
+
+    public AuditWriter(AuditProperties properties, JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                       AuditSpillFile spillFile, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.spillFile = spillFile;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.overflow = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size)
+            .description("Audit records waiting for the writer")
+            .register(meterRegistry);
+        this.written = Counter.builder("audit.records.written")
+            .description("Audit records inserted into audit_log")
+            .register(meterRegistry);
+        this.spilled = Counter.builder("audit.records.spilled")
+            .description("Audit records appended to the spill file")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("audit.records.dropped")
+            .description("Audit records lost to queue overflow or a failed spill")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue a record for writing; returns immediately
+     */
+    public void enqueue(AuditRecord record) {
+        if (!closed && queue.offer(record)) {
+            return;
+        }
+        if (closed) {
+            spill(List.of(record));
+        } else if (properties.getOverflow() == AuditProperties.Overflow.SPILL && overflow.offer(record)) {
+            if (closed) {
+                // Shutdown began meanwhile and may have spilled the overflow already
+                spillOverflow();
+            }
+        } else {
+            drop(1);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        closed = false;
+        worker = Thread.ofPlatform().name("audit-writer").daemon(true).start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            worker.join(properties.getShutdownTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closed = true;
+        worker.interrupt();
+
+        List<AuditRecord> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        overflow.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("Spilling {} audit records still queued at shutdown", remaining.size());
+            spill(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Start before and stop after the web server, so requests still running at shutdown are written
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void run() {
+        replaySpilled();
+        List<AuditRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                spillOverflow();
+                AuditRecord first = queue.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (running && System.currentTimeMillis() >= replayNotBefore && spillFile.hasPending()) {
+                        replaySpilled();
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                break;
+            } catch (RuntimeException e) {
+                log.error("Audit writer failed on {} records", batch.size(), e);
+                spill(batch);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Insert the batch, retrying with backoff; spill it when the retries run out or shutdown is under way
+     */
+    private void write(List<AuditRecord> batch) throws InterruptedException {
+        Duration backoff = properties.getFlushInterval();
+        for (int attempt = 0; ; attempt++) {
+            try {
+                insert(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= properties.getMaxRetries() || !running) {
+                    log.error("Could not write {} audit records, spilling them", batch.size(), e);
+                    spill(batch);
+                    return;
+                }
+                log.warn("Could not write {} audit records (attempt {}), retrying in {}", batch.size(),
+                    attempt + 1, backoff, e);
+            }
+            spillOverflow();
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                spill(batch);
+                throw e;
+            }
+            backoff = backoff.multipliedBy(2);
+        }
+    }
+
+    private void insert(List<AuditRecord> batch) {
+        Map<String, UUID> users = resolveUsers(batch);
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, record) -> {
+                ps.setObject(1, record.id());
+                ps.setObject(2, record.officeId(), Types.OTHER);
+                ps.setObject(3, record.actor() != null ? users.get(record.actor()) : null, Types.OTHER);
+                ps.setString(4, record.moduleCode());
+                ps.setString(5, record.entityName());
+                ps.setObject(6, record.entityId(), Types.OTHER);
+                ps.setString(7, record.action());
+                ps.setString(8, json(record.before()));
+                ps.setString(9, json(record.after()));
+                ps.setString(10, json(record.metadata()));
+                ps.setObject(11, record.createdAt());
+                ps.setObject(12, record.createdAt());
+            }));
+        written.increment(batch.size());
+    }
+
+    /**
+     * audit_log.user_id of the actors in the batch, by email; unknown emails are left out (user_id stays null)
+     */
+    private Map<String, UUID> resolveUsers(List<AuditRecord> batch) {
+        Map<String, UUID> users = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        batch.stream().map(AuditRecord::actor).filter(Objects::nonNull).distinct().forEach(actor -> {
+            UUID id = userIds.getIfPresent(actor);
+            if (id != null) {
+                users.put(actor, id);
+            } else {
+                missing.add(actor);
+            }
+        });
+        if (!missing.isEmpty()) {
+            jdbcTemplate.query(USER_IDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", missing.toArray())),
+                rs -> {
+                    UUID id = rs.getObject("id", UUID.class);
+                    users.put(rs.getString("email"), id);
+                    userIds.put(rs.getString("email"), id);
+                });
+        }
+        return users;
+    }
+
+    private void replaySpilled() {
+        try {
+            spillFile.replay(properties.getBatchSize(), this::insert);
+        } catch (Exception e) {
+            replayNotBefore = System.currentTimeMillis() + REPLAY_RETRY_DELAY.toMillis();
+            log.warn("Could not replay spilled audit records, retrying in {}", REPLAY_RETRY_DELAY, e);
+        }
+    }
+
+    /**
+     * Append the records that overflowed the queue to the spill file
+     */
+    private void spillOverflow() {
+        if (overflow.isEmpty()) {
+            return;
+        }
+        List<AuditRecord> records = new ArrayList<>(overflow.size());
+        overflow.drainTo(records);
+        if (!records.isEmpty()) {
+            spill(records);
+        }
+    }
+
+    private void spill(List<AuditRecord> records) {
+        if (spillFile.append(records)) {
+            spilled.increment(records.size());
+        } else {
+            drop(records.size());
+        }
+    }
+
+    private void drop(int count) {
+        dropped.increment(count);
+        long total = droppedTotal.addAndGet(count);
+        // Log the first drop and then every thousandth, not every record of an overflowing queue
+        if (total == count || total / 1000 != (total - count) / 1000) {
+            log.warn("Dropped {} audit records so far (queue full or spill failed)", total);
+        }
+    }
+
+    private String json(Map<String, Object> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Audit values are not serializable", e);
+        }
+    }
+}
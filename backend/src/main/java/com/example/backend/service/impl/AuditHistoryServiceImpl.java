@@ -0,0 +1,125 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.properties.AuditProperties;
+import com.example.backend.exception.ValidationException;
+import com.example.backend.model.dto.audit.AuditEntryDTO;
+import com.example.backend.model.dto.audit.AuditEntryProjection;
+import com.example.backend.model.dto.audit.AuditHistoryDTO;
+import com.example.backend.repository.AuditLogRepository;
+import com.example.backend.service.AuditHistoryService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Entity audit timelines read from audit_log with keyset paging on (created_at, id), newest first.
+ * Child rows are audited against their patient or staff member (see AuditEventListener), so one index range
+ * per page covers the whole timeline.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditHistoryServiceImpl implements AuditHistoryService {
+
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+    private static final OffsetDateTime END_OF_TIME = OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final TypeReference<Map<String, Object>> JSON_OBJECT = new TypeReference<>() {
+    };
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Keyset position of the last entry of a page
+     */
+    private record Cursor(OffsetDateTime createdAt, UUID id) {
+
+        String encode() {
+            String raw = createdAt.toInstant() + "_" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String value) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("_");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("expected 2 parts");
+                }
+                return new Cursor(OffsetDateTime.ofInstant(Instant.parse(parts[0]), ZoneOffset.UTC),
+                    UUID.fromString(parts[1]));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new ValidationException("Invalid history cursor: " + value);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuditHistoryDTO patientHistory(UUID patientId, String before, Integer limit) {
+        return history("Patient", patientId, before, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AuditHistoryDTO staffHistory(UUID staffId, String before, Integer limit) {
+        return history("Staff", staffId, before, limit);
+    }
+
+    private AuditHistoryDTO history(String entityName, UUID entityId, String before, Integer limit) {
+        AuditProperties.History settings = properties.getHistory();
+        int pageSize = limit == null ? settings.getDefaultPageSize() : limit;
+        if (pageSize < 1 || pageSize > settings.getMaxPageSize()) {
+            throw new ValidationException("limit must be between 1 and " + settings.getMaxPageSize());
+        }
+        Cursor from = before == null || before.isBlank() ? new Cursor(END_OF_TIME, MAX_ID) : Cursor.decode(before);
+
+        List<AuditEntryProjection> rows =
+            auditLogRepository.findHistory(entityName, entityId, from.createdAt(), from.id(), pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<AuditEntryDTO> items = rows.stream().map(this::toDTO).toList();
+        AuditEntryProjection last = hasMore ? rows.get(rows.size() - 1) : null;
+        return new AuditHistoryDTO(items, last != null ? new Cursor(last.getCreatedAt(), last.getId()).encode() : null);
+    }
+
+    private AuditEntryDTO toDTO(AuditEntryProjection row) {
+        Map<String, Object> metadata = parse(row.getMetadata());
+        Object recordId = metadata.get("recordId");
+        return new AuditEntryDTO(
+            row.getId(),
+            row.getCreatedAt(),
+            row.getAction(),
+            (String) metadata.get("record"),
+            recordId != null ? UUID.fromString(recordId.toString()) : null,
+            row.getActor(),
+            parse(row.getBeforeState()),
+            parse(row.getAfterState()));
+    }
+
+    private Map<String, Object> parse(String json) {
+        if (json == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, JSON_OBJECT);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable audit_log json", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.properties.AuthorizationDigestProperties;
+import com.example.backend.model.dto.report.ExpiringAuthDigestSummaryDTO;
+import com.example.backend.model.entity.AppSetting;
+import com.example.backend.model.entity.AuthorizationDigest;
+import com.example.backend.repository.AppSettingRepository;
+import com.example.backend.repository.AuthorizationDigestRepository;
+import com.example.backend.service.AuthorizationDigestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of AuthorizationDigestService.
+ * The last successful run time is kept in app_setting so each run only touches
+ * authorizations (or patients) updated after it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuthorizationDigestServiceImpl implements AuthorizationDigestService {
+
+    static final String WATERMARK_KEY = "report.authorization_digest.watermark";
+    private static final long REFRESH_LOCK_KEY = 0x41555448_44494753L; // "AUTHDIGS"
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AuthorizationDigestRepository authorizationDigestRepository;
+    private final AppSettingRepository appSettingRepository;
+    private final AuthorizationDigestProperties properties;
+
+    @Override
+    @Transactional
+    public int refreshDigest(boolean fullRebuild) {
+        if (!authorizationDigestRepository.tryAcquireRefreshLock(REFRESH_LOCK_KEY)) {
+            log.info("Authorization digest refresh already running on another instance, skipping");
+            return -1;
+        }
+
+        AppSetting watermark = appSettingRepository.findByKey(WATERMARK_KEY)
+            .orElseGet(() -> new AppSetting(WATERMARK_KEY, null, "date"));
+        LocalDateTime since = fullRebuild || watermark.getDateValue() == null ? EPOCH : watermark.getDateValue();
+        // Capture the new watermark before reading so rows updated during the run are picked up next time;
+        // taken from the database clock that updated_at is compared against
+        LocalDateTime runStartedAt = LocalDateTime.parse(authorizationDigestRepository.databaseNow());
+
+        long start = System.currentTimeMillis();
+        int changed = authorizationDigestRepository.upsertChangedSince(since, properties.getLowRemainingRatio());
+        int removed = authorizationDigestRepository.deleteOrphans();
+
+        watermark.setDateValue(runStartedAt);
+        appSettingRepository.save(watermark);
+
+        log.info("Authorization digest refreshed since {}: {} rows upserted, {} orphans removed in {} ms",
+            since, changed, removed, System.currentTimeMillis() - start);
+        return changed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isInitialized() {
+        return appSettingRepository.findByKey(WATERMARK_KEY)
+            .map(AppSetting::getDateValue)
+            .isPresent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ExpiringAuthDigestSummaryDTO> getOfficeSummaries(UUID officeId, int expiresAfterDays) {
+        return authorizationDigestRepository.summarizeByOffice(officeId, expiresAfterDays).stream()
+            .map(proj -> new ExpiringAuthDigestSummaryDTO(
+                proj.getOfficeId(),
+                proj.getOfficeName(),
+                proj.getExpiringCount() != null ? proj.getExpiringCount() : 0L,
+                proj.getLowRemainingCount() != null ? proj.getLowRemainingCount() : 0L,
+                proj.getNextExpiration()
+            ))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<AuthorizationDigest> getAttentionItems(UUID officeId, int expiresAfterDays) {
+        return authorizationDigestRepository.findAttentionItemsByOffice(officeId, LocalDate.now().plusDays(expiresAfterDays));
+    }
+}
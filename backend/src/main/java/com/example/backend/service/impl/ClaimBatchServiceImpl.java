@@ -0,0 +1,322 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.properties.ClaimBatchProperties;
+import com.example.backend.exception.BusinessException;
+import com.example.backend.exception.ConflictException;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.exception.ValidationException;
+import com.example.backend.model.dto.billing.BillableDeliveryProjection;
+import com.example.backend.model.dto.billing.ClaimBatchRunDTO;
+import com.example.backend.model.dto.billing.ClaimBatchRunRequestDTO;
+import com.example.backend.model.entity.ClaimBatchRun;
+import com.example.backend.model.entity.Payer;
+import com.example.backend.model.enums.ClaimStatus;
+import com.example.backend.repository.ClaimBatchRunRepository;
+import com.example.backend.repository.PayerRepository;
+import com.example.backend.service.ClaimBatchService;
+import com.example.backend.service.RateIndex;
+import com.example.backend.service.RateIndexService;
+import com.example.backend.util.UuidV7;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of ClaimBatchService.
+ * Deliveries are read in keyset-ordered chunks; each chunk is priced against the compiled rate index
+ * and its claims, claim lines and the run checkpoint are written in one transaction with JDBC batches,
+ * so a crash loses at most the chunk in flight and a resume continues after the last committed one.
+ */
+@Service
+@Slf4j
+public class ClaimBatchServiceImpl implements ClaimBatchService {
+
+    private static final DateTimeFormatter CLAIM_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final ClaimBatchRunRepository claimBatchRunRepository;
+    private final PayerRepository payerRepository;
+    private final RateIndexService rateIndexService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ClaimBatchProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public ClaimBatchServiceImpl(ClaimBatchRunRepository claimBatchRunRepository,
+                                 PayerRepository payerRepository,
+                                 RateIndexService rateIndexService,
+                                 JdbcTemplate jdbcTemplate,
+                                 ClaimBatchProperties properties,
+                                 PlatformTransactionManager transactionManager) {
+        this.claimBatchRunRepository = claimBatchRunRepository;
+        this.payerRepository = payerRepository;
+        this.rateIndexService = rateIndexService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ClaimBatchRunDTO startRun(ClaimBatchRunRequestDTO request) {
+        if (request.getPeriodEnd().isBefore(request.getPeriodStart())) {
+            throw new ValidationException("Period end must not be before period start");
+        }
+
+        UUID runId = transactionTemplate.execute(status -> {
+            Payer payer = payerRepository.findById(request.getPayerId())
+                .orElseThrow(() -> new ResourceNotFoundException("Payer", request.getPayerId()));
+            if (claimBatchRunRepository.existsByPayerIdAndStatus(payer.getId(), "running")) {
+                throw new ConflictException("A claim batch run is already in progress for this payer; resume it instead");
+            }
+            ClaimBatchRun run = new ClaimBatchRun(payer, request.getPeriodStart(), request.getPeriodEnd());
+            run.setStartedAt(LocalDateTime.now());
+            return claimBatchRunRepository.save(run).getId();
+        });
+
+        log.info("Started claim batch run {} for payer {} ({} - {})",
+            runId, request.getPayerId(), request.getPeriodStart(), request.getPeriodEnd());
+        return process(runId);
+    }
+
+    @Override
+    public ClaimBatchRunDTO resumeRun(UUID runId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ClaimBatchRun run = findRun(runId);
+            if (run.isCompleted()) {
+                throw new ValidationException("Claim batch run is already completed");
+            }
+            run.setStatus("running");
+            run.setErrorMessage(null);
+            run.setFinishedAt(null);
+            claimBatchRunRepository.save(run);
+        });
+
+        log.info("Resuming claim batch run {}", runId);
+        return process(runId);
+    }
+
+    @Override
+    public ClaimBatchRunDTO getRun(UUID runId) {
+        return transactionTemplate.execute(status -> toDTO(findRun(runId)));
+    }
+
+    private ClaimBatchRunDTO process(UUID runId) {
+        long start = System.currentTimeMillis();
+        try {
+            // One index version for the whole run so every chunk is priced consistently
+            RateIndex rates = rateIndexService.current();
+
+            boolean more = true;
+            while (more) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> processChunk(runId, rates)));
+            }
+        } catch (RuntimeException e) {
+            log.error("Claim batch run {} failed: {}", runId, e.getMessage(), e);
+            transactionTemplate.executeWithoutResult(status -> {
+                ClaimBatchRun run = findRun(runId);
+                run.setStatus("failed");
+                run.setErrorMessage(e.getMessage());
+                run.setFinishedAt(LocalDateTime.now());
+                claimBatchRunRepository.save(run);
+            });
+            throw new BusinessException("Claim batch run failed; it can be resumed from its last checkpoint", e);
+        }
+
+        ClaimBatchRunDTO result = getRun(runId);
+        log.info("Claim batch run {} completed: {} deliveries billed, {} skipped, {} claims, total {} in {} ms",
+            runId, result.getDeliveriesBilled(), result.getDeliveriesSkipped(), result.getClaimsCreated(),
+            result.getTotalAmount(), System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * Price and write one chunk, then advance the checkpoint. Returns false, after marking the run completed, once no deliveries are left.
+     */
+    private boolean processChunk(UUID runId, RateIndex rates) {
+        ClaimBatchRun run = findRun(runId);
+        UUID payerId = run.getPayer().getId();
+        // Another run for the same payer waits here, and then no longer sees the deliveries billed by this chunk
+        claimBatchRunRepository.acquirePayerLock(payerId.getMostSignificantBits() ^ payerId.getLeastSignificantBits());
+
+        List<BillableDeliveryProjection> chunk = claimBatchRunRepository.findBillableChunk(
+            payerId, run.getPeriodStart(), run.getPeriodEnd(),
+            run.getLastPatientId(), run.getLastDeliveryId(), properties.getChunkSize());
+
+        if (chunk.isEmpty()) {
+            run.setStatus("completed");
+            run.setFinishedAt(LocalDateTime.now());
+            claimBatchRunRepository.save(run);
+            return false;
+        }
+
+        // One claim per office and patient within the chunk
+        Map<List<UUID>, PendingClaim> claims = new LinkedHashMap<>();
+        int skipped = 0;
+        for (BillableDeliveryProjection delivery : chunk) {
+            RateIndex.Rate rate = rates.billingRate(
+                delivery.getServiceTypeId(), delivery.getStaffId(), delivery.getPatientId(), delivery.getServiceDate());
+            BigDecimal amount = rate != null ? rate.priceFor(delivery.getUnits(), delivery.getTotalHours()) : null;
+            if (amount == null) {
+                // Left unbilled so a later run picks it up once a rate exists
+                skipped++;
+                continue;
+            }
+            PendingClaim claim = claims.computeIfAbsent(
+                Arrays.asList(delivery.getOfficeId(), delivery.getPatientId()),
+                key -> new PendingClaim(UuidV7.generate(), delivery.getOfficeId()));
+            claim.addLine(new PendingLine(UuidV7.generate(), claim.id, delivery, rate.rate(), amount));
+        }
+
+        List<PendingClaim> pending = new ArrayList<>(claims.values());
+        int sequence = run.getClaimsCreated();
+        for (PendingClaim claim : pending) {
+            // The full run id: a UUIDv7 prefix is only a timestamp, shared by runs started close together
+            claim.claimNumber = String.format("%s-%s-%s-%05d",
+                properties.getClaimNumberPrefix(),
+                run.getPeriodEnd().format(CLAIM_DATE_FORMAT),
+                runId.toString().replace("-", ""),
+                ++sequence);
+        }
+        insertClaims(pending, payerId, run, rates.getVersion());
+        insertClaimLines(pending);
+
+        BillableDeliveryProjection last = chunk.get(chunk.size() - 1);
+        BigDecimal chunkAmount = pending.stream().map(c -> c.total).reduce(BigDecimal.ZERO, BigDecimal::add);
+        run.setLastPatientId(last.getPatientId());
+        run.setLastDeliveryId(last.getDeliveryId());
+        run.setChunksCommitted(run.getChunksCommitted() + 1);
+        run.setDeliveriesBilled(run.getDeliveriesBilled() + chunk.size() - skipped);
+        run.setDeliveriesSkipped(run.getDeliveriesSkipped() + skipped);
+        run.setClaimsCreated(sequence);
+        run.setTotalAmount(run.getTotalAmount().add(chunkAmount));
+        claimBatchRunRepository.save(run);
+
+        log.debug("Claim batch run {} chunk {}: {} claims, {} deliveries, {} skipped",
+            runId, run.getChunksCommitted(), pending.size(), chunk.size() - skipped, skipped);
+        return true;
+    }
+
+    private void insertClaims(List<PendingClaim> claims, UUID payerId, ClaimBatchRun run, long rateIndexVersion) {
+        if (claims.isEmpty()) return;
+
+        String meta = String.format(
+            "{\"batchRunId\":\"%s\",\"periodStart\":\"%s\",\"periodEnd\":\"%s\",\"rateIndexVersion\":%d}",
+            run.getId(), run.getPeriodStart(), run.getPeriodEnd(), rateIndexVersion);
+        String sql = """
+            INSERT INTO claim (
+                id, office_id, payer_id, claim_number, status, total_amount, meta, created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb), NOW(), NOW())
+            """;
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PendingClaim claim = claims.get(i);
+                ps.setObject(1, claim.id);
+                ps.setObject(2, claim.officeId);
+                ps.setObject(3, payerId);
+                ps.setString(4, claim.claimNumber);
+                ps.setString(5, ClaimStatus.DRAFT.name());
+                ps.setBigDecimal(6, claim.total);
+                ps.setString(7, meta);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return claims.size();
+            }
+        });
+    }
+
+    private void insertClaimLines(List<PendingClaim> claims) {
+        List<PendingLine> lines = claims.stream().flatMap(claim -> claim.lines.stream()).toList();
+        if (lines.isEmpty()) return;
+
+        String sql = """
+            INSERT INTO claim_line (
+                id, claim_id, service_delivery_id, patient_id, staff_id, service_type_id,
+                service_date, units, rate, amount, status, created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'pending', NOW(), NOW())
+            """;
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PendingLine line = lines.get(i);
+                ps.setObject(1, line.id());
+                ps.setObject(2, line.claimId());
+                ps.setObject(3, line.delivery().getDeliveryId());
+                ps.setObject(4, line.delivery().getPatientId());
+                ps.setObject(5, line.delivery().getStaffId());
+                ps.setObject(6, line.delivery().getServiceTypeId());
+                ps.setDate(7, Date.valueOf(line.delivery().getServiceDate()));
+                ps.setInt(8, line.delivery().getUnits());
+                ps.setBigDecimal(9, line.rate());
+                ps.setBigDecimal(10, line.amount());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+    }
+
+    private ClaimBatchRun findRun(UUID runId) {
+        return claimBatchRunRepository.findById(runId)
+            .orElseThrow(() -> new ResourceNotFoundException("Claim batch run", runId));
+    }
+
+    private ClaimBatchRunDTO toDTO(ClaimBatchRun run) {
+        return new ClaimBatchRunDTO(
+            run.getId(),
+            run.getPayer().getId(),
+            run.getPeriodStart(),
+            run.getPeriodEnd(),
+            run.getStatus(),
+            run.getChunksCommitted(),
+            run.getDeliveriesBilled(),
+            run.getDeliveriesSkipped(),
+            run.getClaimsCreated(),
+            run.getTotalAmount(),
+            run.getErrorMessage(),
+            run.getStartedAt(),
+            run.getFinishedAt()
+        );
+    }
+
+    private static final class PendingClaim {
+        private final UUID id;
+        private final UUID officeId;
+        private final List<PendingLine> lines = new ArrayList<>();
+        private BigDecimal total = BigDecimal.ZERO;
+        private String claimNumber;
+
+        private PendingClaim(UUID id, UUID officeId) {
+            this.id = id;
+            this.officeId = officeId;
+        }
+
+        private void addLine(PendingLine line) {
+            lines.add(line);
+            total = total.add(line.amount());
+        }
+    }
+
+    private record PendingLine(UUID id, UUID claimId, BillableDeliveryProjection delivery, BigDecimal rate, BigDecimal amount) {
+    }
+}
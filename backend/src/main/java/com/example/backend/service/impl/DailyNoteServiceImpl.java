@@ -1,7 +1,10 @@
 package com.example.backend.service.impl;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -9,14 +12,18 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.dto.DailyNoteRequestDTO;
 import com.example.backend.model.dto.DailyNoteResponseDTO;
+import com.example.backend.model.dto.DailyNoteSummaryDTO;
 import com.example.backend.model.entity.DailyNote;
+import com.example.backend.model.entity.DailyNoteSignature;
 import com.example.backend.model.entity.Patient;
 import com.example.backend.model.entity.Staff;
 import com.example.backend.repository.DailyNoteRepository;
+import com.example.backend.repository.DailyNoteSignatureRepository;
 import com.example.backend.service.DailyNoteService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +36,7 @@ public class DailyNoteServiceImpl implements DailyNoteService {
 
     private final DailyNoteRepository dailyNoteRepository;
     private final com.example.backend.repository.ServiceDeliveryRepository serviceDeliveryRepository;
+    private final DailyNoteSignatureRepository dailyNoteSignatureRepository;
 
     @Override
     @Transactional
@@ -57,9 +65,8 @@ public class DailyNoteServiceImpl implements DailyNoteService {
         note.setStaff(staff);
         note.setContent(dto.getContent());
         note.setMealInfo(dto.getMealInfo() == null ? List.of() : List.copyOf(dto.getMealInfo()));
-        note.setPatientSignature(dto.getPatientSignature());
-        note.setStaffSignature(dto.getStaffSignature());
         DailyNote saved = dailyNoteRepository.save(note);
+        DailyNoteSignature signature = saveSignatures(saved, null, dto);
         
         // Update both ScheduleEvent and ServiceDelivery status to COMPLETED if check-out is also done
         if (serviceDelivery.getScheduleEvent() != null && serviceDelivery.getCheckOutTime() != null) {
@@ -77,7 +84,7 @@ public class DailyNoteServiceImpl implements DailyNoteService {
         log.info("Created DailyNote {} for ServiceDelivery {} - Patient: {}, Staff: {}", 
             saved.getId(), serviceDelivery.getId(), patient.getFullName(), 
             staff != null ? staff.getFirstName() + " " + staff.getLastName() : "N/A");
-        return toDto(saved);
+        return toDto(saved, signature);
     }
 
     @Override
@@ -85,7 +92,7 @@ public class DailyNoteServiceImpl implements DailyNoteService {
     public DailyNoteResponseDTO getById(UUID id) {
         DailyNote note = dailyNoteRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("DailyNote", id));
-        return toDto(note);
+        return toDto(note, dailyNoteSignatureRepository.findById(id).orElse(null));
     }
 
     @Override
@@ -113,12 +120,11 @@ public class DailyNoteServiceImpl implements DailyNoteService {
 
         note.setContent(dto.getContent());
         note.setMealInfo(dto.getMealInfo() == null ? List.of() : List.copyOf(dto.getMealInfo()));
-        note.setPatientSignature(dto.getPatientSignature());
-        note.setStaffSignature(dto.getStaffSignature());
+        DailyNoteSignature signature = saveSignatures(note, dailyNoteSignatureRepository.findById(id).orElse(null), dto);
 
         DailyNote saved = dailyNoteRepository.save(note);
         log.info("Updated DailyNote {} for ServiceDelivery {}", saved.getId(), saved.getServiceDelivery().getId());
-        return toDto(saved);
+        return toDto(saved, signature);
     }
 
     @Override
@@ -131,14 +137,55 @@ public class DailyNoteServiceImpl implements DailyNoteService {
 
     @Override
     @Transactional(readOnly = true)
-    public Page<DailyNoteResponseDTO> list(int page, int size) {
+    public Page<DailyNoteResponseDTO> list(int page, int size, boolean includeSignatures) {
         var pageable = PageRequest.of(page, size);
         var p = dailyNoteRepository.findAll(pageable);
-        List<DailyNoteResponseDTO> content = p.stream().map(this::toDto).collect(Collectors.toList());
+        // One query for the signatures of the whole page, none when the caller does not want the drawings
+        Map<UUID, DailyNoteSignature> signatures = !includeSignatures ? Map.of() : dailyNoteSignatureRepository
+                .findAllById(p.stream().map(DailyNote::getId).toList()).stream()
+                .collect(Collectors.toMap(DailyNoteSignature::getDailyNoteId, Function.identity()));
+        List<DailyNoteResponseDTO> content = p.stream()
+                .map(note -> toDto(note, signatures.get(note.getId())))
+                .collect(Collectors.toList());
         return new PageImpl<>(content, pageable, p.getTotalElements());
     }
 
-    private DailyNoteResponseDTO toDto(DailyNote note) {
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DailyNoteSummaryDTO> listSummaries(int page, int size) {
+        return dailyNoteRepository.findSummaries(PageRequest.of(page, size));
+    }
+
+    /**
+     * Store the request's signature drawings in daily_note_signature and keep the signed flags on the note in step.
+     * The signature row is removed when neither signature is present.
+     */
+    private DailyNoteSignature saveSignatures(DailyNote note, DailyNoteSignature existing, DailyNoteRequestDTO dto) {
+        boolean patientSigned = StringUtils.hasText(dto.getPatientSignature());
+        boolean staffSigned = StringUtils.hasText(dto.getStaffSignature());
+
+        if (patientSigned != note.isPatientSigned()) {
+            note.setPatientSigned(patientSigned);
+            note.setPatientSignedAt(patientSigned ? LocalDateTime.now() : null);
+        }
+        if (staffSigned != note.isStaffSigned()) {
+            note.setStaffSigned(staffSigned);
+            note.setStaffSignedAt(staffSigned ? LocalDateTime.now() : null);
+        }
+
+        if (!patientSigned && !staffSigned) {
+            if (existing != null) {
+                dailyNoteSignatureRepository.delete(existing);
+            }
+            return null;
+        }
+        DailyNoteSignature signature = existing != null ? existing : new DailyNoteSignature(note);
+        signature.setPatientSignature(patientSigned ? dto.getPatientSignature() : null);
+        signature.setStaffSignature(staffSigned ? dto.getStaffSignature() : null);
+        return dailyNoteSignatureRepository.save(signature);
+    }
+
+    private DailyNoteResponseDTO toDto(DailyNote note, DailyNoteSignature signature) {
         DailyNoteResponseDTO dto = new DailyNoteResponseDTO();
         dto.setId(note.getId());
         dto.setServiceDeliveryId(note.getServiceDelivery() != null ? note.getServiceDelivery().getId() : null);
@@ -162,8 +209,10 @@ public class DailyNoteServiceImpl implements DailyNoteService {
         dto.setCheckInTime(note.getCheckInTime());
         dto.setCheckOutTime(note.getCheckOutTime());
         
-        dto.setPatientSignature(note.getPatientSignature());
-        dto.setStaffSignature(note.getStaffSignature());
+        if (signature != null) {
+            dto.setPatientSignature(signature.getPatientSignature());
+            dto.setStaffSignature(signature.getStaffSignature());
+        }
         
         // Set timestamps from BaseEntity
         dto.setCreatedAt(note.getCreatedAt());
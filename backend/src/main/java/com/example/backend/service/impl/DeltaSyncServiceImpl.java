@@ -0,0 +1,223 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.properties.DeltaSyncProperties;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.exception.ValidationException;
+import com.example.backend.model.dto.sync.DeltaSyncDTO;
+import com.example.backend.model.dto.sync.PatientChangeProjection;
+import com.example.backend.model.dto.sync.ScheduleEventChangeProjection;
+import com.example.backend.model.dto.sync.SyncChangeProjection;
+import com.example.backend.model.dto.sync.VisitChangeProjection;
+import com.example.backend.model.entity.SyncTombstone;
+import com.example.backend.repository.PatientRepository;
+import com.example.backend.repository.ScheduleEventRepository;
+import com.example.backend.repository.ServiceDeliveryRepository;
+import com.example.backend.repository.StaffRepository;
+import com.example.backend.repository.SyncTombstoneRepository;
+import com.example.backend.service.DeltaSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Delta sync for the mobile app: rows of the DSP's scope changed since a watermark, plus the IDs of rows that left
+ * the scope (tombstones written by database triggers, and soft deleted patients).
+ * <p>
+ * Changes are read in (updated_at, id) keyset order up to now minus a small lag, and never past the start of the
+ * oldest write transaction still open, so rows of transactions still committing are picked up by the next call
+ * instead of being skipped. Patients leave the scope when their last event with the DSP is deleted, reassigned or
+ * ages out of the history window. The watermark is that keyset position
+ * together with the time up to which tombstones were delivered; a client whose watermark is older than the
+ * tombstone retention gets a full resync.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeltaSyncServiceImpl implements DeltaSyncService {
+
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+    private static final UUID MAX_ID = new UUID(-1L, -1L);
+    private static final OffsetDateTime BEGINNING = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final StaffRepository staffRepository;
+    private final ScheduleEventRepository scheduleEventRepository;
+    private final ServiceDeliveryRepository serviceDeliveryRepository;
+    private final PatientRepository patientRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final DeltaSyncProperties properties;
+
+    @FunctionalInterface
+    private interface ChangeQuery<T> {
+        List<T> find(UUID staffId, LocalDate fromDate, OffsetDateTime afterChangedAt, UUID afterId,
+                     OffsetDateTime until, int limit);
+    }
+
+    /**
+     * Keyset position of the last row a client has, and the time up to which it has seen every tombstone
+     */
+    private record Watermark(OffsetDateTime changedAt, UUID id, OffsetDateTime horizon) {
+
+        String encode() {
+            String raw = changedAt.toInstant() + "_" + id + "_" + horizon.toInstant();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Watermark decode(String value) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split("_");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("expected 3 parts");
+                }
+                return new Watermark(OffsetDateTime.ofInstant(Instant.parse(parts[0]), ZoneOffset.UTC),
+                    UUID.fromString(parts[1]), OffsetDateTime.ofInstant(Instant.parse(parts[2]), ZoneOffset.UTC));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new ValidationException("Invalid sync watermark: " + value);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public DeltaSyncDTO<ScheduleEventChangeProjection> scheduleChanges(String userEmail, String since, Integer limit) {
+        return changes(userEmail, since, limit, SyncTombstone.SCHEDULE_EVENT, scheduleEventRepository::findChangesForStaff);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public DeltaSyncDTO<VisitChangeProjection> visitChanges(String userEmail, String since, Integer limit) {
+        return changes(userEmail, since, limit, SyncTombstone.SERVICE_DELIVERY, serviceDeliveryRepository::findChangesForStaff);
+    }
+
+    @Override
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public DeltaSyncDTO<PatientChangeProjection> patientChanges(String userEmail, String since, Integer limit) {
+        return changes(userEmail, since, limit, SyncTombstone.PATIENT, patientRepository::findChangesForStaff);
+    }
+
+    @Scheduled(cron = "${app.sync.delta.purge-cron:0 45 3 * * *}")
+    public void purgeTombstones() {
+        try {
+            int purged = syncTombstoneRepository.deleteOlderThan(OffsetDateTime.now().minus(properties.getTombstoneRetention()));
+            if (purged > 0) {
+                log.info("Purged {} sync tombstones", purged);
+            }
+        } catch (Exception e) {
+            log.error("Sync tombstone purge failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private <T extends SyncChangeProjection> DeltaSyncDTO<T> changes(String userEmail, String since, Integer limit,
+                                                                    String entityType, ChangeQuery<T> query) {
+        UUID staffId = staffRepository.findIdByUserEmail(userEmail)
+            .orElseThrow(() -> new ResourceNotFoundException("No staff profile for user: " + userEmail));
+        int pageSize = limit == null ? properties.getDefaultPageSize() : limit;
+        if (pageSize < 1 || pageSize > properties.getMaxPageSize()) {
+            throw new ValidationException("limit must be between 1 and " + properties.getMaxPageSize());
+        }
+
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        Watermark from = since == null || since.isBlank() ? null : Watermark.decode(since);
+        boolean reset = from == null || from.horizon().isBefore(now.minus(properties.getTombstoneRetention()));
+        if (reset && from != null) {
+            log.info("Sync watermark of staff {} is older than the tombstone retention, sending a full {} sync",
+                staffId, entityType);
+        }
+        OffsetDateTime until = readHorizon(now);
+        if (!reset && until.isBefore(from.horizon())) {
+            // Nothing newer is safe to read yet; keep the client where it is
+            until = from.horizon();
+        }
+        LocalDate fromDate = LocalDate.now().minusDays(properties.getHistoryDays());
+
+        List<T> rows = query.find(staffId, fromDate,
+            reset ? BEGINNING : from.changedAt(), reset ? MIN_ID : from.id(), until, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        // A full page ends at its last row, otherwise every change up to the read horizon was seen
+        T last = hasMore ? rows.get(rows.size() - 1) : null;
+        Watermark next = last != null
+            ? new Watermark(last.getChangedAt(), last.getId(), until)
+            : new Watermark(until, MAX_ID, until);
+
+        List<T> items = new ArrayList<>(rows.size());
+        Set<UUID> present = new HashSet<>();
+        Set<UUID> deletedIds = new HashSet<>();
+        for (T row : rows) {
+            if (row.isRemoved()) {
+                deletedIds.add(row.getId());
+            } else {
+                items.add(row);
+                present.add(row.getId());
+            }
+        }
+        // After a reset the client has nothing to delete yet; a delete racing this page falls after its horizon
+        if (!reset) {
+            List<UUID> tombstoned = syncTombstoneRepository.findEntityIds(staffId, entityType, from.horizon(), until);
+            if (SyncTombstone.PATIENT.equals(entityType)) {
+                deletedIds.addAll(removedPatients(staffId, tombstoned, from.horizon(), fromDate));
+            } else {
+                deletedIds.addAll(tombstoned);
+            }
+            // Removed and back in scope since (e.g. reassigned back): the row is sent as an item instead
+            deletedIds.removeAll(present);
+        }
+
+        return new DeltaSyncDTO<>(items, new ArrayList<>(deletedIds), next.encode(), hasMore, reset);
+    }
+
+    /**
+     * Latest changed_at that is safe to read up to: now minus the lag, and no later than the start of the oldest
+     * open write transaction, whose rows may still commit with an earlier updated_at. Transactions open longer than
+     * app.sync.delta.max-lag are not waited for.
+     */
+    private OffsetDateTime readHorizon(OffsetDateTime now) {
+        OffsetDateTime until = now.minus(properties.getLag());
+        String oldestWrite = syncTombstoneRepository.oldestOpenWriteStart();
+        if (oldestWrite != null) {
+            OffsetDateTime writeStart = LocalDateTime.parse(oldestWrite).atOffset(ZoneOffset.UTC);
+            OffsetDateTime floor = now.minus(properties.getMaxLag());
+            if (writeStart.isBefore(until)) {
+                until = writeStart.isAfter(floor) ? writeStart : floor;
+            }
+        }
+        return until;
+    }
+
+    /**
+     * Patients that left the staff's scope: those named by tombstones (deleted, or one of their events deleted or
+     * moved to another staff) that have no in-scope event with the staff left, and those whose last event with the
+     * staff aged out of the history window since the client's horizon
+     */
+    private Set<UUID> removedPatients(UUID staffId, List<UUID> tombstoned, OffsetDateTime horizon, LocalDate fromDate) {
+        Set<UUID> candidates = new HashSet<>(tombstoned);
+        LocalDate previousFromDate = horizon.atZoneSameInstant(ZoneId.systemDefault()).toLocalDate()
+            .minusDays(properties.getHistoryDays());
+        if (previousFromDate.isBefore(fromDate)) {
+            candidates.addAll(patientRepository.findAgedOutOfSyncScope(staffId, previousFromDate, fromDate));
+        }
+        if (!candidates.isEmpty()) {
+            patientRepository.findInSyncScope(staffId, fromDate, candidates).forEach(candidates::remove);
+        }
+        return candidates;
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.backend.service.impl;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
+import com.example.backend.config.properties.FileStorageProperties;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.entity.AppUser;
 import com.example.backend.model.entity.FileObject;
@@ -10,93 +9,155 @@ import com.example.backend.repository.AppUserRepository;
 import com.example.backend.repository.FileObjectRepository;
 import com.example.backend.repository.OfficeRepository;
 import com.example.backend.service.FileService;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.service.storage.FileStorage;
+import com.example.backend.service.storage.FileStorageRegistry;
+import com.example.backend.service.storage.FileUploadWorker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.UUID;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
+@Lazy
 public class FileServiceImpl implements FileService {
 
-    private final Cloudinary cloudinary;
+    private final FileStorageRegistry storageRegistry;
+    private final FileUploadWorker fileUploadWorker;
+    private final FileStorageProperties storageProperties;
     private final FileObjectRepository fileObjectRepository;
     private final AppUserRepository appUserRepository;
     private final OfficeRepository officeRepository;
+    private final TransactionTemplate transactionTemplate;
 
     private static final long MAX_FILE_SIZE = 15 * 1024 * 1024; // 10MB
     private static final String[] ALLOWED_IMAGE_TYPES = {"image/jpeg", "image/png", "image/gif", "image/webp"};
     private static final String[] ALLOWED_DOCUMENT_TYPES = {"application/pdf"};
 
+    private record StagedUpload(Path path, String sha256) {
+    }
+
+    private record AttachedFile(FileObject fileObject, boolean upload) {
+    }
+
+    public FileServiceImpl(FileStorageRegistry storageRegistry,
+                           FileUploadWorker fileUploadWorker,
+                           FileStorageProperties storageProperties,
+                           FileObjectRepository fileObjectRepository,
+                           AppUserRepository appUserRepository,
+                           OfficeRepository officeRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.storageRegistry = storageRegistry;
+        this.fileUploadWorker = fileUploadWorker;
+        this.storageProperties = storageProperties;
+        this.fileObjectRepository = fileObjectRepository;
+        this.appUserRepository = appUserRepository;
+        this.officeRepository = officeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
     @Override
-    @Transactional
     public FileObject uploadFile(MultipartFile file, UUID officeId) {
         // Validate file
         validateFile(file);
 
+        // Get current user
+        AppUser currentUser = getCurrentUser();
+
+        // Get office if provided
+        Office office = officeId == null ? null : officeRepository.findById(officeId)
+            .orElseThrow(() -> new ResourceNotFoundException("Office not found with id: " + officeId));
+
+        // Move the multipart temp file out of the request so the background upload can read it after the response
+        StagedUpload staged = stage(file);
+
         try {
-            // Get current user
-            AppUser currentUser = getCurrentUser();
-
-            // Upload to Cloudinary
-            Map<String, Object> uploadResult = uploadToCloudinary(file);
-
-            // Extract Cloudinary response data
-            String publicId = (String) uploadResult.get("public_id");
-            String secureUrl = (String) uploadResult.get("secure_url");
-            String format = (String) uploadResult.get("format");
-            Long bytes = uploadResult.get("bytes") != null 
-                ? ((Number) uploadResult.get("bytes")).longValue() 
-                : file.getSize();
-
-            // Get office if provided
-            Office office = null;
-            if (officeId != null) {
-                office = officeRepository.findById(officeId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Office not found with id: " + officeId));
+            AttachedFile attached;
+            try {
+                attached = transactionTemplate.execute(status -> attach(file, staged.sha256(), office, currentUser));
+            } catch (DataIntegrityViolationException e) {
+                // The same content was inserted concurrently for this office, reference that row instead
+                attached = transactionTemplate.execute(status -> attach(file, staged.sha256(), office, currentUser));
+            }
+
+            FileObject savedFile = attached.fileObject();
+            if (!attached.upload()) {
+                deleteStaged(staged.path());
+                log.info("File matches existing content: {} (ID: {}, references: {})",
+                    file.getOriginalFilename(), savedFile.getId(), savedFile.getRefCount());
+                return savedFile;
             }
 
-            // Create FileObject entity
-            FileObject fileObject = new FileObject(
-                file.getOriginalFilename(),
-                file.getContentType(),
-                bytes,
-                secureUrl
-            );
-
-            // Set additional metadata
-            fileObject.setOffice(office);
-            fileObject.setCreatedByUser(currentUser);
-
-            // Store Cloudinary metadata
-            Map<String, Object> meta = new HashMap<>();
-            meta.put("cloudinary_public_id", publicId);
-            meta.put("cloudinary_format", format);
-            meta.put("cloudinary_version", uploadResult.get("version"));
-            meta.put("cloudinary_resource_type", uploadResult.get("resource_type"));
-            fileObject.setMeta(meta);
-
-            // Save to database
-            FileObject savedFile = fileObjectRepository.save(fileObject);
-            
-            log.info("File uploaded successfully: {} (ID: {})", file.getOriginalFilename(), savedFile.getId());
+            // Committed before the upload starts so the worker finds the row
+            fileUploadWorker.upload(savedFile.getId(), storageRegistry.keyOf(savedFile), staged.path(), savedFile.getMimeType());
+            log.info("File accepted for upload: {} (ID: {})", file.getOriginalFilename(), savedFile.getId());
             return savedFile;
 
-        } catch (IOException e) {
-            log.error("Error uploading file to Cloudinary: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to upload file: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            deleteStaged(staged.path());
+            throw e;
         }
     }
 
+    /**
+     * Reference the office's FileObject holding this content, or insert a pending one. Runs in a transaction.
+     * Uploads without an office are never shared.
+     */
+    private AttachedFile attach(MultipartFile file, String sha256, Office office, AppUser currentUser) {
+        FileObject existing = office == null ? null
+            : fileObjectRepository.findByOfficeAndSha256ForUpdate(office.getId(), sha256).orElse(null);
+        if (existing != null) {
+            existing.setRefCount(existing.getRefCount() + 1);
+            if (!FileObject.UPLOAD_FAILED.equals(existing.getUploadStatus())) {
+                return new AttachedFile(existing, false);
+            }
+            // Retry a failed upload with the new copy
+            existing.setUploadStatus(FileObject.UPLOAD_PENDING);
+            return new AttachedFile(existing, true);
+        }
+
+        // Create FileObject entity, the storage URI is filled in once the upload completes
+        FileObject fileObject = new FileObject(
+            file.getOriginalFilename(),
+            file.getContentType(),
+            file.getSize(),
+            ""
+        );
+        fileObject.setSha256(sha256);
+        fileObject.setUploadStatus(FileObject.UPLOAD_PENDING);
+
+        // Set additional metadata
+        fileObject.setOffice(office);
+        fileObject.setCreatedByUser(currentUser);
+
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("storage_backend", storageRegistry.current().getName());
+        meta.put("storage_key", generatePublicId(file));
+        fileObject.setMeta(meta);
+
+        return new AttachedFile(fileObjectRepository.saveAndFlush(fileObject), true);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public FileObject getFileById(UUID fileId) {
@@ -105,24 +166,38 @@ public class FileServiceImpl implements FileService {
     }
 
     @Override
-    @Transactional
     public void deleteFile(UUID fileId) {
-        FileObject fileObject = getFileById(fileId);
-        
+        // Drop one reference; the row goes away with the last one
+        FileObject fileObject = transactionTemplate.execute(status -> {
+            FileObject locked = fileObjectRepository.findByIdForUpdate(fileId)
+                .orElseThrow(() -> new ResourceNotFoundException("File not found with id: " + fileId));
+            if (locked.getRefCount() > 1) {
+                locked.setRefCount(locked.getRefCount() - 1);
+                log.info("File reference removed: {} ({} left)", fileId, locked.getRefCount());
+                return null;
+            }
+            fileObjectRepository.delete(locked);
+            return locked;
+        });
+        if (fileObject == null) {
+            return;
+        }
+        log.info("File deleted from database: {}", fileId);
+
+        // Remote object removed after the row; a pending upload notices the missing row and removes its own object
+        String key = storageRegistry.keyOf(fileObject);
+        if (key == null || !fileObject.isStored()) {
+            return;
+        }
+        FileStorage storage = storageRegistry.forFile(fileObject);
         try {
-            // Delete from Cloudinary
-            String publicId = (String) fileObject.getMeta().get("cloudinary_public_id");
-            if (publicId != null) {
-                cloudinary.uploader().destroy(publicId, ObjectUtils.emptyMap());
-                log.info("File deleted from Cloudinary: {}", publicId);
+            storage.delete(key, fileObject.getMimeType());
+            for (Map<?, ?> derivative : storageRegistry.derivativesOf(fileObject)) {
+                storage.delete((String) derivative.get("key"), (String) derivative.get("content_type"));
             }
-            
-            // Delete from database
-            fileObjectRepository.delete(fileObject);
-            log.info("File deleted from database: {}", fileId);
-            
+            log.info("File deleted from {}: {}", storage.getName(), key);
         } catch (IOException e) {
-            log.error("Error deleting file from Cloudinary: {}", e.getMessage(), e);
+            log.error("Error deleting file from {}: {}", storage.getName(), e.getMessage(), e);
             throw new RuntimeException("Failed to delete file: " + e.getMessage(), e);
         }
     }
@@ -131,9 +206,43 @@ public class FileServiceImpl implements FileService {
     @Transactional(readOnly = true)
     public String getFileUrl(UUID fileId) {
         FileObject fileObject = getFileById(fileId);
+        if (!fileObject.isStored()) {
+            throw new IllegalStateException("File " + fileId + " is not available, upload status: " + fileObject.getUploadStatus());
+        }
         return fileObject.getStorageUri();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public FileContent getFileContent(UUID fileId, String variant) {
+        FileObject fileObject = getFileById(fileId);
+        if (!fileObject.isStored()) {
+            throw new ResourceNotFoundException("File " + fileId + " is not available, upload status: " + fileObject.getUploadStatus());
+        }
+
+        String key;
+        String contentType;
+        String uri;
+        if (ORIGINAL.equals(variant)) {
+            key = storageRegistry.keyOf(fileObject);
+            contentType = fileObject.getMimeType();
+            uri = fileObject.getStorageUri();
+        } else {
+            Map<?, ?> derivative = storageRegistry.derivativeOf(fileObject, variant);
+            if (derivative == null) {
+                throw new ResourceNotFoundException("File " + fileId + " has no " + variant + " variant");
+            }
+            key = (String) derivative.get("key");
+            contentType = (String) derivative.get("content_type");
+            uri = (String) derivative.get("uri");
+        }
+
+        // Content addressed: the same hash and variant always have the same bytes
+        String etag = (fileObject.getSha256() != null ? fileObject.getSha256() : fileId.toString()) + "-" + variant;
+        Resource resource = key != null ? storageRegistry.forFile(fileObject).open(key).orElse(null) : null;
+        return new FileContent(etag, contentType, uri, resource);
+    }
+
     /**
      * Validate uploaded file
      */
@@ -174,32 +283,35 @@ public class FileServiceImpl implements FileService {
     }
 
     /**
-     * Upload file to Cloudinary
+     * Copy the upload to the staging directory, hashing it on the way, without reading it into memory
      */
-    private Map<String, Object> uploadToCloudinary(MultipartFile file) throws IOException {
-        Map<String, Object> options = new HashMap<>();
-        
-        // Set resource type based on file type
-        String contentType = file.getContentType();
-        if (contentType != null && contentType.startsWith("image/")) {
-            options.put("resource_type", "image");
-        } else if ("application/pdf".equals(contentType)) {
-            options.put("resource_type", "raw"); // PDFs are stored as raw files
+    private StagedUpload stage(MultipartFile file) {
+        Path staged = null;
+        try {
+            Files.createDirectories(storageProperties.getStagingDir());
+            staged = Files.createTempFile(storageProperties.getStagingDir(), "upload-", ".tmp");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, staged, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new StagedUpload(staged, HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException e) {
+            if (staged != null) {
+                deleteStaged(staged);
+            }
+            log.error("Error staging upload: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to upload file: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
+    }
 
-        // Generate public_id with extension to preserve filename and extension
-        String publicId = generatePublicId(file);
-        options.put("public_id", publicId);
-        
-        // For raw files (PDF), ensure format is preserved in the URL
-        if ("application/pdf".equals(contentType)) {
-            options.put("format", "pdf");
+    private static void deleteStaged(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException e) {
+            log.warn("Could not remove staged upload {}: {}", staged, e.getMessage());
         }
-
-        // Upload file
-        @SuppressWarnings("unchecked")
-        Map<String, Object> result = cloudinary.uploader().upload(file.getBytes(), options);
-        return result;
     }
 
     /**
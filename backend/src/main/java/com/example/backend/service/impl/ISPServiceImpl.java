@@ -12,6 +12,8 @@ import com.example.backend.repository.FileObjectRepository;
 import com.example.backend.repository.ISPRepository;
 import com.example.backend.repository.PatientRepository;
 import com.example.backend.service.ISPService;
+import com.example.backend.service.storage.FileStorageRegistry;
+import com.example.backend.service.storage.ImageDerivativeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,6 +29,7 @@ public class ISPServiceImpl implements ISPService {
     private final ISPRepository ispRepository;
     private final PatientRepository patientRepository;
     private final FileObjectRepository fileObjectRepository;
+    private final FileStorageRegistry storageRegistry;
 
     @Override
     @Transactional(readOnly = true)
@@ -146,6 +149,11 @@ public class ISPServiceImpl implements ISPService {
             fileDTO.setMimeType(isp.getFile().getMimeType());
             fileDTO.setSizeBytes(isp.getFile().getSizeBytes());
             fileDTO.setStorageUri(isp.getFile().getStorageUri());
+            fileDTO.setUploadStatus(isp.getFile().getUploadStatus());
+            // Lists show the thumbnail rather than the full-size image
+            if (storageRegistry.derivativeOf(isp.getFile(), ImageDerivativeGenerator.THUMBNAIL) != null) {
+                fileDTO.setThumbnailUri("/api/files/" + isp.getFile().getId() + "/variants/" + ImageDerivativeGenerator.THUMBNAIL);
+            }
             dto.setFile(fileDTO);
         }
 
@@ -1,5 +1,6 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.config.CacheConfig;
 import com.example.backend.model.dto.*;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.exception.ValidationException;
@@ -15,6 +16,8 @@ import com.example.backend.repository.StaffRepository;
 import com.example.backend.service.OfficeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,6 +36,7 @@ public class OfficeServiceImpl implements OfficeService {
     private final AddressRepository addressRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_OFFICES, key = "'all'")
     @Transactional(readOnly = true)
     public List<OfficeDTO> getActiveOffices() {
         log.info("Fetching all active offices");
@@ -66,6 +70,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_OFFICES, allEntries = true)
     public OfficeDetailResponse createOffice(OfficeCreateRequest request) {
         log.info("Creating new office with code: {}", request.getCode());
 
@@ -95,6 +100,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_OFFICES, allEntries = true)
     public OfficeDetailResponse updateOffice(UUID id, OfficeUpdateRequest request) {
         log.info("Updating office with ID: {}", id);
 
@@ -135,6 +141,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_OFFICES, allEntries = true)
     public void deleteOffice(UUID id) {
         log.info("Soft deleting office with ID: {}", id);
 
@@ -157,6 +164,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_OFFICES, allEntries = true)
     public void activateOffice(UUID id) {
         log.info("Activating office with ID: {}", id);
         Office office = officeRepository.findById(id)
@@ -167,6 +175,7 @@ public class OfficeServiceImpl implements OfficeService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_OFFICES, allEntries = true)
     public void deactivateOffice(UUID id) {
         log.info("Deactivating office with ID: {}", id);
         Office office = officeRepository.findById(id)
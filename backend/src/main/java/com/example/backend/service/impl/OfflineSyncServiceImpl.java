@@ -0,0 +1,259 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.properties.OfflineSyncProperties;
+import com.example.backend.exception.ResourceNotFoundException;
+import com.example.backend.exception.ValidationException;
+import com.example.backend.model.dto.DailyNoteRequestDTO;
+import com.example.backend.model.dto.LocationTrackingBatchDTO;
+import com.example.backend.model.dto.ServiceDeliveryCheckInRequest;
+import com.example.backend.model.dto.ServiceDeliveryCheckOutRequest;
+import com.example.backend.model.dto.sync.OfflineOperationDTO;
+import com.example.backend.model.dto.sync.OfflineOperationResultDTO;
+import com.example.backend.model.dto.sync.OfflineSyncRequestDTO;
+import com.example.backend.model.dto.sync.OfflineSyncResponseDTO;
+import com.example.backend.model.entity.AppUser;
+import com.example.backend.model.entity.OfflineQueue;
+import com.example.backend.repository.AppUserRepository;
+import com.example.backend.repository.OfflineQueueRepository;
+import com.example.backend.service.DailyNoteService;
+import com.example.backend.service.LocationTrackingService;
+import com.example.backend.service.OfflineSyncService;
+import com.example.backend.service.ServiceDeliveryCheckInCheckOutService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies offline queues from mobile devices.
+ * <p>
+ * A batch runs in one transaction under a per-user advisory lock, so syncs of one user are applied in order
+ * while different users sync in parallel. Every applied operation is recorded in offline_queue under its
+ * client operation ID in the same transaction, which makes a replayed batch a no-op. When an operation fails
+ * for good (see {@link #isPermanent}), the transaction is rolled back, the failure is recorded on its own and the
+ * batch is applied again; the failed operation is then answered from its record. A batch is therefore retried at
+ * most once per failing operation. Any other failure fails the whole request with nothing recorded, so the device
+ * keeps the operations queued and sends them again.
+ */
+@Slf4j
+@Service
+public class OfflineSyncServiceImpl implements OfflineSyncService {
+
+    static final String CHECK_IN = "check_in";
+    static final String CHECK_OUT = "check_out";
+    static final String LOCATION_BATCH = "location_batch";
+    static final String DAILY_NOTE = "daily_note";
+
+    private final OfflineQueueRepository offlineQueueRepository;
+    private final AppUserRepository appUserRepository;
+    private final ServiceDeliveryCheckInCheckOutService checkInCheckOutService;
+    private final LocationTrackingService locationTrackingService;
+    private final DailyNoteService dailyNoteService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final OfflineSyncProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OfflineSyncServiceImpl(OfflineQueueRepository offlineQueueRepository,
+                                  AppUserRepository appUserRepository,
+                                  ServiceDeliveryCheckInCheckOutService checkInCheckOutService,
+                                  LocationTrackingService locationTrackingService,
+                                  DailyNoteService dailyNoteService,
+                                  ObjectMapper objectMapper,
+                                  Validator validator,
+                                  OfflineSyncProperties properties,
+                                  PlatformTransactionManager transactionManager) {
+        this.offlineQueueRepository = offlineQueueRepository;
+        this.appUserRepository = appUserRepository;
+        this.checkInCheckOutService = checkInCheckOutService;
+        this.locationTrackingService = locationTrackingService;
+        this.dailyNoteService = dailyNoteService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public OfflineSyncResponseDTO sync(String userEmail, OfflineSyncRequestDTO request) {
+        AppUser user = appUserRepository.findByEmail(userEmail)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + userEmail));
+
+        List<OfflineOperationDTO> operations = request.getOperations();
+        Set<UUID> seen = new HashSet<>();
+        for (OfflineOperationDTO operation : operations) {
+            if (!seen.add(operation.getOperationId())) {
+                throw new ValidationException("Duplicate operation ID in batch: " + operation.getOperationId());
+            }
+        }
+
+        // One extra attempt per operation that can fail, plus the final successful one
+        for (int attempt = 0; attempt <= operations.size(); attempt++) {
+            try {
+                List<OfflineOperationResultDTO> results =
+                    transactionTemplate.execute(status -> applyBatch(user, request.getDeviceId(), operations));
+                int failed = (int) results.stream().filter(r -> "failed".equals(r.getStatus())).count();
+                log.info("Offline sync for user {}: {} operations, {} failed, {} attempts",
+                    user.getId(), results.size(), failed, attempt + 1);
+                return new OfflineSyncResponseDTO(results.size() - failed, failed, results);
+            } catch (OperationFailedException e) {
+                log.warn("Offline operation {} ({}) of user {} failed: {}",
+                    e.operation.getOperationId(), e.operation.getOperationType(), user.getId(), e.getMessage());
+                transactionTemplate.executeWithoutResult(status ->
+                    recordFailure(user, request.getDeviceId(), e.operation, e.getMessage()));
+            }
+        }
+        throw new IllegalStateException("Offline sync did not converge for user " + user.getId());
+    }
+
+    /**
+     * Runs in the batch transaction
+     */
+    private List<OfflineOperationResultDTO> applyBatch(AppUser user, String deviceId, List<OfflineOperationDTO> operations) {
+        UUID userId = user.getId();
+        offlineQueueRepository.acquireUserLock(userId.getMostSignificantBits() ^ userId.getLeastSignificantBits());
+
+        Map<UUID, OfflineQueue> processed = offlineQueueRepository
+            .findProcessed(userId, operations.stream().map(OfflineOperationDTO::getOperationId).toList()).stream()
+            .collect(Collectors.toMap(OfflineQueue::getOperationId, Function.identity()));
+
+        return operations.stream()
+            .map(operation -> {
+                OfflineQueue previous = processed.get(operation.getOperationId());
+                if (previous != null) {
+                    return toResult(previous, true);
+                }
+                OfflineQueue entry = newEntry(user, deviceId, operation);
+                try {
+                    entry.setResultId(apply(operation));
+                    entry.markAsSynced();
+                    // Flushes the operation's writes too, so constraint violations are attributed to it
+                    offlineQueueRepository.saveAndFlush(entry);
+                } catch (RuntimeException e) {
+                    if (isPermanent(e)) {
+                        throw new OperationFailedException(operation, e);
+                    }
+                    // Transient (database unavailable, lock timeout, ...): fail the request, the device sends it again
+                    throw e;
+                }
+                return toResult(entry, false);
+            })
+            .toList();
+    }
+
+    private UUID apply(OfflineOperationDTO operation) {
+        return switch (operation.getOperationType()) {
+            case CHECK_IN -> {
+                ServiceDeliveryCheckInRequest checkIn = read(operation, ServiceDeliveryCheckInRequest.class);
+                checkInCheckOutService.checkIn(checkIn, capturedAt(operation));
+                yield checkIn.getServiceDeliveryId();
+            }
+            case CHECK_OUT -> {
+                ServiceDeliveryCheckOutRequest checkOut = read(operation, ServiceDeliveryCheckOutRequest.class);
+                checkInCheckOutService.checkOut(checkOut, capturedAt(operation));
+                yield checkOut.getServiceDeliveryId();
+            }
+            case LOCATION_BATCH -> {
+                LocationTrackingBatchDTO batch = read(operation, LocationTrackingBatchDTO.class);
+                locationTrackingService.saveBatchLocationPoints(batch);
+                yield batch.getServiceDeliveryId();
+            }
+            case DAILY_NOTE -> dailyNoteService.create(read(operation, DailyNoteRequestDTO.class)).getId();
+            default -> throw new ValidationException("Unknown operation type: " + operation.getOperationType());
+        };
+    }
+
+    /**
+     * When the device captured the operation (queuedAt, else now). The device clock is not trusted beyond
+     * app.sync.offline: a time in the future or older than the maximum age is rejected.
+     */
+    private LocalDateTime capturedAt(OfflineOperationDTO operation) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime queuedAt = operation.getQueuedAt();
+        if (queuedAt == null) {
+            return now;
+        }
+        if (queuedAt.isAfter(now.plus(properties.getMaxClockSkew()))) {
+            throw new ValidationException("Operation time " + queuedAt + " is in the future");
+        }
+        if (queuedAt.isBefore(now.minus(properties.getMaxOperationAge()))) {
+            throw new ValidationException("Operation time " + queuedAt + " is older than "
+                + properties.getMaxOperationAge().toDays() + " days");
+        }
+        // Within the allowed skew, but never later than the server's now
+        return queuedAt.isAfter(now) ? now : queuedAt;
+    }
+
+    /**
+     * Payload as the request DTO of the matching online endpoint, validated the same way
+     */
+    private <T> T read(OfflineOperationDTO operation, Class<T> type) {
+        T request;
+        try {
+            request = objectMapper.convertValue(operation.getPayload(), type);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid " + operation.getOperationType() + " payload: " + e.getMessage());
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        }
+        return request;
+    }
+
+    /**
+     * Failures the operation will hit again however often it is sent: invalid payloads, missing rows and
+     * constraint violations. Only these are recorded; anything else may succeed on the next sync.
+     */
+    private static boolean isPermanent(RuntimeException e) {
+        return e instanceof ValidationException
+            || e instanceof ResourceNotFoundException
+            || e instanceof DataIntegrityViolationException
+            || e instanceof ConstraintViolationException;
+    }
+
+    private void recordFailure(AppUser user, String deviceId, OfflineOperationDTO operation, String error) {
+        OfflineQueue entry = newEntry(user, deviceId, operation);
+        entry.markAsFailed(error);
+        offlineQueueRepository.save(entry);
+    }
+
+    private static OfflineQueue newEntry(AppUser user, String deviceId, OfflineOperationDTO operation) {
+        OfflineQueue entry = new OfflineQueue(user, operation.getOperationType(), operation.getPayload());
+        entry.setOperationId(operation.getOperationId());
+        entry.setDeviceId(deviceId);
+        return entry;
+    }
+
+    private static OfflineOperationResultDTO toResult(OfflineQueue entry, boolean replayed) {
+        return new OfflineOperationResultDTO(entry.getOperationId(), entry.getSyncStatus(), entry.getErrorMessage(),
+            entry.getResultId(), entry.getSyncedAt(), replayed);
+    }
+
+    private static class OperationFailedException extends RuntimeException {
+
+        private final transient OfflineOperationDTO operation;
+
+        OperationFailedException(OfflineOperationDTO operation, RuntimeException cause) {
+            super(cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName(), cause);
+            this.operation = operation;
+        }
+    }
+}
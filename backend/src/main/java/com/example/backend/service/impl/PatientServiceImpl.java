@@ -10,6 +10,8 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import java.math.BigDecimal;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -17,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.config.CacheConfig;
 import com.example.backend.exception.ConflictException;
 import com.example.backend.exception.ResourceNotFoundException;
 import com.example.backend.model.dto.AddressDTO;
@@ -36,6 +39,7 @@ import com.example.backend.model.dto.PatientSummaryDTO;
 import com.example.backend.model.dto.PayerAuthorizationDTO;
 import com.example.backend.model.dto.PayerDetailDTO;
 import com.example.backend.model.dto.ProgramDetailDTO;
+import com.example.backend.model.dto.ReferenceRefDTO;
 import com.example.backend.model.dto.ServiceDetailDTO;
 import com.example.backend.model.dto.UpdateAuthorizationDTO;
 import com.example.backend.model.dto.UpdatePatientAddressDTO;
@@ -76,6 +80,7 @@ import com.example.backend.repository.StaffRepository;
 import com.example.backend.model.dto.PatientSearchResultDTO;
 import com.example.backend.model.dto.UpdatePatientAddressLocationDTO;
 import com.example.backend.service.PatientService;
+import com.example.backend.service.ReferenceDataService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -103,6 +108,7 @@ public class PatientServiceImpl implements PatientService {
     private final PatientContactRepository patientContactRepository;
     private final AddressRepository addressRepository;
     private final ServiceTypeRepository serviceTypeRepository;
+    private final ReferenceDataService referenceDataService;
     
     // Whitelist of allowed sort fields to prevent SQL injection via sort parameter
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(
@@ -223,6 +229,7 @@ public class PatientServiceImpl implements PatientService {
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PATIENT_FILTER_OPTIONS, key = "'all'")
     @Transactional(readOnly = true)
     public PatientFilterOptionsDTO getPatientFilterOptions() {
         log.debug("Fetching patient filter options");
@@ -375,6 +382,7 @@ public class PatientServiceImpl implements PatientService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PATIENT_FILTER_OPTIONS, allEntries = true)
     public PatientCreatedDTO createPatient(CreatePatientDTO createPatientDTO, String authenticatedUserEmail) {
         log.info("Creating new patient with medicaid ID: {}", createPatientDTO.getMedicaidId());
         
@@ -385,7 +393,7 @@ public class PatientServiceImpl implements PatientService {
         }
         
         // 2. Find and validate program by identifier
-        Program program = programRepository.findByProgramIdentifier(createPatientDTO.getProgramIdentifier())
+        ReferenceRefDTO program = referenceDataService.findProgramByIdentifier(createPatientDTO.getProgramIdentifier())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Program '" + createPatientDTO.getProgramIdentifier() + "' not found"));
         
@@ -395,11 +403,11 @@ public class PatientServiceImpl implements PatientService {
         }
         
         // 3. Find and validate payer by identifier
-        Payer payer = payerRepository.findByPayerIdentifier(createPatientDTO.getPayerIdentifier())
+        ReferenceRefDTO payer = referenceDataService.findPayerByIdentifier(createPatientDTO.getPayerIdentifier())
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Payer '" + createPatientDTO.getPayerIdentifier() + "' not found"));
         
-        if (!payer.isActivePayer()) {
+        if (!payer.isActive()) {
             log.warn("Attempt to create patient with inactive payer: {}", createPatientDTO.getPayerIdentifier());
             throw new IllegalArgumentException("Payer '" + createPatientDTO.getPayerIdentifier() + "' is not active");
         }
@@ -439,7 +447,7 @@ public class PatientServiceImpl implements PatientService {
         // 8. Create and save PatientProgram
         PatientProgram patientProgram = new PatientProgram();
         patientProgram.setPatient(savedPatient);
-        patientProgram.setProgram(program);
+        patientProgram.setProgram(programRepository.getReferenceById(program.getId()));
         patientProgram.setEnrollmentDate(LocalDate.now());
         patientProgram.setStatusEffectiveDate(LocalDate.now());
         patientProgramRepository.save(patientProgram);
@@ -447,7 +455,7 @@ public class PatientServiceImpl implements PatientService {
         // 9. Create and save PatientPayer
         PatientPayer patientPayer = new PatientPayer();
         patientPayer.setPatient(savedPatient);
-        patientPayer.setPayer(payer);
+        patientPayer.setPayer(payerRepository.getReferenceById(payer.getId()));
         patientPayer.setClientPayerId(createPatientDTO.getMedicaidId()); // Using medicaidId as clientPayerId for now
         patientPayer.setRank(1); // Primary payer
         patientPayer.setStartDate(LocalDate.now());
@@ -476,8 +484,8 @@ public class PatientServiceImpl implements PatientService {
         response.setClientId(savedPatient.getClientId());
         response.setStatus(savedPatient.getStatus());
         response.setOfficeName(office.getName());
-        response.setProgramName(program.getProgramName());
-        response.setPayerName(payer.getPayerName());
+        response.setProgramName(program.getName());
+        response.setPayerName(payer.getName());
         response.setCreatedAt(LocalDate.now());
         
         return response;
@@ -1106,6 +1114,7 @@ public class PatientServiceImpl implements PatientService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PATIENT_FILTER_OPTIONS, allEntries = true)
     public PatientProgramDTO updatePatientProgram(UUID patientId, UpdatePatientProgramDTO updateDTO) {
         log.info("Updating program for patient ID: {}", patientId);
 
@@ -1181,6 +1190,7 @@ public class PatientServiceImpl implements PatientService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PATIENT_FILTER_OPTIONS, allEntries = true)
     public PatientProgramDTO createPatientService(UUID patientId, CreatePatientServiceDTO createDTO) {
         log.info("Creating service for patient ID: {}", patientId);
 
@@ -1216,6 +1226,7 @@ public class PatientServiceImpl implements PatientService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PATIENT_FILTER_OPTIONS, allEntries = true)
     public PatientProgramDTO updatePatientService(UUID patientId, UUID patientServiceId, UpdatePatientServiceDTO updateDTO) {
         log.info("Updating service ID: {} for patient ID: {}", patientServiceId, patientId);
 
@@ -1265,6 +1276,7 @@ public class PatientServiceImpl implements PatientService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.PATIENT_FILTER_OPTIONS, allEntries = true)
     public PatientProgramDTO deletePatientService(UUID patientId, UUID patientServiceId) {
         log.info("Deleting service ID: {} for patient ID: {}", patientServiceId, patientId);
 
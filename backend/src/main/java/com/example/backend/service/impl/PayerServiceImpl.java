@@ -1,11 +1,13 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.config.CacheConfig;
 import com.example.backend.model.dto.PayerSelectDTO;
 import com.example.backend.model.entity.Payer;
 import com.example.backend.repository.PayerRepository;
 import com.example.backend.service.PayerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class PayerServiceImpl implements PayerService {
     private final PayerRepository payerRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PAYER_SELECT, key = "'all'")
     @Transactional(readOnly = true)
     public List<PayerSelectDTO> getPayersForSelect() {
         log.debug("Fetching active payers for select dropdown");
@@ -0,0 +1,260 @@
+package com.example.backend.service.impl;
+
+import com.example.backend.config.properties.PayrollProperties;
+import com.example.backend.model.dto.payroll.PayrollDailyHoursProjection;
+import com.example.backend.model.dto.payroll.PayrollHoursDTO;
+import com.example.backend.model.dto.payroll.PayrollPeriodDTO;
+import com.example.backend.model.entity.ServiceType;
+import com.example.backend.model.entity.Staff;
+import com.example.backend.repository.CheckEventRepository;
+import com.example.backend.repository.PayrollHoursRepository;
+import com.example.backend.repository.PayrollPeriodRepository;
+import com.example.backend.repository.ServiceTypeRepository;
+import com.example.backend.repository.StaffRepository;
+import com.example.backend.service.PayrollService;
+import com.example.backend.service.payroll.OvertimeRule;
+import com.example.backend.util.UuidV7;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of PayrollService.
+ * Daily hours come from one set-based query over check-in/check-out pairs; overtime rules are then
+ * applied in a single chronological pass per staff member. Once a period is closed its result is
+ * written to payroll_period/payroll_hours and never recomputed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PayrollServiceImpl implements PayrollService {
+
+    private static final int CLOSED_PERIODS_IN_MEMORY = 12;
+
+    private final CheckEventRepository checkEventRepository;
+    private final PayrollPeriodRepository payrollPeriodRepository;
+    private final PayrollHoursRepository payrollHoursRepository;
+    private final StaffRepository staffRepository;
+    private final ServiceTypeRepository serviceTypeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PayrollProperties properties;
+    private final List<OvertimeRule> availableRules;
+
+    // Closed periods never change, so entries are never invalidated, only evicted
+    private final Map<LocalDate, FrozenPeriod> closedPeriods = Collections.synchronizedMap(
+        new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, FrozenPeriod> eldest) {
+                return size() > CLOSED_PERIODS_IN_MEMORY;
+            }
+        });
+
+    private List<OvertimeRule> overtimeRules;
+
+    @PostConstruct
+    void resolveOvertimeRules() {
+        Map<String, OvertimeRule> byName = availableRules.stream()
+            .collect(Collectors.toMap(OvertimeRule::getName, Function.identity()));
+        overtimeRules = properties.getOvertimeRules().stream()
+            .map(name -> {
+                OvertimeRule rule = byName.get(name);
+                if (rule == null) {
+                    throw new IllegalStateException("Unknown overtime rule '" + name + "', available: " + byName.keySet());
+                }
+                return rule;
+            })
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public PayrollPeriodDTO getPeriodHours(LocalDate date) {
+        long index = Math.floorDiv(ChronoUnit.DAYS.between(properties.getPeriodAnchor(), date), properties.getPeriodLengthDays());
+        LocalDate periodStart = properties.getPeriodAnchor().plusDays(index * properties.getPeriodLengthDays());
+        LocalDate periodEnd = periodStart.plusDays(properties.getPeriodLengthDays() - 1L);
+        boolean closed = LocalDate.now().isAfter(periodEnd.plusDays(properties.getCloseAfterDays()));
+
+        if (!closed) {
+            return toDTO(new FrozenPeriod(periodStart, periodEnd, ruleNames(), LocalDateTime.now(),
+                aggregate(periodStart, periodEnd)), false);
+        }
+
+        FrozenPeriod frozen = closedPeriods.get(periodStart);
+        if (frozen == null) {
+            frozen = loadOrFreeze(periodStart, periodEnd);
+            closedPeriods.put(periodStart, frozen);
+        }
+        return toDTO(frozen, true);
+    }
+
+    private FrozenPeriod loadOrFreeze(LocalDate periodStart, LocalDate periodEnd) {
+        FrozenPeriod stored = loadStored(periodStart);
+        if (stored != null) {
+            return stored;
+        }
+
+        List<HoursRow> rows = aggregate(periodStart, periodEnd);
+        UUID periodId = UuidV7.generate();
+        // Another instance freezing the same period wins the race; its rows are then read back
+        int inserted = jdbcTemplate.update("""
+            INSERT INTO payroll_period (id, period_start, period_end, overtime_rules, created_at, updated_at)
+            VALUES (?, ?, ?, ?, NOW(), NOW())
+            ON CONFLICT (period_start) DO NOTHING
+            """, periodId, Date.valueOf(periodStart), Date.valueOf(periodEnd), String.join(",", ruleNames()));
+        if (inserted == 0) {
+            return loadStored(periodStart);
+        }
+
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO payroll_hours (
+                id, payroll_period_id, staff_id, service_type_id, regular_hours, overtime_hours, created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, NOW(), NOW())
+            """, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                HoursRow row = rows.get(i);
+                ps.setObject(1, UuidV7.generate());
+                ps.setObject(2, periodId);
+                ps.setObject(3, row.staffId());
+                ps.setObject(4, row.serviceTypeId());
+                ps.setBigDecimal(5, row.regularHours());
+                ps.setBigDecimal(6, row.overtimeHours());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+
+        log.info("Froze payroll period {} - {} with {} rows", periodStart, periodEnd, rows.size());
+        return new FrozenPeriod(periodStart, periodEnd, ruleNames(), LocalDateTime.now(), rows);
+    }
+
+    private FrozenPeriod loadStored(LocalDate periodStart) {
+        return payrollPeriodRepository.findByPeriodStart(periodStart)
+            .map(period -> new FrozenPeriod(
+                period.getPeriodStart(),
+                period.getPeriodEnd(),
+                List.of(period.getOvertimeRules().split(",")),
+                period.getCreatedAt(),
+                payrollHoursRepository.findRowsByPeriodId(period.getId()).stream()
+                    .map(row -> new HoursRow(row.getStaffId(), row.getServiceTypeId(), row.getRegularHours(), row.getOvertimeHours()))
+                    .toList()))
+            .orElse(null);
+    }
+
+    /**
+     * Split each staff member's daily hours into regular and overtime in one chronological pass.
+     * With several rules each hour is overtime under at most one of them, see {@link OvertimeRule#combine}.
+     * The pass starts at the workweek containing the period start, so a workweek spanning two periods counts
+     * its earlier days towards the weekly threshold; those days were paid with the previous period.
+     */
+    private List<HoursRow> aggregate(LocalDate periodStart, LocalDate periodEnd) {
+        long start = System.currentTimeMillis();
+        LocalDate workweekStart = periodStart.with(TemporalAdjusters.previousOrSame(properties.getWorkweekStart()));
+        List<PayrollDailyHoursProjection> days = checkEventRepository.aggregateDailyHours(
+            workweekStart.atStartOfDay(), periodEnd.plusDays(1).atStartOfDay());
+
+        Map<List<UUID>, double[]> totals = new LinkedHashMap<>();
+        UUID currentStaff = null;
+        OvertimeRule.Tracker tracker = null;
+        for (PayrollDailyHoursProjection day : days) {
+            if (tracker == null || !Objects.equals(day.getStaffId(), currentStaff)) {
+                currentStaff = day.getStaffId();
+                tracker = OvertimeRule.combine(overtimeRules);
+            }
+            double hours = day.getHours() != null ? day.getHours() : 0;
+            double overtime = tracker.record(day.getWorkDate(), hours);
+            if (day.getWorkDate().isBefore(periodStart)) {
+                continue;
+            }
+
+            double[] total = totals.computeIfAbsent(Arrays.asList(day.getStaffId(), day.getServiceTypeId()),
+                key -> new double[2]);
+            total[0] += hours - overtime;
+            total[1] += overtime;
+        }
+
+        List<HoursRow> rows = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> rows.add(new HoursRow(key.get(0), key.get(1), round(total[0]), round(total[1]))));
+        log.debug("Aggregated payroll {} - {}: {} day rows into {} staff/service rows in {} ms",
+            periodStart, periodEnd, days.size(), rows.size(), System.currentTimeMillis() - start);
+        return rows;
+    }
+
+    private PayrollPeriodDTO toDTO(FrozenPeriod period, boolean closed) {
+        List<UUID> staffIds = period.rows().stream().map(HoursRow::staffId).distinct().toList();
+        List<UUID> serviceTypeIds = period.rows().stream().map(HoursRow::serviceTypeId).filter(Objects::nonNull).distinct().toList();
+        Map<UUID, Staff> staff = staffRepository.findAllById(staffIds).stream()
+            .collect(Collectors.toMap(Staff::getId, Function.identity()));
+        Map<UUID, ServiceType> serviceTypes = serviceTypeRepository.findAllById(serviceTypeIds).stream()
+            .collect(Collectors.toMap(ServiceType::getId, Function.identity()));
+
+        List<PayrollHoursDTO> hours = period.rows().stream()
+            .map(row -> {
+                Staff s = staff.get(row.staffId());
+                ServiceType st = row.serviceTypeId() != null ? serviceTypes.get(row.serviceTypeId()) : null;
+                return new PayrollHoursDTO(
+                    row.staffId(),
+                    s != null ? s.getEmployeeId() : null,
+                    s != null ? s.getFirstName() + " " + s.getLastName() : null,
+                    row.serviceTypeId(),
+                    st != null ? st.getName() : null,
+                    row.regularHours(),
+                    row.overtimeHours()
+                );
+            })
+            .sorted(Comparator.comparing(PayrollHoursDTO::getStaffName, Comparator.nullsLast(String::compareTo))
+                .thenComparing(PayrollHoursDTO::getServiceTypeName, Comparator.nullsLast(String::compareTo)))
+            .toList();
+
+        return new PayrollPeriodDTO(period.periodStart(), period.periodEnd(), closed, period.overtimeRules(),
+            period.computedAt(), hours);
+    }
+
+    private List<String> ruleNames() {
+        return overtimeRules.stream().map(OvertimeRule::getName).toList();
+    }
+
+    private static BigDecimal round(double hours) {
+        return BigDecimal.valueOf(hours).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private record HoursRow(UUID staffId, UUID serviceTypeId, BigDecimal regularHours, BigDecimal overtimeHours) {
+    }
+
+    private record FrozenPeriod(LocalDate periodStart, LocalDate periodEnd, List<String> overtimeRules,
+                                LocalDateTime computedAt, List<HoursRow> rows) {
+
+        private FrozenPeriod {
+            overtimeRules = List.copyOf(overtimeRules);
+            rows = List.copyOf(rows);
+        }
+    }
+}
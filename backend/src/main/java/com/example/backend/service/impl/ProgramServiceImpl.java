@@ -1,11 +1,13 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.config.CacheConfig;
 import com.example.backend.model.dto.ProgramSelectDTO;
 import com.example.backend.model.entity.Program;
 import com.example.backend.repository.ProgramRepository;
 import com.example.backend.service.ProgramService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class ProgramServiceImpl implements ProgramService {
     private final ProgramRepository programRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.PROGRAM_SELECT, key = "'all'")
     @Transactional(readOnly = true)
     public List<ProgramSelectDTO> getActiveProgramsForSelect() {
         log.info("Fetching active programs for select dropdown");
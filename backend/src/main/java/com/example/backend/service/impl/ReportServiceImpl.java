@@ -207,8 +207,8 @@ public class ReportServiceImpl implements ReportService {
     @Override
     @Transactional(readOnly = true)
     public Page<ExpiringAuthReportDTO> getExpiringAuthReport(ReportFilterDTO filters, Pageable pageable) {
-        log.info("Generating Expiring Authorizations report with filters: fromDate={}, toDate={}, expiresAfterDays={}",
-            filters.getFromDate(), filters.getToDate(), filters.getExpiresAfterDays());
+        log.info("Generating Expiring Authorizations report with filters: fromDate={}, toDate={}, expiresAfterDays={}, officeId={}",
+            filters.getFromDate(), filters.getToDate(), filters.getExpiresAfterDays(), filters.getOfficeId());
 
         // Validate expiresAfterDays
         if (filters.getExpiresAfterDays() == null || filters.getExpiresAfterDays() <= 0) {
@@ -238,6 +238,7 @@ public class ReportServiceImpl implements ReportService {
             filters.getClientMedicaidId(),
             filters.getClientSearch(),
             filters.getExpiresAfterDays(),
+            filters.getOfficeId(),
             limit,
             offset
         );
@@ -272,7 +273,8 @@ public class ReportServiceImpl implements ReportService {
             serviceTypeIds,
             filters.getClientMedicaidId(),
             filters.getClientSearch(),
-            filters.getExpiresAfterDays()
+            filters.getExpiresAfterDays(),
+            filters.getOfficeId()
         );
 
         if (isUnpaged) {
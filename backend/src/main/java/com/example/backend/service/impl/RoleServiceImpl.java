@@ -1,11 +1,13 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.config.CacheConfig;
 import com.example.backend.model.dto.RoleDTO;
 import com.example.backend.model.entity.Role;
 import com.example.backend.repository.RoleRepository;
 import com.example.backend.service.RoleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class RoleServiceImpl implements RoleService {
     private final RoleRepository roleRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_ROLES, key = "'all'")
     @Transactional(readOnly = true)
     public List<RoleDTO> getActiveRoles() {
         log.info("Fetching active roles for select dropdown");
@@ -59,6 +59,7 @@ import com.example.backend.repository.ScheduleTemplateWeekRepository;
 import com.example.backend.repository.ServiceDeliveryRepository;
 import com.example.backend.repository.StaffRepository;
 import com.example.backend.service.ScheduleService;
+import com.example.backend.service.notification.NotificationOutbox;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -80,6 +81,7 @@ public class ScheduleServiceImpl implements ScheduleService {
     private final ServiceDeliveryRepository serviceDeliveryRepository;
     private final com.example.backend.repository.DailyNoteRepository dailyNoteRepository;
     private final StaffRepository staffRepository;
+    private final NotificationOutbox notificationOutbox;
 
     @Override
     @Transactional
@@ -678,7 +680,7 @@ public class ScheduleServiceImpl implements ScheduleService {
                     se.setPlannedUnits(te.getPlannedUnits());
                     se.setSourceTemplate(template);
                     se.setGeneratedAt(now);
-                    scheduleEventRepository.save(se);
+                    notificationOutbox.scheduleChanged(scheduleEventRepository.save(se), null);
                     created++;
                 }
             }
@@ -1034,6 +1036,7 @@ public class ScheduleServiceImpl implements ScheduleService {
                 .map(dto -> createScheduleEventFromDTO(dto, createdBy))
                 .map(scheduleEventRepository::save)
                 .collect(Collectors.toList());
+        savedEvents.forEach(event -> notificationOutbox.scheduleChanged(event, null));
 
         return savedEvents.stream()
                 .map(this::toScheduleEventDTO)
@@ -1104,6 +1107,8 @@ public class ScheduleServiceImpl implements ScheduleService {
             }
         }
 
+        Staff previousStaff = event.getStaff();
+
         // Partial update - only update fields that are not null
         if (dto.getAuthorizationId() != null) {
             Authorization authorization = authorizationRepository.findById(dto.getAuthorizationId())
@@ -1170,6 +1175,7 @@ public class ScheduleServiceImpl implements ScheduleService {
 
         // Save updated event
         ScheduleEvent savedEvent = scheduleEventRepository.save(event);
+        notificationOutbox.scheduleChanged(savedEvent, previousStaff);
 
         return toScheduleEventDTO(savedEvent);
     }
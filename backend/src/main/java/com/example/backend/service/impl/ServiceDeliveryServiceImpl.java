@@ -32,8 +32,8 @@ import com.example.backend.repository.OfficeRepository;
 import com.example.backend.repository.PatientRepository;
 import com.example.backend.repository.ScheduleEventRepository;
 import com.example.backend.repository.ServiceDeliveryRepository;
-import com.example.backend.repository.ServiceTypeRepository;
 import com.example.backend.repository.StaffRepository;
+import com.example.backend.service.ReferenceDataService;
 import com.example.backend.service.ServiceDeliveryService;
 
 import lombok.RequiredArgsConstructor;
@@ -50,7 +50,7 @@ public class ServiceDeliveryServiceImpl implements ServiceDeliveryService {
     private final StaffRepository staffRepository;
     private final PatientRepository patientRepository;
     private final OfficeRepository officeRepository;
-    private final ServiceTypeRepository serviceTypeRepository;
+    private final ReferenceDataService referenceDataService;
 
     @Override
     @Transactional
@@ -500,7 +500,7 @@ public class ServiceDeliveryServiceImpl implements ServiceDeliveryService {
                         String serviceName = "";
                         String eventCode = delivery.getScheduleEvent().getEventCode();
                         if (eventCode != null) {
-                            serviceName = serviceTypeRepository.findByCode(eventCode)
+                            serviceName = referenceDataService.findServiceTypeByCode(eventCode)
                                     .map(s -> s.getName().toLowerCase())
                                     .orElse("");
                         }
@@ -573,7 +573,7 @@ public class ServiceDeliveryServiceImpl implements ServiceDeliveryService {
         String serviceName = "Unknown";
         String serviceCode = schedule.getEventCode();
         if (serviceCode != null) {
-            var serviceType = serviceTypeRepository.findByCode(serviceCode);
+            var serviceType = referenceDataService.findServiceTypeByCode(serviceCode);
             if (serviceType.isPresent()) {
                 serviceName = serviceType.get().getName();
             }
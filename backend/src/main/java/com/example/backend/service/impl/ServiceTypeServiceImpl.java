@@ -1,11 +1,13 @@
 package com.example.backend.service.impl;
 
+import com.example.backend.config.CacheConfig;
 import com.example.backend.model.dto.ServiceTypeSelectDTO;
 import com.example.backend.model.entity.ServiceType;
 import com.example.backend.repository.ServiceTypeRepository;
 import com.example.backend.service.ServiceTypeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class ServiceTypeServiceImpl implements ServiceTypeService {
     private final ServiceTypeRepository serviceTypeRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.SERVICE_TYPE_SELECT, key = "'all'")
     @Transactional(readOnly = true)
     public List<ServiceTypeSelectDTO> getServiceTypesForSelect() {
         log.info("Fetching all service types for select dropdown");
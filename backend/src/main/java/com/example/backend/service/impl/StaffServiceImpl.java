@@ -29,6 +29,7 @@ import com.example.backend.repository.StaffAddressRepository;
 import com.example.backend.repository.StaffContactRepository;
 import com.example.backend.repository.AddressRepository;
 import com.example.backend.repository.UserOfficeRepository;
+import com.example.backend.service.ReferenceDataService;
 import com.example.backend.service.StaffService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import lombok.RequiredArgsConstructor;
@@ -63,6 +64,7 @@ public class StaffServiceImpl implements StaffService {
     private final StaffContactRepository staffContactRepository;
     private final AddressRepository addressRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataService referenceDataService;
     
     // Whitelist of allowed sort fields to prevent SQL injection via sort parameter
     private static final Set<String> ALLOWED_SORT_FIELDS = Set.of(
@@ -436,7 +438,8 @@ public class StaffServiceImpl implements StaffService {
         // Validate all entities first before making any changes
         Role newRole = null;
         if (updateDTO.getPosition() != null) {
-            newRole = roleRepository.findByName(updateDTO.getPosition())
+            newRole = referenceDataService.findRoleByName(updateDTO.getPosition())
+                    .map(role -> roleRepository.getReferenceById(role.getId()))
                     .orElseThrow(() -> new ResourceNotFoundException("Role", updateDTO.getPosition()));
         }
         
@@ -0,0 +1,58 @@
+package com.example.backend.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Transport for development and tests: logs each message and keeps the most recent ones in memory instead of
+ * calling a push service
+ */
+@Slf4j
+@Component
+public class LocalPushTransport implements PushTransport {
+
+    private static final int KEPT_MESSAGES = 1000;
+
+    public record SentMessage(PushTarget target, PushMessage message) {
+    }
+
+    private final Deque<SentMessage> sent = new ArrayDeque<>();
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public Delivery send(PushTarget target, List<PushMessage> messages) {
+        synchronized (sent) {
+            for (PushMessage message : messages) {
+                log.debug("Push to device {} ({}): {} {}", target.deviceId(), target.platform(), message.type(), message.payload());
+                if (sent.size() == KEPT_MESSAGES) {
+                    sent.removeFirst();
+                }
+                sent.addLast(new SentMessage(target, message));
+            }
+        }
+        return Delivery.sent();
+    }
+
+    /**
+     * Messages sent so far, oldest first (at most the last 1000)
+     */
+    public List<SentMessage> sentMessages() {
+        synchronized (sent) {
+            return List.copyOf(sent);
+        }
+    }
+
+    public void clear() {
+        synchronized (sent) {
+            sent.clear();
+        }
+    }
+}
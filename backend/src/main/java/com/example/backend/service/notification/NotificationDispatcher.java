@@ -0,0 +1,183 @@
+package com.example.backend.service.notification;
+
+import com.example.backend.config.properties.NotificationProperties;
+import com.example.backend.model.entity.Device;
+import com.example.backend.model.entity.MobileNotification;
+import com.example.backend.repository.DeviceRepository;
+import com.example.backend.repository.MobileNotificationRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sends queued mobile notifications through the configured {@link PushTransport}.
+ * <p>
+ * Each poll claims batches of due rows with SELECT ... FOR UPDATE SKIP LOCKED and marks them sending for the claim
+ * timeout in a short transaction, so several instances share the queue without sending a row twice. A batch is
+ * sent outside any transaction, one call per device with all of its user's messages, and the outcome is written
+ * back: sent, queued again with exponential backoff, or failed after the last attempt. The outcome is only written
+ * to rows still carrying this claim's deadline (locked meanwhile), so a row whose claim ran out and was taken over
+ * by another instance is settled by that instance alone.
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MobileNotificationRepository notificationRepository;
+    private final DeviceRepository deviceRepository;
+    private final NotificationProperties properties;
+    private final List<PushTransport> availableTransports;
+    private final TransactionTemplate transactionTemplate;
+
+    private PushTransport transport;
+
+    public NotificationDispatcher(MobileNotificationRepository notificationRepository,
+                                  DeviceRepository deviceRepository,
+                                  NotificationProperties properties,
+                                  List<PushTransport> availableTransports,
+                                  PlatformTransactionManager transactionManager) {
+        this.notificationRepository = notificationRepository;
+        this.deviceRepository = deviceRepository;
+        this.properties = properties;
+        this.availableTransports = availableTransports;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void resolveTransport() {
+        Map<String, PushTransport> byName = availableTransports.stream()
+            .collect(Collectors.toMap(PushTransport::getName, Function.identity()));
+        transport = byName.get(properties.getTransport());
+        if (transport == null) {
+            throw new IllegalStateException("Unknown push transport '" + properties.getTransport() + "', available: " + byName.keySet());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.poll-interval:2s}")
+    public void poll() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            for (int batch = 0; batch < properties.getMaxBatchesPerPoll(); batch++) {
+                if (dispatchBatch() < properties.getBatchSize()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Notification dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Claim, send and settle one batch
+     * @return number of notifications claimed
+     */
+    public int dispatchBatch() {
+        LocalDateTime claimedAt = LocalDateTime.now();
+        // Microseconds, as stored, so the deadline read back compares equal
+        LocalDateTime claimedUntil = claimedAt.plus(properties.getClaimTimeout()).truncatedTo(ChronoUnit.MICROS);
+        List<UUID> claimed = transactionTemplate.execute(status -> {
+            List<UUID> ids = notificationRepository.lockDueIds(claimedAt, properties.getBatchSize());
+            if (!ids.isEmpty()) {
+                notificationRepository.markSending(ids, claimedUntil);
+            }
+            return ids;
+        });
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<MobileNotification> notifications = notificationRepository.findAllById(claimed);
+        Map<UUID, List<MobileNotification>> byUser = notifications.stream()
+            .collect(Collectors.groupingBy(n -> n.getUser().getId()));
+        List<Device> devices = deviceRepository.findPushTargets(byUser.keySet());
+
+        // Per notification: delivered to at least one device, or the last transient error
+        Set<UUID> delivered = new HashSet<>();
+        Map<UUID, String> retryErrors = new HashMap<>();
+        List<UUID> invalidDevices = new ArrayList<>();
+        for (Device device : devices) {
+            List<MobileNotification> forDevice = byUser.get(device.getUser().getId());
+            PushTransport.Delivery delivery = send(device, forDevice);
+            switch (delivery.outcome()) {
+                case SENT -> forDevice.forEach(n -> delivered.add(n.getId()));
+                case RETRY -> forDevice.forEach(n -> retryErrors.put(n.getId(), delivery.error()));
+                case INVALID_TARGET -> invalidDevices.add(device.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            for (MobileNotification notification : notificationRepository.findAllByIdForUpdate(claimed)) {
+                if (!notification.isSending() || !claimedUntil.equals(notification.getNextAttemptAt())) {
+                    // Claim ran out and another instance claimed or settled it since
+                    continue;
+                }
+                UUID id = notification.getId();
+                if (delivered.contains(id)) {
+                    notification.markAsSent();
+                } else if (retryErrors.containsKey(id) && notification.getAttempts() < properties.getMaxAttempts()) {
+                    notification.scheduleRetry(truncate(retryErrors.get(id)), now.plus(backoff(notification.getAttempts())));
+                } else {
+                    notification.markAsFailed(truncate(retryErrors.getOrDefault(id, "No device with a valid push token")));
+                }
+            }
+            if (!invalidDevices.isEmpty()) {
+                deviceRepository.clearPushTokens(invalidDevices);
+            }
+        });
+
+        log.debug("Dispatched {} notifications to {} devices: {} sent, {} to retry",
+            notifications.size(), devices.size(), delivered.size(), retryErrors.size());
+        return claimed.size();
+    }
+
+    private PushTransport.Delivery send(Device device, List<MobileNotification> notifications) {
+        List<PushTransport.PushMessage> messages = notifications.stream()
+            .map(n -> new PushTransport.PushMessage(n.getId(), n.getNotificationType(), n.getPayload()))
+            .toList();
+        try {
+            return transport.send(new PushTransport.PushTarget(device.getId(), device.getPlatform(), device.getPushToken()), messages);
+        } catch (RuntimeException e) {
+            return PushTransport.Delivery.retry(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * initialBackoff * 2^(attempts - 1), capped at maxBackoff, with +-20% jitter so retries of a burst spread out
+     */
+    Duration backoff(int attempts) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        long delay = Math.min(max, initial << Math.min(Math.max(attempts - 1, 0), 30));
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return Duration.ofMillis((long) (delay * jitter));
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
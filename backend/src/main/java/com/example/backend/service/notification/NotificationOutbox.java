@@ -0,0 +1,102 @@
+package com.example.backend.service.notification;
+
+import com.example.backend.config.properties.NotificationProperties;
+import com.example.backend.model.entity.AppUser;
+import com.example.backend.model.entity.MobileNotification;
+import com.example.backend.model.entity.ScheduleEvent;
+import com.example.backend.model.entity.Staff;
+import com.example.backend.repository.MobileNotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Producers of mobile notifications. Each writes mobile_notification rows only, in the transaction of the change it
+ * reports; NotificationDispatcher sends them. The scheduled producers run on every instance and rely on the
+ * (user_id, dedup_key) constraint to queue each notice once.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutbox {
+
+    private final MobileNotificationRepository notificationRepository;
+    private final NotificationProperties properties;
+
+    /**
+     * Queue a notification; only sent if the caller's transaction commits
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(AppUser user, String type, Map<String, Object> payload) {
+        notificationRepository.save(new MobileNotification(user, type, payload));
+    }
+
+    /**
+     * Tell the staff of an upcoming event about a change to it: the new staff that it was assigned or updated,
+     * the previous staff that it was taken off them
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void scheduleChanged(ScheduleEvent event, Staff previousStaff) {
+        if (event.getEndAt() != null && event.getEndAt().isBefore(OffsetDateTime.now())) {
+            return;
+        }
+        Staff staff = event.getStaff();
+        boolean reassigned = previousStaff != null && (staff == null || !Objects.equals(previousStaff.getId(), staff.getId()));
+        if (reassigned && previousStaff.getUser() != null) {
+            enqueue(previousStaff.getUser(), MobileNotification.SCHEDULE_UPDATE, schedulePayload(event, "unassigned"));
+        }
+        if (staff != null && staff.getUser() != null) {
+            String change = previousStaff == null || reassigned ? "assigned" : "updated";
+            enqueue(staff.getUser(), MobileNotification.SCHEDULE_UPDATE, schedulePayload(event, change));
+        }
+    }
+
+    @Scheduled(cron = "${app.notifications.expiring-authorization-cron:0 0 7 * * *}")
+    @Transactional
+    public void enqueueExpiringAuthorizations() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        int queued = notificationRepository.enqueueExpiringAuthorizations(today,
+            today.plusDays(properties.getExpiringAuthorizationDays()));
+        if (queued > 0) {
+            log.info("Queued {} expiring authorization notifications", queued);
+        }
+    }
+
+    @Scheduled(cron = "${app.notifications.missed-check-out-cron:0 */5 * * * *}")
+    @Transactional
+    public void enqueueMissedCheckOuts() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        LocalDateTime endedBefore = LocalDateTime.now().minus(properties.getMissedCheckOutGrace());
+        // Visits that ended more than a day ago are left to the supervisors' reports
+        int queued = notificationRepository.enqueueMissedCheckOuts(endedBefore.minusDays(1), endedBefore);
+        if (queued > 0) {
+            log.info("Queued {} missed check-out notifications", queued);
+        }
+    }
+
+    private static Map<String, Object> schedulePayload(ScheduleEvent event, String change) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("scheduleEventId", event.getId());
+        payload.put("patientId", event.getPatient() != null ? event.getPatient().getId() : null);
+        payload.put("eventDate", event.getEventDate() != null ? event.getEventDate().toString() : null);
+        payload.put("startAt", event.getStartAt() != null ? event.getStartAt().toString() : null);
+        payload.put("endAt", event.getEndAt() != null ? event.getEndAt().toString() : null);
+        payload.put("change", change);
+        return payload;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.backend.service.notification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends push messages to a device. Implementations are Spring beans selected by app.notifications.transport.
+ */
+public interface PushTransport {
+
+    /**
+     * Name used in app.notifications.transport
+     */
+    String getName();
+
+    /**
+     * Send the messages queued for one device in a single call where the push service allows it
+     */
+    Delivery send(PushTarget target, List<PushMessage> messages);
+
+    record PushTarget(UUID deviceId, String platform, String pushToken) {
+    }
+
+    record PushMessage(UUID notificationId, String type, Map<String, Object> payload) {
+    }
+
+    enum Outcome {
+        SENT,
+        /** Transient failure (timeout, throttling, 5xx): the messages are retried with backoff */
+        RETRY,
+        /** The push token is no longer valid: it is cleared and the device skipped from now on */
+        INVALID_TARGET
+    }
+
+    record Delivery(Outcome outcome, String error) {
+
+        public static Delivery sent() {
+            return new Delivery(Outcome.SENT, null);
+        }
+
+        public static Delivery retry(String error) {
+            return new Delivery(Outcome.RETRY, error);
+        }
+
+        public static Delivery invalidTarget(String error) {
+            return new Delivery(Outcome.INVALID_TARGET, error);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.backend.service.payroll;
+
+import com.example.backend.config.properties.PayrollProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Daily overtime (e.g. California): hours beyond the daily threshold within a calendar day
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyOvertimeRule implements OvertimeRule {
+
+    private final PayrollProperties properties;
+
+    @Override
+    public String getName() {
+        return "daily";
+    }
+
+    /**
+     * Runs before the weekly rule, which then only counts the hours left regular
+     */
+    @Override
+    public int getOrder() {
+        return 100;
+    }
+
+    @Override
+    public Tracker newTracker() {
+        double threshold = properties.getDailyThresholdHours();
+        return new Tracker() {
+            private LocalDate day;
+            private double dayHours;
+
+            @Override
+            public double record(LocalDate workDate, double hours) {
+                if (!workDate.equals(day)) {
+                    day = workDate;
+                    dayHours = 0;
+                }
+                double before = dayHours;
+                dayHours += hours;
+                return Math.max(0, dayHours - threshold) - Math.max(0, before - threshold);
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.backend.service.payroll;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Pluggable overtime rule.
+ * Register an implementation as a Spring bean and list its name under app.payroll.overtime-rules.
+ * Hours of one staff member are fed to a fresh {@link Tracker} in chronological order.
+ */
+public interface OvertimeRule {
+
+    /**
+     * Name used in app.payroll.overtime-rules
+     */
+    String getName();
+
+    /**
+     * New per-staff state for one pay period. It is also fed the days of the period's first workweek that fall
+     * before the period, so weekly totals carry across the period boundary.
+     */
+    Tracker newTracker();
+
+    /**
+     * Position among the enabled rules, lowest first; see {@link #combine}
+     */
+    int getOrder();
+
+    /**
+     * One tracker applying all the rules without pyramiding: the rules run in {@link #getOrder} order and each is
+     * fed only the hours the earlier ones left regular. Daily overtime hours therefore do not count towards the
+     * weekly threshold, and no hour is paid as overtime twice.
+     */
+    static Tracker combine(List<OvertimeRule> rules) {
+        List<Tracker> trackers = rules.stream()
+            .sorted(Comparator.comparingInt(OvertimeRule::getOrder))
+            .map(OvertimeRule::newTracker)
+            .toList();
+        return (workDate, hours) -> {
+            double regular = hours;
+            for (Tracker tracker : trackers) {
+                regular -= tracker.record(workDate, regular);
+            }
+            return hours - regular;
+        };
+    }
+
+    interface Tracker {
+
+        /**
+         * Record hours worked on a day and return how many of them are overtime under this rule
+         */
+        double record(LocalDate workDate, double hours);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.backend.service.payroll;
+
+import com.example.backend.config.properties.PayrollProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * FLSA overtime: hours beyond the weekly threshold within a workweek
+ */
+@Component
+@RequiredArgsConstructor
+public class WeeklyOvertimeRule implements OvertimeRule {
+
+    private final PayrollProperties properties;
+
+    @Override
+    public String getName() {
+        return "weekly";
+    }
+
+    /**
+     * Runs after the daily rule and counts only the hours it left regular
+     */
+    @Override
+    public int getOrder() {
+        return 200;
+    }
+
+    @Override
+    public Tracker newTracker() {
+        double threshold = properties.getWeeklyThresholdHours();
+        return new Tracker() {
+            private LocalDate weekStart;
+            private double weekHours;
+
+            @Override
+            public double record(LocalDate workDate, double hours) {
+                LocalDate start = workDate.with(TemporalAdjusters.previousOrSame(properties.getWorkweekStart()));
+                if (!start.equals(weekStart)) {
+                    weekStart = start;
+                    weekHours = 0;
+                }
+                double before = weekHours;
+                weekHours += hours;
+                return Math.max(0, weekHours - threshold) - Math.max(0, before - threshold);
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.service.storage;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cloudinary backend. Images are stored as image resources, PDFs as raw resources.
+ */
+@Component
+public class CloudinaryFileStorage implements FileStorage {
+
+    private final Cloudinary cloudinary;
+
+    // The client is only created on the first upload, and never when another backend is selected
+    public CloudinaryFileStorage(@Lazy Cloudinary cloudinary) {
+        this.cloudinary = cloudinary;
+    }
+
+    @Override
+    public String getName() {
+        return "cloudinary";
+    }
+
+    @Override
+    public StoredObject store(String key, Path source, String contentType) throws IOException {
+        Map<String, Object> options = new HashMap<>();
+        options.put("resource_type", resourceType(contentType));
+        options.put("public_id", key);
+        // For raw files (PDF), ensure format is preserved in the URL
+        if ("application/pdf".equals(contentType)) {
+            options.put("format", "pdf");
+        }
+
+        // Streams the file from disk
+        Map<?, ?> result = cloudinary.uploader().upload(source.toFile(), options);
+
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("cloudinary_public_id", result.get("public_id"));
+        meta.put("cloudinary_format", result.get("format"));
+        meta.put("cloudinary_version", result.get("version"));
+        meta.put("cloudinary_resource_type", result.get("resource_type"));
+        long bytes = result.get("bytes") != null ? ((Number) result.get("bytes")).longValue() : source.toFile().length();
+        return new StoredObject((String) result.get("secure_url"), bytes, meta);
+    }
+
+    @Override
+    public Optional<Resource> open(String key) {
+        // Served by the Cloudinary CDN
+        return Optional.empty();
+    }
+
+    @Override
+    public void delete(String key, String contentType) throws IOException {
+        cloudinary.uploader().destroy(key, ObjectUtils.asMap("resource_type", resourceType(contentType)));
+    }
+
+    private static String resourceType(String contentType) {
+        if (contentType != null && contentType.startsWith("image/")) {
+            return "image";
+        }
+        return "raw"; // PDFs are stored as raw files
+    }
+}
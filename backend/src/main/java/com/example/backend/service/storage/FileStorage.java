@@ -0,0 +1,44 @@
+package com.example.backend.service.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Pluggable object store for uploaded files.
+ * Register an implementation as a Spring bean and select it by name with app.storage.backend.
+ * Implementations read the content from a local file so nothing is buffered in heap.
+ */
+public interface FileStorage {
+
+    /**
+     * Name used in app.storage.backend, also recorded in FileObject meta as storage_backend
+     */
+    String getName();
+
+    /**
+     * Store the content of {@code source} under {@code key}, replacing any object with that key
+     */
+    StoredObject store(String key, Path source, String contentType) throws IOException;
+
+    /**
+     * Content of the object under {@code key} when this backend serves it through the API,
+     * empty when clients fetch it from the stored URI instead
+     */
+    Optional<Resource> open(String key);
+
+    /**
+     * Remove the object stored under {@code key}; a missing object is not an error
+     */
+    void delete(String key, String contentType) throws IOException;
+
+    /**
+     * @param uri  public URL (or URI) the object is served from
+     * @param meta backend specific metadata kept in FileObject meta
+     */
+    record StoredObject(String uri, long sizeBytes, Map<String, Object> meta) {
+    }
+}
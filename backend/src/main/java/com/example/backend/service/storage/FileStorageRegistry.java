@@ -0,0 +1,94 @@
+package com.example.backend.service.storage;
+
+import com.example.backend.config.properties.FileStorageProperties;
+import com.example.backend.model.entity.FileObject;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the {@link FileStorage} new uploads go to (app.storage.backend) and the one an existing file lives in
+ */
+@Component
+@RequiredArgsConstructor
+public class FileStorageRegistry {
+
+    private final FileStorageProperties properties;
+    private final List<FileStorage> availableStorages;
+
+    private Map<String, FileStorage> byName;
+    private FileStorage current;
+
+    @PostConstruct
+    void resolveStorage() {
+        byName = availableStorages.stream()
+            .collect(Collectors.toMap(FileStorage::getName, Function.identity()));
+        current = byName.get(properties.getBackend());
+        if (current == null) {
+            throw new IllegalStateException("Unknown storage backend '" + properties.getBackend() + "', available: " + byName.keySet());
+        }
+    }
+
+    /**
+     * Backend for new uploads
+     */
+    public FileStorage current() {
+        return current;
+    }
+
+    /**
+     * Backend holding the file's content. Files uploaded before storage_backend was recorded are on Cloudinary.
+     */
+    public FileStorage forFile(FileObject fileObject) {
+        String name = (String) fileObject.getMeta().getOrDefault("storage_backend", "cloudinary");
+        FileStorage storage = byName.get(name);
+        if (storage == null) {
+            throw new IllegalStateException("Unknown storage backend '" + name + "' for file " + fileObject.getId());
+        }
+        return storage;
+    }
+
+    /**
+     * Key of the file's content in its backend, or null if it has none
+     */
+    public String keyOf(FileObject fileObject) {
+        Object key = fileObject.getMeta().get("storage_key");
+        if (key == null) {
+            key = fileObject.getMeta().get("cloudinary_public_id");
+        }
+        return (String) key;
+    }
+
+    /**
+     * Meta entry (key, uri, content_type, ...) of an image variant, or null if the file has none
+     */
+    public Map<?, ?> derivativeOf(FileObject fileObject, String variant) {
+        Object derivatives = fileObject.getMeta().get("derivatives");
+        if (derivatives instanceof Map<?, ?> byVariant && byVariant.get(variant) instanceof Map<?, ?> derivative) {
+            return derivative;
+        }
+        return null;
+    }
+
+    /**
+     * Meta entries of all image variants of the file
+     */
+    public Collection<Map<?, ?>> derivativesOf(FileObject fileObject) {
+        List<Map<?, ?>> all = new ArrayList<>();
+        if (fileObject.getMeta().get("derivatives") instanceof Map<?, ?> byVariant) {
+            for (Object derivative : byVariant.values()) {
+                if (derivative instanceof Map<?, ?> entry) {
+                    all.add(entry);
+                }
+            }
+        }
+        return all;
+    }
+}
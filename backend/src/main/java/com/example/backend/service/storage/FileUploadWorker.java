@@ -0,0 +1,148 @@
+package com.example.backend.service.storage;
+
+import com.example.backend.config.properties.FileStorageProperties;
+import com.example.backend.model.entity.FileObject;
+import com.example.backend.repository.FileObjectRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Uploads staged files to the storage backend in the background and records the outcome on the FileObject.
+ * No database connection is held during the remote call; the row is only touched in a short transaction afterwards.
+ */
+@Slf4j
+@Component
+public class FileUploadWorker {
+
+    private final FileObjectRepository fileObjectRepository;
+    private final FileStorageRegistry storageRegistry;
+    private final ImageDerivativeGenerator derivativeGenerator;
+    private final FileStorageProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public FileUploadWorker(FileObjectRepository fileObjectRepository,
+                            FileStorageRegistry storageRegistry,
+                            ImageDerivativeGenerator derivativeGenerator,
+                            FileStorageProperties properties,
+                            PlatformTransactionManager transactionManager) {
+        this.fileObjectRepository = fileObjectRepository;
+        this.storageRegistry = storageRegistry;
+        this.derivativeGenerator = derivativeGenerator;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Store the staged file under {@code key} and mark the FileObject stored (or failed), then generate image variants.
+     * The staged file is always removed.
+     */
+    @Async
+    public void upload(UUID fileId, String key, Path staged, String contentType) {
+        FileStorage storage = storageRegistry.current();
+        try {
+            FileStorage.StoredObject stored;
+            try {
+                stored = storage.store(key, staged, contentType);
+            } catch (IOException | RuntimeException e) {
+                log.error("Error uploading file {} to {}: {}", fileId, storage.getName(), e.getMessage(), e);
+                markFailed(fileId, e.getMessage());
+                return;
+            }
+
+            if (!markStored(fileId, stored)) {
+                // Deleted while uploading, do not leave the object behind
+                log.info("File {} was deleted during upload, removing {} from {}", fileId, key, storage.getName());
+                storage.delete(key, contentType);
+                return;
+            }
+
+            if (properties.getDerivatives().isEnabled() && contentType != null && contentType.startsWith("image/")) {
+                generateDerivatives(fileId, staged, storage);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Error finishing upload of file {}: {}", fileId, e.getMessage(), e);
+        } finally {
+            deleteStaged(staged);
+        }
+    }
+
+    private boolean markStored(UUID fileId, FileStorage.StoredObject stored) {
+        Boolean found = transactionTemplate.execute(status -> fileObjectRepository.findById(fileId)
+            .map(fileObject -> {
+                fileObject.setStorageUri(stored.uri());
+                fileObject.setSizeBytes(stored.sizeBytes());
+                Map<String, Object> meta = new HashMap<>(fileObject.getMeta());
+                meta.putAll(stored.meta());
+                meta.remove("upload_error");
+                fileObject.setMeta(meta);
+                fileObject.setUploadStatus(FileObject.UPLOAD_STORED);
+                log.info("File uploaded successfully: {} (ID: {})", fileObject.getFilename(), fileId);
+                return true;
+            })
+            .orElse(false));
+        return Boolean.TRUE.equals(found);
+    }
+
+    /**
+     * Variants are best effort: the original is already stored and served if they fail
+     */
+    private void generateDerivatives(UUID fileId, Path staged, FileStorage storage) {
+        Map<String, Object> derivatives;
+        try {
+            derivatives = derivativeGenerator.generate(fileId, staged, storage);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not generate image variants of file {}: {}", fileId, e.getMessage());
+            return;
+        }
+        if (derivatives.isEmpty()) {
+            return;
+        }
+
+        Boolean found = transactionTemplate.execute(status -> fileObjectRepository.findById(fileId)
+            .map(fileObject -> {
+                Map<String, Object> meta = new HashMap<>(fileObject.getMeta());
+                meta.put("derivatives", derivatives);
+                fileObject.setMeta(meta);
+                return true;
+            })
+            .orElse(false));
+        if (!Boolean.TRUE.equals(found)) {
+            for (Object derivative : derivatives.values()) {
+                String key = (String) ((Map<?, ?>) derivative).get("key");
+                try {
+                    storage.delete(key, (String) ((Map<?, ?>) derivative).get("content_type"));
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Could not remove variant {} of deleted file {}: {}", key, fileId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void markFailed(UUID fileId, String error) {
+        transactionTemplate.executeWithoutResult(status -> fileObjectRepository.findById(fileId)
+            .ifPresent(fileObject -> {
+                Map<String, Object> meta = new HashMap<>(fileObject.getMeta());
+                meta.put("upload_error", error);
+                fileObject.setMeta(meta);
+                fileObject.setUploadStatus(FileObject.UPLOAD_FAILED);
+            }));
+    }
+
+    private static void deleteStaged(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException e) {
+            log.warn("Could not remove staged upload {}: {}", staged, e.getMessage());
+        }
+    }
+}
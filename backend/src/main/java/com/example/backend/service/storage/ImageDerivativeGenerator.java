@@ -0,0 +1,140 @@
+package com.example.backend.service.storage;
+
+import com.example.backend.config.properties.FileStorageProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generates resized variants (thumbnail, medium) of an uploaded image with ImageIO and stores them next to the original.
+ * Formats ImageIO cannot decode (e.g. WebP without a plugin) get no variants and are served as uploaded.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDerivativeGenerator {
+
+    public static final String THUMBNAIL = "thumbnail";
+    public static final String MEDIUM = "medium";
+
+    private final FileStorageProperties properties;
+
+    /**
+     * Store the variants of the staged image and return their meta entries by variant name; empty if none apply
+     */
+    public Map<String, Object> generate(UUID fileId, Path staged, FileStorage storage) throws IOException {
+        FileStorageProperties.Derivatives settings = properties.getDerivatives();
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put(THUMBNAIL, settings.getThumbnailSize());
+        sizes.put(MEDIUM, settings.getMediumSize());
+
+        BufferedImage image = read(staged, settings.getMediumSize());
+        if (image == null) {
+            return Map.of();
+        }
+
+        // Keep transparency as PNG, everything else is recompressed as JPEG
+        boolean alpha = image.getColorModel().hasAlpha();
+        String format = alpha ? "png" : "jpeg";
+        String contentType = alpha ? "image/png" : "image/jpeg";
+        String extension = alpha ? ".png" : ".jpg";
+
+        Map<String, Object> derivatives = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> size : sizes.entrySet()) {
+            BufferedImage variant = scale(image, size.getValue(), alpha);
+            String key = "derivatives/" + fileId + "/" + size.getKey() + extension;
+            Path encoded = Files.createTempFile(properties.getStagingDir(), "variant-", extension);
+            try {
+                write(variant, format, encoded, settings.getJpegQuality());
+                FileStorage.StoredObject stored = storage.store(key, encoded, contentType);
+
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("key", key);
+                entry.put("uri", stored.uri());
+                entry.put("content_type", contentType);
+                entry.put("width", variant.getWidth());
+                entry.put("height", variant.getHeight());
+                entry.put("size_bytes", stored.sizeBytes());
+                derivatives.put(size.getKey(), entry);
+            } finally {
+                Files.deleteIfExists(encoded);
+            }
+        }
+        return derivatives;
+    }
+
+    /**
+     * Decode the image, subsampled while reading so a large photo is never fully decoded for a small variant
+     */
+    private static BufferedImage read(Path source, int largestVariant) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                // Keep at least twice the largest variant so the final downscale stays smooth
+                int step = Math.max(1, longest / (largestVariant * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int maxEdge, boolean alpha) {
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+
+        BufferedImage scaled = new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static void write(BufferedImage image, String format, Path target, float jpegQuality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(out);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
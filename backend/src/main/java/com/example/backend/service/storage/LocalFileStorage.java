@@ -0,0 +1,57 @@
+package com.example.backend.service.storage;
+
+import com.example.backend.config.properties.FileStorageProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Local filesystem backend for development and offline use. Objects live under app.storage.local.root by key.
+ */
+@Component
+@RequiredArgsConstructor
+public class LocalFileStorage implements FileStorage {
+
+    private final FileStorageProperties properties;
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public StoredObject store(String key, Path source, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        return new StoredObject(target.toUri().toString(), Files.size(target), Map.of());
+    }
+
+    @Override
+    public Optional<Resource> open(String key) {
+        Path target = resolve(key);
+        return Files.isRegularFile(target) ? Optional.of(new FileSystemResource(target)) : Optional.empty();
+    }
+
+    @Override
+    public void delete(String key, String contentType) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path root = properties.getLocal().getRoot().toAbsolutePath().normalize();
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root)) {
+            throw new IllegalArgumentException("Storage key escapes the storage root: " + key);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.backend.perf;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Closed-loop load: each client sends one request, waits for the response, then picks the next endpoint
+ * by weight. Latencies are recorded per endpoint after the warm-up, with ids drawn from the seeded data.
+ */
+@Slf4j
+class LoadDriver {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final LoadTestConfig config;
+    private final HttpClient http;
+    private final String baseUrl;
+    private final String token;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private int totalWeight;
+
+    LoadDriver(LoadTestConfig config, HttpClient http, String baseUrl, String token) {
+        this.config = config;
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.token = token;
+    }
+
+    /**
+     * @param path builds the request path (with query) for one call
+     */
+    LoadDriver endpoint(String name, int weight, Function<ThreadLocalRandom, String> path) {
+        endpoints.add(new Endpoint(name, weight, path));
+        totalWeight += weight;
+        return this;
+    }
+
+    static <T> T pick(List<T> values, ThreadLocalRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    static LocalDate randomDate(ThreadLocalRandom random, int pastDays) {
+        return LocalDate.now().minusDays(random.nextInt(pastDays));
+    }
+
+    Map<String, LoadReport.EndpointResult> run() {
+        long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+        long end = warmupEnd + config.duration().toNanos();
+        log.info("Driving {} endpoints with {} clients: {} s warm-up, {} s measured",
+            endpoints.size(), config.clients(), config.warmup().toSeconds(), config.duration().toSeconds());
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < config.clients(); c++) {
+                clients.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        Endpoint endpoint = next(random);
+                        endpoint.call(random, now >= warmupEnd);
+                    }
+                });
+            }
+        }
+
+        double seconds = config.duration().toNanos() / 1e9;
+        Map<String, LoadReport.EndpointResult> results = new LinkedHashMap<>();
+        for (Endpoint endpoint : endpoints) {
+            results.put(endpoint.name, LoadReport.EndpointResult.of(endpoint.latencies, endpoint.errors.get(), seconds));
+        }
+        return results;
+    }
+
+    private Endpoint next(ThreadLocalRandom random) {
+        int r = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            r -= endpoint.weight;
+            if (r < 0) return endpoint;
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private final class Endpoint {
+
+        private final String name;
+        private final int weight;
+        private final Function<ThreadLocalRandom, String> path;
+        private final Histogram latencies = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        private Endpoint(String name, int weight, Function<ThreadLocalRandom, String> path) {
+            this.name = name;
+            this.weight = weight;
+            this.path = path;
+        }
+
+        void call(ThreadLocalRandom random, boolean measured) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path.apply(random)))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofNanos(MAX_LATENCY_NANOS))
+                .GET()
+                .build();
+            long start = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long elapsed = System.nanoTime() - start;
+            if (!measured) return;
+            if (ok) {
+                latencies.recordValue(Math.min(elapsed, MAX_LATENCY_NANOS));
+            } else {
+                errors.incrementAndGet();
+            }
+        }
+    }
+}
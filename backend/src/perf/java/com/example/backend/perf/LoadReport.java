@@ -0,0 +1,48 @@
+package com.example.backend.perf;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+/**
+ * Machine-readable load test result, written as JSON with endpoints in a fixed order so two
+ * reports can be diffed directly. Latencies are in milliseconds, throughput in requests per second.
+ */
+record LoadReport(
+    String label,
+    OffsetDateTime finishedAt,
+    Volumes volumes,
+    int clients,
+    long durationSeconds,
+    Map<String, EndpointResult> endpoints
+) {
+
+    record Volumes(long patients, long staff, long scheduleEvents, long serviceDeliveries, long gpsPoints) {
+    }
+
+    record EndpointResult(long requests, long errors, double throughput,
+                          double p50, double p95, double p99, double max, double mean) {
+
+        static EndpointResult of(Histogram latencies, long errors, double seconds) {
+            return new EndpointResult(
+                latencies.getTotalCount(),
+                errors,
+                round(latencies.getTotalCount() / seconds),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(95)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getMaxValue()),
+                round(latencies.getMean() / 1e6)
+            );
+        }
+
+        private static double millis(long nanos) {
+            return round(nanos / 1e6);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.backend.perf;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Load test settings, read from PERF_* environment variables (or the matching perf.* system property).
+ * Volume defaults follow a large agency; shrink them for a quick local run.
+ */
+record LoadTestConfig(
+    String baseUrl,
+    boolean seed,
+    int seedThreads,
+    int patients,
+    int staff,
+    long scheduleEvents,
+    long gpsPoints,
+    int eventWindowDays,
+    int clients,
+    Duration warmup,
+    Duration duration,
+    String username,
+    String password,
+    String label,
+    Path report
+) {
+
+    static LoadTestConfig fromEnvironment() {
+        return new LoadTestConfig(
+            get("BASE_URL", ""),
+            Boolean.parseBoolean(get("SEED", "true")),
+            Integer.parseInt(get("SEED_THREADS", "4")),
+            Integer.parseInt(get("PATIENTS", "50000")),
+            Integer.parseInt(get("STAFF", "2000")),
+            Long.parseLong(get("SCHEDULE_EVENTS", "5000000")),
+            Long.parseLong(get("GPS_POINTS", "20000000")),
+            Integer.parseInt(get("EVENT_WINDOW_DAYS", "365")),
+            Integer.parseInt(get("CLIENTS", "32")),
+            Duration.ofSeconds(Long.parseLong(get("WARMUP_SECONDS", "30"))),
+            Duration.ofSeconds(Long.parseLong(get("DURATION_SECONDS", "120"))),
+            get("USER", "admin1@blueangelscare.com"),
+            get("PASSWORD", "password123"),
+            get("LABEL", "local"),
+            Path.of(get("REPORT", "target/perf-report.json"))
+        );
+    }
+
+    private static String get(String name, String defaultValue) {
+        String value = System.getProperty("perf." + name.toLowerCase().replace('_', '-'));
+        if (value == null || value.isBlank()) {
+            value = System.getenv("PERF_" + name);
+        }
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
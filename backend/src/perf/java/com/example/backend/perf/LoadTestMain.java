@@ -0,0 +1,159 @@
+package com.example.backend.perf;
+
+import com.example.backend.BackendApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+import static com.example.backend.perf.LoadDriver.pick;
+import static com.example.backend.perf.LoadDriver.randomDate;
+
+/**
+ * Load test entry point: mvn -Pperf -DskipTests verify (needs DATABASE_URL and friends, see LoadTestConfig).
+ * <p>
+ * Boots the application in-process on a random port unless PERF_BASE_URL points at a running instance,
+ * seeds the configured volumes, logs in, drives the main read endpoints and writes the report
+ * (target/perf-report.json by default). Keep one report per build and diff them.
+ */
+@Slf4j
+public final class LoadTestMain {
+
+    private static final int SAMPLE_IDS = 1000;
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromEnvironment();
+        ConfigurableApplicationContext app = null;
+        String baseUrl = config.baseUrl();
+        if (baseUrl.isBlank()) {
+            app = SpringApplication.run(BackendApplication.class, "--server.port=0");
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+        }
+
+        try {
+            if (config.seed()) {
+                new VolumeSeeder(config).seed();
+            }
+
+            List<UUID> patients;
+            List<UUID> staff;
+            List<UUID> deliveries;
+            LoadReport.Volumes volumes;
+            try (Connection connection = VolumeSeeder.connect()) {
+                patients = VolumeSeeder.ids(connection, "SELECT id FROM patient WHERE client_id LIKE '" + VolumeSeeder.PREFIX
+                    + "%' ORDER BY random() LIMIT " + SAMPLE_IDS);
+                staff = VolumeSeeder.ids(connection, "SELECT id FROM staff WHERE employee_id LIKE '" + VolumeSeeder.PREFIX
+                    + "%' ORDER BY random() LIMIT " + SAMPLE_IDS);
+                deliveries = VolumeSeeder.ids(connection, "SELECT id FROM service_delivery TABLESAMPLE SYSTEM (1) LIMIT " + SAMPLE_IDS);
+                volumes = new LoadReport.Volumes(rows(connection, "patient"), rows(connection, "staff"),
+                    rows(connection, "schedule_event"), rows(connection, "service_delivery"), rows(connection, "location_tracking"));
+            }
+            if (patients.isEmpty() || staff.isEmpty() || deliveries.isEmpty()) {
+                throw new IllegalStateException("No load test data found; run with PERF_SEED=true");
+            }
+
+            ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT);
+            HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+            String token = login(http, objectMapper, baseUrl, config);
+
+            Map<String, LoadReport.EndpointResult> results = new LoadDriver(config, http, baseUrl, token)
+                .endpoint("GET /api/patients", 15, random ->
+                    "/api/patients?page=" + random.nextInt(50) + "&size=20")
+                .endpoint("GET /api/patients?search", 10, random ->
+                    "/api/patients?size=20&search=Smith" + random.nextInt(1000))
+                .endpoint("GET /api/patients/{id}/header", 10, random ->
+                    "/api/patients/" + pick(patients, random) + "/header")
+                .endpoint("GET /api/patients/{id}/schedule/events", 15, random -> {
+                    LocalDate from = randomDate(random, 300);
+                    return "/api/patients/" + pick(patients, random) + "/schedule/events?from=" + from + "&to=" + from.plusDays(30);
+                })
+                .endpoint("GET /api/staff", 5, random ->
+                    "/api/staff?page=" + random.nextInt(20) + "&size=20")
+                .endpoint("GET /api/staff/{id}/schedule/events", 15, random -> {
+                    LocalDate from = randomDate(random, 300);
+                    return "/api/staff/" + pick(staff, random) + "/schedule/events?from=" + from + "&to=" + from.plusDays(7) + "&size=25";
+                })
+                .endpoint("GET /api/schedules", 15, random -> {
+                    LocalDate from = randomDate(random, 300);
+                    return "/api/schedules?from=" + from + "&to=" + from.plusDays(7) + "&page=" + random.nextInt(10) + "&size=25";
+                })
+                .endpoint("GET /api/service-delivery/{id}", 10, random ->
+                    "/api/service-delivery/" + pick(deliveries, random))
+                .endpoint("GET /api/location-tracking/journey/{id}", 5, random ->
+                    "/api/location-tracking/journey/" + pick(deliveries, random))
+                .run();
+
+            LoadReport report = new LoadReport(config.label(), OffsetDateTime.now(), volumes, config.clients(),
+                config.duration().toSeconds(), results);
+            if (config.report().getParent() != null) {
+                Files.createDirectories(config.report().getParent());
+            }
+            objectMapper.writeValue(config.report().toFile(), report);
+            results.forEach((name, result) -> log.info("{}: {} req, {} err, {}/s, p50 {} ms, p95 {} ms, p99 {} ms",
+                name, result.requests(), result.errors(), result.throughput(), result.p50(), result.p95(), result.p99()));
+            log.info("Load test report written to {}", config.report().toAbsolutePath());
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private static String login(HttpClient http, ObjectMapper objectMapper, String baseUrl, LoadTestConfig config) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("email", config.username(), "password", config.password()));
+        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login as " + config.username() + " failed: HTTP " + response.statusCode());
+        }
+        JsonNode token = objectMapper.readTree(response.body()).path("data").path("token");
+        if (token.isMissingNode() || token.asText().isBlank()) {
+            throw new IllegalStateException("Login response has no token");
+        }
+        return token.asText();
+    }
+
+    /**
+     * Planner row estimate, exact enough for the report after the seeder's ANALYZE
+     */
+    private static long rows(Connection connection, String table) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT reltuples::bigint FROM pg_class WHERE relname = ?")) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? Math.max(0, rs.getLong(1)) : 0;
+            }
+        }
+    }
+}
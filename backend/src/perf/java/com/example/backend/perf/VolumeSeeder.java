@@ -0,0 +1,336 @@
+package com.example.backend.perf;
+
+import com.example.backend.util.UuidV7;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seeds load test volumes on top of the regular DataLoader data (offices, payers, service types, users)
+ * with JDBC batches the same way BulkInsertService does, split across worker connections by patient range.
+ * Rows are tagged with a PERF- prefix on their business keys so a second run can tell they are there.
+ * <p>
+ * Every patient gets one payer, service and authorization, and an equal share of the schedule events spread
+ * over the event window (ending 30 days ahead). Past events are COMPLETED with a service delivery carrying an
+ * equal share of the GPS points.
+ */
+@Slf4j
+class VolumeSeeder {
+
+    static final String PREFIX = "PERF-";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_PENDING_ROWS = 50_000;
+    private static final int PATIENTS_PER_TRANSACTION = 200;
+    private static final int FUTURE_DAYS = 30;
+
+    private final LoadTestConfig config;
+
+    VolumeSeeder(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    static Connection connect() throws SQLException {
+        String url = System.getenv("DATABASE_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("DATABASE_URL is not set");
+        }
+        Properties props = new Properties();
+        props.setProperty("user", System.getenv().getOrDefault("DATABASE_USERNAME", ""));
+        props.setProperty("password", System.getenv().getOrDefault("DATABASE_PASSWORD", ""));
+        props.setProperty("reWriteBatchedInserts", "true");
+        return DriverManager.getConnection(url, props);
+    }
+
+    void seed() throws Exception {
+        List<UUID> offices;
+        List<UUID> payers;
+        List<UUID> serviceTypes;
+        try (Connection connection = connect()) {
+            if (count(connection, "SELECT count(*) FROM patient WHERE client_id LIKE '" + PREFIX + "%'") > 0) {
+                log.info("Load test data already present, skipping seeding (set PERF_SEED=false to skip this check)");
+                return;
+            }
+            offices = ids(connection, "SELECT id FROM office WHERE deleted_at IS NULL ORDER BY code");
+            payers = ids(connection, "SELECT id FROM payer ORDER BY payer_identifier");
+            serviceTypes = ids(connection, "SELECT id FROM service_type ORDER BY code");
+        }
+        if (offices.isEmpty() || payers.isEmpty() || serviceTypes.isEmpty()) {
+            throw new IllegalStateException("Offices, payers and service types must exist; start the application once to run DataLoader");
+        }
+
+        long start = System.currentTimeMillis();
+        UUID[] staff = new UUID[config.staff()];
+        UUID[] staffOffices = new UUID[config.staff()];
+        for (int i = 0; i < staff.length; i++) {
+            staff[i] = UuidV7.generate();
+            staffOffices[i] = offices.get(i % offices.size());
+        }
+        try (Connection connection = connect()) {
+            insertStaff(connection, staff, staffOffices);
+        }
+        log.info("Seeded {} staff in {} ms", staff.length, System.currentTimeMillis() - start);
+
+        AtomicLong events = new AtomicLong();
+        AtomicLong gpsPoints = new AtomicLong();
+        ExecutorService workers = Executors.newFixedThreadPool(config.seedThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            int chunk = Math.ceilDiv(config.patients(), config.seedThreads());
+            for (int from = 0; from < config.patients(); from += chunk) {
+                int first = from;
+                int last = Math.min(config.patients(), from + chunk);
+                futures.add(workers.submit(() -> {
+                    try (Connection connection = connect()) {
+                        seedPatients(connection, first, last, offices, payers, serviceTypes, staff, events, gpsPoints);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        try (Connection connection = connect(); Statement st = connection.createStatement()) {
+            for (String table : List.of("patient", "staff", "authorizations", "schedule_event", "service_delivery", "location_tracking")) {
+                st.execute("ANALYZE " + table);
+            }
+        }
+        log.info("Seeded {} patients, {} schedule events and {} GPS points in {} s",
+            config.patients(), events.get(), gpsPoints.get(), (System.currentTimeMillis() - start) / 1000);
+    }
+
+    private void insertStaff(Connection connection, UUID[] staff, UUID[] offices) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement("""
+            INSERT INTO staff (
+                id, office_id, employee_id, first_name, last_name, is_supervisor, supervisor_id, is_active,
+                hire_date, custom_fields, created_at, updated_at
+            ) VALUES (?, ?, ?, ?, ?, ?, ?, true, ?, '{}'::jsonb, NOW(), NOW())
+            """)) {
+            for (int i = 0; i < staff.length; i++) {
+                boolean supervisor = i % 20 == 0;
+                ps.setObject(1, staff[i]);
+                ps.setObject(2, offices[i]);
+                ps.setString(3, PREFIX + "S" + String.format("%06d", i));
+                ps.setString(4, "Staff" + i);
+                ps.setString(5, lastName(i));
+                ps.setBoolean(6, supervisor);
+                ps.setObject(7, supervisor ? null : staff[supervisorOf(i)]);
+                ps.setObject(8, LocalDate.now().minusDays(30 + i % 2000));
+                ps.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) ps.executeBatch();
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private void seedPatients(Connection connection, int first, int last, List<UUID> offices, List<UUID> payers,
+                              List<UUID> serviceTypes, UUID[] staff, AtomicLong eventCount, AtomicLong gpsCount)
+        throws SQLException {
+        connection.setAutoCommit(false);
+        SplittableRandom random = new SplittableRandom(first);
+        long eventsPerPatient = Math.max(1, config.scheduleEvents() / config.patients());
+        LocalDate windowEnd = LocalDate.now().plusDays(FUTURE_DAYS);
+        LocalDate windowStart = windowEnd.minusDays(config.eventWindowDays());
+        long pastEvents = eventsPerPatient * (config.eventWindowDays() - FUTURE_DAYS) / config.eventWindowDays();
+        long gpsPerDelivery = pastEvents == 0 ? 0 : config.gpsPoints() / (pastEvents * config.patients());
+
+        try (Batch patients = new Batch(connection, """
+                INSERT INTO patient (
+                    id, first_name, last_name, dob, gender, client_id, status, office_id, supervisor_id,
+                    medical_profile, created_at, updated_at
+                ) VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', ?, ?, '{}'::jsonb, NOW(), NOW())
+                """);
+             Batch patientPayers = new Batch(connection, """
+                INSERT INTO patient_payer (id, patient_id, payer_id, client_payer_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?, NOW(), NOW())
+                """);
+             Batch patientServices = new Batch(connection, """
+                INSERT INTO patient_service (id, patient_id, service_type_id, start_date, created_at, updated_at)
+                VALUES (?, ?, ?, ?, NOW(), NOW())
+                """);
+             Batch authorizations = new Batch(connection, """
+                INSERT INTO authorizations (
+                    id, patient_payer_id, patient_id, patient_service_id, authorization_no,
+                    max_units, start_date, end_date, created_at, updated_at
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW())
+                """);
+             Batch events = new Batch(connection, """
+                INSERT INTO schedule_event (
+                    id, office_id, patient_id, staff_id, authorization_id, event_date, start_at, end_at,
+                    event_code, status, planned_units, actual_units, unit_summary, created_at, updated_at
+                ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'REG', ?, ?, ?, '{}'::jsonb, NOW(), NOW())
+                """);
+             Batch deliveries = new Batch(connection, """
+                INSERT INTO service_delivery (
+                    id, schedule_event_id, authorization_id, start_at, end_at, units, status, approval_status,
+                    total_hours, cancelled, tracking_enabled, is_unscheduled, actual_staff_id, created_at, updated_at
+                ) VALUES (?, ?, ?, ?, ?, ?, 'COMPLETED', 'approved', ?, false, true, false, ?, NOW(), NOW())
+                """);
+             Batch gps = new Batch(connection, """
+                INSERT INTO location_tracking (
+                    id, service_delivery_id, latitude, longitude, accuracy, recorded_at, created_at
+                ) VALUES (?, ?, ?, ?, ?, ?, ?)
+                """)) {
+
+            for (int p = first; p < last; p++) {
+                UUID office = offices.get(p % offices.size());
+                UUID patientId = UuidV7.generate();
+                UUID patientPayerId = UuidV7.generate();
+                UUID patientServiceId = UuidV7.generate();
+                UUID authorizationId = UuidV7.generate();
+                UUID primaryStaff = staff[random.nextInt(staff.length)];
+
+                patients.add(patientId, "Patient" + p, lastName(p), LocalDate.of(1950, 1, 1).plusDays(p % 20000),
+                    p % 2 == 0 ? "Female" : "Male", PREFIX + String.format("%08d", p), office, staff[supervisorOf(p % staff.length)]);
+                patientPayers.add(patientPayerId, patientId, payers.get(p % payers.size()), PREFIX + "CP" + p);
+                patientServices.add(patientServiceId, patientId, serviceTypes.get(p % serviceTypes.size()), windowStart);
+                authorizations.add(authorizationId, patientPayerId, patientId, patientServiceId, PREFIX + "A" + p,
+                    BigDecimal.valueOf(eventsPerPatient * 16), windowStart, windowEnd);
+
+                double latitude = 39.9 + random.nextDouble() * 0.2;
+                double longitude = -75.3 + random.nextDouble() * 0.2;
+                for (long k = 0; k < eventsPerPatient; k++) {
+                    LocalDate date = windowStart.plusDays(k * config.eventWindowDays() / eventsPerPatient);
+                    OffsetDateTime startAt = date.atTime(7 + (int) (k % 3) * 4, 0).atOffset(ZoneOffset.UTC);
+                    OffsetDateTime endAt = startAt.plusHours(4);
+                    boolean past = date.isBefore(LocalDate.now());
+                    UUID eventId = UuidV7.generate();
+                    UUID eventStaff = k % 4 == 0 ? staff[random.nextInt(staff.length)] : primaryStaff;
+                    events.add(eventId, office, patientId, eventStaff, authorizationId, date, startAt, endAt,
+                        past ? "COMPLETED" : "PLANNED", 16, past ? 16 : null);
+                    eventCount.incrementAndGet();
+                    if (!past) continue;
+
+                    UUID deliveryId = UuidV7.generate();
+                    deliveries.add(deliveryId, eventId, authorizationId, Timestamp.valueOf(startAt.toLocalDateTime()),
+                        Timestamp.valueOf(endAt.toLocalDateTime()), 16, 4.0, eventStaff);
+                    for (long g = 0; g < gpsPerDelivery; g++) {
+                        OffsetDateTime recordedAt = startAt.plusSeconds(g * 14400 / gpsPerDelivery);
+                        gps.add(UuidV7.fromTimestamp(recordedAt.toInstant().toEpochMilli()), deliveryId,
+                            coordinate(latitude + random.nextDouble(-0.001, 0.001)),
+                            coordinate(longitude + random.nextDouble(-0.001, 0.001)),
+                            BigDecimal.valueOf(random.nextInt(300, 3000), 2), recordedAt, recordedAt);
+                    }
+                    gpsCount.addAndGet(gpsPerDelivery);
+                }
+
+                boolean commit = (p - first + 1) % PATIENTS_PER_TRANSACTION == 0;
+                if (commit || events.pending() + gps.pending() > MAX_PENDING_ROWS) {
+                    flush(patients, patientPayers, patientServices, authorizations, events, deliveries, gps);
+                }
+                if (commit) {
+                    connection.commit();
+                    log.info("Seeded patients {}..{} ({} schedule events so far)", first, p, eventCount.get());
+                }
+            }
+            flush(patients, patientPayers, patientServices, authorizations, events, deliveries, gps);
+            connection.commit();
+        }
+    }
+
+    /**
+     * Flush in the given order, parents before children, so the foreign keys hold
+     */
+    private static void flush(Batch... batches) throws SQLException {
+        for (Batch batch : batches) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Every 20th staff member is a supervisor for the next 19
+     */
+    private static int supervisorOf(int staffIndex) {
+        return staffIndex - staffIndex % 20;
+    }
+
+    private static BigDecimal coordinate(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_UP);
+    }
+
+    private static String lastName(int i) {
+        String[] names = {"Smith", "Johnson", "Williams", "Brown", "Jones", "Miller", "Davis", "Garcia", "Wilson", "Moore"};
+        return names[i % names.length] + (i / names.length);
+    }
+
+    static List<UUID> ids(Connection connection, String sql) throws SQLException {
+        List<UUID> ids = new ArrayList<>();
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            while (rs.next()) {
+                ids.add(rs.getObject(1, UUID.class));
+            }
+        }
+        return ids;
+    }
+
+    private static long count(Connection connection, String sql) throws SQLException {
+        try (Statement st = connection.createStatement(); ResultSet rs = st.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Prepared insert whose rows are queued until flush(), so callers control the parent/child order.
+     * The driver rewrites each executed batch into multi-row INSERTs.
+     */
+    private static final class Batch implements AutoCloseable {
+
+        private final PreparedStatement statement;
+        private int pending;
+
+        Batch(Connection connection, String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            pending++;
+        }
+
+        int pending() {
+            return pending;
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.backend.model.dto.schedule.ScheduleEventDTO;
+import com.example.backend.model.entity.AppUser;
+import com.example.backend.repository.AppUserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Statement counts of the heaviest read paths with a cold and a warm second-level cache.
+ * Needs a seeded database (DATABASE_URL); each scenario clears the cache regions, runs once cold,
+ * then again warm, and expects the warm run to skip the reference entity loads.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "app.cache.reference-data.warm-up=false"
+})
+@EnabledIfEnvironmentVariable(named = "DATABASE_URL", matches = ".+")
+class ReferenceEntityCacheStatementCountTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private ScheduleService scheduleService;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void loadUserByUsername_roleComesFromSecondLevelCache() {
+        List<AppUser> users = appUserRepository.findAll(PageRequest.of(0, 1)).getContent();
+        assumeTrue(!users.isEmpty(), "No users seeded");
+        String email = users.get(0).getEmail();
+        sessionFactory.getCache().evictAllRegions();
+
+        long cold = countStatements(() -> userDetailsService.loadUserByUsername(email));
+        long warm = countStatements(() -> userDetailsService.loadUserByUsername(email));
+
+        assertEquals(1, warm, "Only the user lookup should reach the database");
+        assertTrue(warm < cold, "warm=" + warm + " should be below cold=" + cold);
+    }
+
+    @Test
+    void getAllScheduleEvents_serviceTypesComeFromSecondLevelCache() {
+        LocalDate from = LocalDate.now().withDayOfMonth(1);
+        LocalDate to = from.plusMonths(1).minusDays(1);
+        Runnable page = () -> {
+            Page<ScheduleEventDTO> events = scheduleService.getAllScheduleEvents(
+                from, to, null, null, null, null, 0, 50, "eventDate", "asc");
+            assumeTrue(events.hasContent(), "No schedule events in the current month");
+        };
+
+        long cold = countStatements(page);
+        long coldMisses = statistics.getSecondLevelCacheMissCount();
+        long warm = countStatements(page);
+        long warmHits = statistics.getSecondLevelCacheHitCount();
+
+        assertTrue(warm <= cold, "warm=" + warm + " should not exceed cold=" + cold);
+        if (coldMisses > 0) {
+            assertTrue(warmHits > 0, "Reference entities loaded cold should be served from the cache when warm");
+            assertTrue(warm < cold, "warm=" + warm + " should be below cold=" + cold);
+        }
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.backend.service.payroll;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.config.properties.PayrollProperties;
+
+/**
+ * Unit tests for WeeklyOvertimeRule, DailyOvertimeRule and their combination
+ */
+class OvertimeRuleTest {
+
+    // Sunday, the default start of the workweek
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 1, 5);
+
+    private final PayrollProperties properties = new PayrollProperties();
+    private final OvertimeRule weekly = new WeeklyOvertimeRule(properties);
+    private final OvertimeRule daily = new DailyOvertimeRule(properties);
+
+    @Test
+    void testWeekly_OvertimeBeyondFortyHours() {
+        OvertimeRule.Tracker tracker = weekly.newTracker();
+        double overtime = 0;
+        for (int i = 1; i <= 5; i++) {
+            overtime += tracker.record(SUNDAY.plusDays(i), 10);
+        }
+        assertEquals(10, overtime, 0.001);
+    }
+
+    @Test
+    void testWeekly_NewWorkweekStartsFromZero() {
+        OvertimeRule.Tracker tracker = weekly.newTracker();
+        for (int i = 1; i <= 4; i++) {
+            tracker.record(SUNDAY.plusDays(i), 10);
+        }
+        // Next Sunday starts a new workweek
+        assertEquals(0, tracker.record(SUNDAY.plusDays(7), 10), 0.001);
+    }
+
+    @Test
+    void testDaily_OvertimeBeyondEightHours() {
+        OvertimeRule.Tracker tracker = daily.newTracker();
+        assertEquals(2, tracker.record(SUNDAY, 10), 0.001);
+        // Two visits on one day count together
+        assertEquals(0, tracker.record(SUNDAY.plusDays(1), 5), 0.001);
+        assertEquals(2, tracker.record(SUNDAY.plusDays(1), 5), 0.001);
+    }
+
+    @Test
+    void testCombined_NoPyramiding() {
+        // Four 10 hour days and one 8 hour day: 8h daily overtime, the remaining 40h are not weekly overtime
+        OvertimeRule.Tracker tracker = OvertimeRule.combine(List.of(weekly, daily));
+        double overtime = 0;
+        for (int i = 1; i <= 4; i++) {
+            overtime += tracker.record(SUNDAY.plusDays(i), 10);
+        }
+        overtime += tracker.record(SUNDAY.plusDays(5), 8);
+        assertEquals(8, overtime, 0.001);
+    }
+
+    @Test
+    void testCombined_WeeklyCountsOnlyRegularHours() {
+        // Six 10 hour days: 12h daily overtime, and 48 regular hours of which 8 are weekly overtime
+        OvertimeRule.Tracker tracker = OvertimeRule.combine(List.of(daily, weekly));
+        double overtime = 0;
+        for (int i = 1; i <= 5; i++) {
+            overtime += tracker.record(SUNDAY.plusDays(i), 10);
+        }
+        assertEquals(10, overtime, 0.001);
+        assertEquals(10, tracker.record(SUNDAY.plusDays(6), 10), 0.001);
+    }
+
+    @Test
+    void testCombined_RuleOrderDoesNotMatter() {
+        OvertimeRule.Tracker weeklyFirst = OvertimeRule.combine(List.of(weekly, daily));
+        OvertimeRule.Tracker dailyFirst = OvertimeRule.combine(List.of(daily, weekly));
+        for (int i = 0; i < 7; i++) {
+            assertEquals(dailyFirst.record(SUNDAY.plusDays(i), 9), weeklyFirst.record(SUNDAY.plusDays(i), 9), 0.001);
+        }
+    }
+
+    @Test
+    void testWeekly_WorkweekSpanningTwoPeriods() {
+        // A period starting on Wednesday: Sunday to Tuesday were paid with the previous period
+        LocalDate periodStart = SUNDAY.plusDays(3);
+
+        OvertimeRule.Tracker carried = weekly.newTracker();
+        for (LocalDate day = SUNDAY; day.isBefore(periodStart); day = day.plusDays(1)) {
+            carried.record(day, 10);
+        }
+        assertEquals(0, carried.record(periodStart, 10), 0.001);
+        assertEquals(10, carried.record(periodStart.plusDays(1), 10), 0.001);
+
+        // Without the earlier days the same week shows no overtime
+        OvertimeRule.Tracker fresh = weekly.newTracker();
+        assertEquals(0, fresh.record(periodStart, 10), 0.001);
+        assertEquals(0, fresh.record(periodStart.plusDays(1), 10), 0.001);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.backend.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for UuidV7
+ */
+class UuidV7Test {
+
+    private static final long NOW = 1_735_689_600_000L; // 2025-01-01T00:00:00Z
+
+    private final AtomicLong last = new AtomicLong();
+
+    @Test
+    void testGenerate_VersionAndTimestamp() {
+        UUID id = UuidV7.generate(last, NOW);
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(NOW, UuidV7.timestamp(id));
+    }
+
+    @Test
+    void testGenerate_OrderedWithinMillisecond() {
+        UUID previous = UuidV7.generate(last, NOW);
+        for (int i = 0; i < 1000; i++) {
+            UUID next = UuidV7.generate(last, NOW);
+            assertTrue(next.compareTo(previous) > 0, "id " + i + " not after the previous one");
+            previous = next;
+        }
+        assertEquals(NOW, UuidV7.timestamp(previous));
+    }
+
+    @Test
+    void testGenerate_CounterOverflowCarriesIntoTimestamp() {
+        // Last id used the highest counter value of its millisecond
+        last.set(NOW << 12 | 0xFFF);
+        UUID previous = new UUID(NOW << 16 | 0x7FFF, 0);
+
+        UUID next = UuidV7.generate(last, NOW);
+        assertTrue(next.compareTo(previous) > 0);
+        assertEquals(NOW + 1, UuidV7.timestamp(next));
+        assertEquals(0, next.getMostSignificantBits() & 0xFFF);
+    }
+
+    @Test
+    void testGenerate_OrderedAcrossManyOverflows() {
+        // More ids than one millisecond's counter holds, with the clock standing still
+        UUID previous = UuidV7.generate(last, NOW);
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = UuidV7.generate(last, NOW);
+            assertTrue(next.compareTo(previous) > 0, "id " + i + " not after the previous one");
+            previous = next;
+        }
+        assertTrue(UuidV7.timestamp(previous) > NOW);
+
+        // The clock catching up with the carried timestamp keeps the order
+        UUID caughtUp = UuidV7.generate(last, UuidV7.timestamp(previous));
+        assertTrue(caughtUp.compareTo(previous) > 0);
+    }
+
+    @Test
+    void testGenerate_ClockSteppingBack() {
+        UUID before = UuidV7.generate(last, NOW);
+        UUID afterStepBack = UuidV7.generate(last, NOW - 5_000);
+        assertTrue(afterStepBack.compareTo(before) > 0);
+        // The timestamp does not go back with the clock
+        assertEquals(NOW, UuidV7.timestamp(afterStepBack));
+
+        // Once the clock passes the last timestamp again, ids follow it
+        UUID later = UuidV7.generate(last, NOW + 10);
+        assertTrue(later.compareTo(afterStepBack) > 0);
+        assertEquals(NOW + 10, UuidV7.timestamp(later));
+    }
+
+    @Test
+    void testFromTimestamp_KeepsTimestamp() {
+        UUID id = UuidV7.fromTimestamp(NOW);
+        assertEquals(7, id.version());
+        assertEquals(NOW, UuidV7.timestamp(id));
+    }
+}
@@ -1,5 +1,20 @@
 CREATE EXTENSION IF NOT EXISTS "pgcrypto";
 
+-- Time-ordered UUIDv7 (48-bit ms timestamp + random) for rows inserted by SQL on high-volume tables.
+-- The application assigns its own monotonic v7 ids (@UuidV7Id); this is only the column default.
+-- Existing databases: create the function, then
+--   ALTER TABLE <table> ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+-- for schedule_event, service_delivery, check_event and audit_log. Existing ids are kept as they are.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS uuid AS $$
+    SELECT encode(
+        set_bit(set_bit(
+            overlay(uuid_send(gen_random_uuid())
+                placing substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+                FROM 1 FOR 6),
+            52, 1), 53, 1),
+        'hex')::uuid;
+$$ LANGUAGE sql VOLATILE;
+
 CREATE TABLE address (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
     line1 text NOT NULL,
@@ -136,6 +151,12 @@ CREATE TABLE user_office (
     CONSTRAINT user_office_unique UNIQUE (user_id, office_id)
 );
 
+-- Schema migrations applied at startup by the backend (SchemaMigrations), for changes ddl-auto cannot make
+CREATE TABLE schema_migration (
+    id text PRIMARY KEY,
+    applied_at timestamptz NOT NULL DEFAULT now()
+);
+
 CREATE TABLE app_setting (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
     key text NOT NULL UNIQUE,
@@ -161,8 +182,17 @@ CREATE TABLE api_key (
     created_by uuid
 );
 
+-- Written in JDBC batches by the application's audit writer (committed Patient / Staff changes as field diffs).
+-- Changes of child rows (addresses, contacts, rates, ...) are recorded against their patient or staff member;
+-- metadata.record / metadata.recordId name the changed row.
+-- Partitioned by UTC month (audit_log_yYYYYmMM). The application creates the current and upcoming partitions at
+-- startup and archives expired ones to gzipped CSV before dropping them (app.audit.partitions); rows outside every
+-- monthly partition land in audit_log_default and are moved out when their month's partition is created.
+-- The primary key has to include the partition key.
+-- Existing databases: the audit-log-partitions migration (SchemaMigrations) converts a plain audit_log,
+-- copying its rows into a partition per month, and creates the indexes below.
 CREATE TABLE audit_log (
-    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    id uuid NOT NULL DEFAULT uuid_generate_v7(),
     office_id uuid REFERENCES office(id) ON DELETE SET NULL,
     user_id uuid REFERENCES app_user(id) ON DELETE SET NULL,
     module_code text NOT NULL,
@@ -173,10 +203,15 @@ CREATE TABLE audit_log (
     after_state jsonb,
     metadata jsonb,
     created_at timestamptz NOT NULL DEFAULT now(),
-    updated_at timestamptz NOT NULL DEFAULT now()
-);
+    updated_at timestamptz NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE audit_log_default PARTITION OF audit_log DEFAULT;
 
 CREATE INDEX idx_audit_log_module ON audit_log (module_code, created_at DESC);
+-- Entity history (keyset pages newest first)
+CREATE INDEX idx_audit_log_entity ON audit_log (entity_name, entity_id, created_at DESC, id DESC);
 
 CREATE TABLE file_object (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
@@ -185,11 +220,16 @@ CREATE TABLE file_object (
     mime_type text NOT NULL,
     size_bytes bigint NOT NULL CHECK (size_bytes >= 0),
     storage_uri text NOT NULL,
-    sha256 text UNIQUE,
+    upload_status text NOT NULL DEFAULT 'stored',  -- 'pending' (background upload running), 'stored', 'failed'
+    sha256 text,  -- content hash, identical uploads of one office share one row
+    ref_count integer NOT NULL DEFAULT 1 CHECK (ref_count > 0),
     meta jsonb NOT NULL DEFAULT '{}'::jsonb,
     created_at timestamptz NOT NULL DEFAULT now(),
     updated_at timestamptz NOT NULL DEFAULT now(),
-    created_by uuid REFERENCES app_user(id) ON DELETE SET NULL
+    created_by uuid REFERENCES app_user(id) ON DELETE SET NULL,
+    -- Deduplication is per office so a shared row never carries another office's filename or uploader.
+    -- Existing databases: the file-object-office-sha256 migration (SchemaMigrations) drops the old UNIQUE (sha256).
+    CONSTRAINT uk_file_object_office_sha256 UNIQUE (office_id, sha256)
 );
 
 CREATE TABLE staff (
@@ -486,6 +526,27 @@ CREATE TABLE authorizations (
 );
 
 CREATE INDEX idx_auth_patient_payer ON authorizations (patient_payer_id, start_date);
+CREATE INDEX idx_auth_updated_at ON authorizations (updated_at);
+
+-- Nightly per-office digest of authorization end dates / balances (expiring auth report, notifications)
+CREATE TABLE authorization_digest (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    authorization_id uuid NOT NULL UNIQUE REFERENCES authorizations(id) ON DELETE CASCADE,
+    office_id uuid NOT NULL REFERENCES office(id) ON DELETE CASCADE,
+    patient_id uuid NOT NULL REFERENCES patient(id) ON DELETE CASCADE,
+    end_date date,
+    max_units numeric(10,2),
+    total_remaining numeric(10,2),
+    low_remaining boolean NOT NULL DEFAULT false,
+    source_updated_at timestamptz,
+    computed_at timestamptz NOT NULL DEFAULT now(),
+    created_at timestamptz NOT NULL DEFAULT now(),
+    updated_at timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_authorization_digest_end_date ON authorization_digest (end_date);
+CREATE INDEX idx_authorization_digest_office_end_date ON authorization_digest (office_id, end_date);
+CREATE INDEX idx_authorization_digest_office_low ON authorization_digest (office_id, low_remaining);
 
 
 CREATE TABLE isp_goal (
@@ -566,7 +627,7 @@ CREATE INDEX idx_schedule_template_event_week ON schedule_template_event (templa
 
 -- Events thực tế (generated hoặc thủ công, per day)
 CREATE TABLE schedule_event (
-    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    id uuid PRIMARY KEY DEFAULT uuid_generate_v7(),
     office_id uuid NOT NULL REFERENCES office(id) ON DELETE CASCADE,
     patient_id uuid NOT NULL REFERENCES patient(id) ON DELETE CASCADE,
     event_date date NOT NULL,
@@ -591,6 +652,7 @@ CREATE TABLE schedule_event (
 CREATE INDEX idx_schedule_event_patient_date ON schedule_event (patient_id, event_date);
 CREATE INDEX idx_schedule_event_staff_date ON schedule_event (staff_id, event_date);
 CREATE INDEX idx_schedule_event_office_date ON schedule_event (office_id, event_date DESC);
+CREATE INDEX idx_schedule_event_staff_updated ON schedule_event (staff_id, updated_at, id);  -- mobile delta sync
 
 
 -- Gán nhân viên cho Events (hỗ trợ multiple nếu cần, nhưng default primary)
@@ -612,7 +674,7 @@ CREATE INDEX idx_event_assignment_event ON event_assignment (schedule_event_id);
 CREATE INDEX idx_event_assignment_staff ON event_assignment (staff_id);
 
 CREATE TABLE service_delivery (
-    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    id uuid PRIMARY KEY DEFAULT uuid_generate_v7(),
     schedule_event_id uuid NOT NULL REFERENCES schedule_event(id) ON DELETE CASCADE,
     authorization_id uuid REFERENCES authorizations(id) ON DELETE SET NULL,
     start_at timestamptz NOT NULL,
@@ -635,6 +697,7 @@ CREATE TABLE service_delivery (
 
 CREATE INDEX idx_service_delivery_schedule_event ON service_delivery (schedule_event_id);
 CREATE INDEX idx_service_delivery_authorization ON service_delivery (authorization_id);
+CREATE INDEX idx_service_delivery_event_updated ON service_delivery (schedule_event_id, updated_at);  -- mobile delta sync
 
 CREATE TABLE daily_note (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
@@ -655,9 +718,6 @@ CREATE TABLE daily_note (
 
     meal_info jsonb NOT NULL DEFAULT '[]'::jsonb,
 
-    patient_signature text,
-    staff_signature text,
-
     cancelled boolean NOT NULL DEFAULT false,
     cancel_reason text,
 
@@ -670,6 +730,18 @@ CREATE INDEX IF NOT EXISTS idx_daily_note_patient ON daily_note (patient_id);
 CREATE INDEX IF NOT EXISTS idx_daily_note_staff ON daily_note (staff_id);
 CREATE INDEX IF NOT EXISTS idx_daily_note_service_delivery ON daily_note (service_delivery_id);
 
+-- Signature pad drawings (base64), kept out of daily_note so note lists do not read them.
+-- patient_signed / staff_signed on daily_note tell whether a drawing exists.
+-- Existing databases: the daily-note-signature migration (SchemaMigrations) copies the drawings out of
+-- daily_note.patient_signature / staff_signature, sets the signed flags and drops the old columns.
+-- VACUUM FULL daily_note afterwards (outside a transaction) gives the space back.
+CREATE TABLE daily_note_signature (
+    daily_note_id uuid PRIMARY KEY REFERENCES daily_note(id) ON DELETE CASCADE,
+    patient_signature text,
+    staff_signature text,
+    updated_at timestamptz NOT NULL DEFAULT now()
+);
+
 CREATE TABLE medication_order (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
     patient_id uuid NOT NULL REFERENCES patient(id) ON DELETE CASCADE,
@@ -752,7 +824,7 @@ CREATE TABLE incident_party (
 CREATE INDEX idx_incident_party_incident ON incident_party (incident_id);
 
 CREATE TABLE check_event (
-    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    id uuid PRIMARY KEY DEFAULT uuid_generate_v7(),
     staff_id uuid NOT NULL REFERENCES staff(id) ON DELETE CASCADE,
     patient_id uuid REFERENCES patient(id) ON DELETE SET NULL,
     schedule_event_id uuid REFERENCES schedule_event(id) ON DELETE SET NULL,
@@ -770,6 +842,33 @@ CREATE TABLE check_event (
 
 CREATE INDEX idx_check_event_staff_time ON check_event (staff_id, occurred_at);
 CREATE INDEX idx_check_event_patient_time ON check_event (patient_id, occurred_at);
+CREATE INDEX idx_check_event_type_time ON check_event (event_type, occurred_at);
+CREATE INDEX idx_check_event_delivery_type ON check_event (service_delivery_id, event_type);
+
+-- Closed pay periods; rows are written once when the period closes and never updated
+CREATE TABLE payroll_period (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    period_start date NOT NULL UNIQUE,
+    period_end date NOT NULL,
+    overtime_rules text NOT NULL,
+    created_at timestamptz NOT NULL DEFAULT now(),
+    updated_at timestamptz NOT NULL DEFAULT now(),
+    CHECK (period_end >= period_start)
+);
+
+CREATE TABLE payroll_hours (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    payroll_period_id uuid NOT NULL REFERENCES payroll_period(id) ON DELETE CASCADE,
+    staff_id uuid NOT NULL REFERENCES staff(id) ON DELETE CASCADE,
+    service_type_id uuid REFERENCES service_type(id) ON DELETE SET NULL,
+    regular_hours numeric(8,2) NOT NULL,
+    overtime_hours numeric(8,2) NOT NULL,
+    created_at timestamptz NOT NULL DEFAULT now(),
+    updated_at timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX idx_payroll_hours_period ON payroll_hours (payroll_period_id);
+CREATE INDEX idx_payroll_hours_staff ON payroll_hours (staff_id);
 
 CREATE TABLE check_exception (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
@@ -816,31 +915,134 @@ CREATE INDEX idx_mobile_session_user ON mobile_session (user_id, started_at DESC
 CREATE TABLE offline_queue (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
     user_id uuid NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
+    operation_id uuid,  -- generated by the device, makes replays no-ops
+    device_id text,
     payload jsonb NOT NULL DEFAULT '{}'::jsonb,
     operation_type text NOT NULL,
     sync_status text NOT NULL DEFAULT 'pending',
     created_at timestamptz NOT NULL DEFAULT now(),
     updated_at timestamptz NOT NULL DEFAULT now(),
     synced_at timestamptz,
-    error_message text
+    error_message text,
+    result_id uuid,
+    CONSTRAINT uk_offline_queue_user_operation UNIQUE (user_id, operation_id)
 );
 
 CREATE INDEX idx_offline_queue_user ON offline_queue (user_id, sync_status);
 
+-- Responses of write requests sent with an Idempotency-Key header, replayed on retries until expires_at
+CREATE TABLE idempotency_key (
+    key_hash varchar(64) PRIMARY KEY,  -- sha256 of user, method, path and client key
+    request_hash varchar(64) NOT NULL,
+    status text NOT NULL,  -- in_progress, completed
+    response_status integer,
+    response_content_type text,
+    response_body bytea,
+    created_at timestamptz NOT NULL,
+    expires_at timestamptz NOT NULL
+);
+
+CREATE INDEX idx_idempotency_key_expires ON idempotency_key (expires_at);
+
+-- Rows that left a DSP's mobile delta sync scope (deleted, or reassigned to another staff).
+-- Filled by the triggers below so cascades and bulk statements are covered; purged after app.sync.delta.tombstone-retention.
+-- Existing databases: run this table, index, functions and triggers (the sync-tombstone-patient migration in
+-- SchemaMigrations brings an older sync_tombstone_schedule_event() up to date), plus
+--   CREATE INDEX idx_schedule_event_staff_updated ON schedule_event (staff_id, updated_at, id);
+--   CREATE INDEX idx_service_delivery_event_updated ON service_delivery (schedule_event_id, updated_at);
+CREATE TABLE sync_tombstone (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    entity_type text NOT NULL,  -- schedule_event, service_delivery, patient
+    entity_id uuid NOT NULL,
+    staff_id uuid NOT NULL,  -- staff the row disappeared for
+    deleted_at timestamptz NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX idx_sync_tombstone_staff ON sync_tombstone (staff_id, entity_type, deleted_at);
+
+CREATE OR REPLACE FUNCTION sync_tombstone_schedule_event() RETURNS trigger AS $$
+BEGIN
+    IF OLD.staff_id IS NOT NULL AND (TG_OP = 'DELETE' OR NEW.staff_id IS DISTINCT FROM OLD.staff_id) THEN
+        INSERT INTO sync_tombstone (entity_type, entity_id, staff_id)
+        VALUES ('schedule_event', OLD.id, OLD.staff_id);
+        INSERT INTO sync_tombstone (entity_type, entity_id, staff_id)
+        SELECT 'service_delivery', sd.id, OLD.staff_id FROM service_delivery sd WHERE sd.schedule_event_id = OLD.id;
+        -- Candidate only: the sync drops it while the patient has another in-scope event with the staff
+        IF OLD.patient_id IS NOT NULL THEN
+            INSERT INTO sync_tombstone (entity_type, entity_id, staff_id)
+            VALUES ('patient', OLD.patient_id, OLD.staff_id);
+        END IF;
+    END IF;
+    IF TG_OP = 'DELETE' THEN
+        RETURN OLD;
+    END IF;
+    IF NEW.staff_id IS DISTINCT FROM OLD.staff_id THEN
+        -- Reassigned: the event and its visits show up in the new staff's delta
+        NEW.updated_at := clock_timestamp();
+        UPDATE service_delivery SET updated_at = clock_timestamp() WHERE schedule_event_id = OLD.id;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_schedule_event_sync_tombstone
+    BEFORE DELETE OR UPDATE OF staff_id ON schedule_event
+    FOR EACH ROW EXECUTE FUNCTION sync_tombstone_schedule_event();
+
+CREATE OR REPLACE FUNCTION sync_tombstone_service_delivery() RETURNS trigger AS $$
+BEGIN
+    -- When the delete cascades from schedule_event the event is already gone and its trigger covered the visit
+    INSERT INTO sync_tombstone (entity_type, entity_id, staff_id)
+    SELECT 'service_delivery', OLD.id, se.staff_id FROM schedule_event se
+    WHERE se.id = OLD.schedule_event_id AND se.staff_id IS NOT NULL;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_service_delivery_sync_tombstone
+    AFTER DELETE ON service_delivery
+    FOR EACH ROW EXECUTE FUNCTION sync_tombstone_service_delivery();
+
+CREATE OR REPLACE FUNCTION sync_tombstone_patient() RETURNS trigger AS $$
+BEGIN
+    -- Hard deletes only; soft deletes (deleted_at) reach the app through the patient delta itself
+    INSERT INTO sync_tombstone (entity_type, entity_id, staff_id)
+    SELECT DISTINCT 'patient', OLD.id, se.staff_id FROM schedule_event se
+    WHERE se.patient_id = OLD.id AND se.staff_id IS NOT NULL;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_patient_sync_tombstone
+    BEFORE DELETE ON patient
+    FOR EACH ROW EXECUTE FUNCTION sync_tombstone_patient();
+
+-- Push notification outbox: queued in the transaction of the change, sent by NotificationDispatcher.
+-- Existing databases:
+--   ALTER TABLE mobile_notification ADD COLUMN dedup_key text, ADD COLUMN attempts integer NOT NULL DEFAULT 0,
+--     ADD COLUMN next_attempt_at timestamptz NOT NULL DEFAULT now(), ADD COLUMN last_error text,
+--     ADD CONSTRAINT uk_mobile_notification_user_dedup UNIQUE (user_id, dedup_key);
+--   CREATE INDEX idx_mobile_notification_dispatch ON mobile_notification (status, next_attempt_at);
 CREATE TABLE mobile_notification (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
     user_id uuid NOT NULL REFERENCES app_user(id) ON DELETE CASCADE,
     notification_type text NOT NULL,
     payload jsonb NOT NULL DEFAULT '{}'::jsonb,
     channel text NOT NULL DEFAULT 'push',
-    status text NOT NULL DEFAULT 'queued',
+    status text NOT NULL DEFAULT 'queued',  -- queued, sending, sent, failed
+    dedup_key text,  -- set by producers that must queue a notice once per user
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamptz NOT NULL DEFAULT now(),  -- due time, or claim expiry while sending
+    last_error text,
     created_at timestamptz NOT NULL DEFAULT now(),
     updated_at timestamptz NOT NULL DEFAULT now(),
     sent_at timestamptz,
-    read_at timestamptz
+    read_at timestamptz,
+    CONSTRAINT uk_mobile_notification_user_dedup UNIQUE (user_id, dedup_key)
 );
 
 CREATE INDEX idx_mobile_notification_user ON mobile_notification (user_id, status);
+CREATE INDEX idx_mobile_notification_dispatch ON mobile_notification (status, next_attempt_at);
 
 CREATE TABLE vital_reading (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
@@ -966,6 +1168,31 @@ CREATE TABLE claim_line (
 
 CREATE INDEX idx_claim_line_claim ON claim_line (claim_id);
 CREATE INDEX idx_claim_line_service_date ON claim_line (service_date);
+CREATE INDEX idx_claim_line_service_delivery ON claim_line (service_delivery_id);
+
+-- Batch claim generation runs; last_patient_id/last_delivery_id is the keyset checkpoint of the last committed chunk
+CREATE TABLE claim_batch_run (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    payer_id uuid NOT NULL REFERENCES payer(id) ON DELETE CASCADE,
+    period_start date NOT NULL,
+    period_end date NOT NULL,
+    status text NOT NULL DEFAULT 'running',  -- 'running', 'completed', 'failed'
+    last_patient_id uuid,
+    last_delivery_id uuid,
+    chunks_committed integer NOT NULL DEFAULT 0,
+    deliveries_billed integer NOT NULL DEFAULT 0,
+    deliveries_skipped integer NOT NULL DEFAULT 0,
+    claims_created integer NOT NULL DEFAULT 0,
+    total_amount numeric(14,2) NOT NULL DEFAULT 0,
+    error_message text,
+    started_at timestamptz,
+    finished_at timestamptz,
+    created_at timestamptz NOT NULL DEFAULT now(),
+    updated_at timestamptz NOT NULL DEFAULT now(),
+    CHECK (period_end >= period_start)
+);
+
+CREATE INDEX idx_claim_batch_run_payer_status ON claim_batch_run (payer_id, status);
 
 CREATE TABLE program (
     id uuid PRIMARY KEY DEFAULT gen_random_uuid(),